@@ -0,0 +1,113 @@
+package jarvis.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jarvis.model.GradeProfile;
+import jarvis.model.Lesson;
+import jarvis.model.LessonDesc;
+import jarvis.model.MatricNum;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.Student;
+import jarvis.model.StudentName;
+import jarvis.model.Studio;
+import jarvis.model.Task;
+import jarvis.model.TaskDeadline;
+import jarvis.model.TaskDesc;
+import jarvis.model.TimePeriod;
+import jarvis.model.UniqueStudentList;
+import javafx.collections.ObservableList;
+
+/**
+ * Generates the students, lessons and tasks used by the benchmarks.
+ * The n-th element generated is always the same, so results of different runs can be compared.
+ */
+public class BenchmarkData {
+
+    public static final LocalDateTime FIRST_LESSON_START = LocalDateTime.of(2022, 8, 8, 9, 0);
+    public static final LocalDate FIRST_TASK_DEADLINE = LocalDate.of(2022, 8, 8);
+
+    /**
+     * Returns the {@code i}-th student, whose names sort in a different order from their matric numbers.
+     */
+    public static Student student(int i) {
+        String name = "Student " + Integer.toString(Integer.reverse(i) >>> 1, Character.MAX_RADIX);
+        String matricNum = String.format("A%07dX", i);
+        return new Student(new StudentName(name), new MatricNum(matricNum), new GradeProfile());
+    }
+
+    /**
+     * Returns the first {@code count} students.
+     */
+    public static List<Student> students(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(student(i));
+        }
+        return students;
+    }
+
+    /**
+     * Returns the {@code i}-th studio, an hour long and with {@code students} in it.
+     * Studios with different {@code i} never clash.
+     */
+    public static Lesson studio(int i, List<Student> students) {
+        LocalDateTime start = FIRST_LESSON_START.plusHours(2L * i);
+        return new Studio(new LessonDesc("Studio " + i), new TimePeriod(start, start.plusHours(1)), students);
+    }
+
+    /**
+     * Returns the first {@code count} studios. The {@code i}-th studio has {@code studentsPerLesson} of
+     * {@code students} in it, starting from a different student for each studio.
+     */
+    public static List<Lesson> studios(int count, List<Student> students, int studentsPerLesson) {
+        List<Lesson> lessons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<Student> lessonStudents = new ArrayList<>(studentsPerLesson);
+            for (int j = 0; j < studentsPerLesson && j < students.size(); j++) {
+                lessonStudents.add(students.get((i + j) % students.size()));
+            }
+            lessons.add(studio(i, lessonStudents));
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns the {@code i}-th task.
+     */
+    public static Task task(int i) {
+        return new Task(new TaskDesc("Mark mission " + i), new TaskDeadline(FIRST_TASK_DEADLINE.plusDays(i % 100)));
+    }
+
+    /**
+     * Returns the first {@code count} tasks.
+     */
+    public static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(i));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns a student book with any number of students, as {@code StudentBook} limits the number of students.
+     */
+    public static ReadOnlyStudentBook studentBook(List<Student> students) {
+        UniqueStudentList studentList = new UniqueStudentList();
+        studentList.setStudents(students);
+        return new ReadOnlyStudentBook() {
+            @Override
+            public ObservableList<Student> getStudentList() {
+                return studentList.asUnmodifiableObservableList();
+            }
+
+            @Override
+            public long getModificationCount() {
+                return 0;
+            }
+        };
+    }
+}
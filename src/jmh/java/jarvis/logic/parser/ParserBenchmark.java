@@ -0,0 +1,66 @@
+package jarvis.logic.parser;
+
+import static jarvis.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static jarvis.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static jarvis.logic.parser.CliSyntax.PREFIX_LESSON;
+import static jarvis.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static jarvis.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static jarvis.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jarvis.logic.commands.Command;
+import jarvis.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing user input into commands.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String ADD_CONSULT_ARGS = " l/Consultation on recursion sd/2022-10-14 st/12:00 "
+            + "ed/2022-10-14 et/14:00 si/1 si/2 si/3 si/4 si/5 si/6 si/7 si/8";
+    private static final PrefixMatcher ADD_CONSULT_PREFIX_MATCHER = new PrefixMatcher(PREFIX_LESSON,
+            PREFIX_START_DATE, PREFIX_START_TIME, PREFIX_END_DATE, PREFIX_END_TIME, PREFIX_STUDENT_INDEX);
+
+    /**
+     * User input ranging from a command without arguments to one with many arguments.
+     */
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({
+            "liststudent",
+            "addstudent s/John Doe m/A0123459G",
+            "grade 1 ra1/17 ra2/16 mt/55 pa/38 fn/90",
+            "addconsult" + ADD_CONSULT_ARGS
+        })
+        public String userInput;
+
+        private final JarvisParser parser = new JarvisParser();
+    }
+
+    @Benchmark
+    public Command parseCommand(Input input) throws ParseException {
+        return input.parser.parseCommand(input.userInput);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(ADD_CONSULT_ARGS, ADD_CONSULT_PREFIX_MATCHER);
+    }
+}
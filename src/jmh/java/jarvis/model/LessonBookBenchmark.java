@@ -0,0 +1,75 @@
+package jarvis.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jarvis.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks updating a student in every lesson of a {@code LessonBook}, which is done whenever a student is
+ * edited or graded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LessonBookBenchmark {
+
+    private static final int STUDENT_COUNT = 100;
+    private static final int STUDENTS_PER_LESSON = 10;
+
+    @Param({"100", "1000", "10000"})
+    public int lessonCount;
+
+    private final LessonBook lessonBook = new LessonBook();
+    private List<Student> students;
+    private int nextIndex;
+
+    @Setup
+    public void setUp() {
+        students = BenchmarkData.students(STUDENT_COUNT);
+        lessonBook.setLessons(BenchmarkData.studios(lessonCount, students, STUDENTS_PER_LESSON));
+    }
+
+    private Student nextStudent() {
+        nextIndex = (nextIndex + 1) % STUDENT_COUNT;
+        return students.get(nextIndex);
+    }
+
+    /**
+     * Replaces a student with an unchanged copy, as grading does.
+     */
+    @Benchmark
+    public void setStudentUnchanged() {
+        Student student = nextStudent();
+        Student gradedStudent = student.copy();
+        lessonBook.setStudent(student, gradedStudent);
+        students.set(nextIndex, gradedStudent);
+    }
+
+    /**
+     * Replaces a student with a renamed copy, as editing does, and changes it back.
+     */
+    @Benchmark
+    public void setStudentRenamed() {
+        Student student = nextStudent();
+        Student renamedStudent = new Student(new StudentName("Zz Renamed"), student.getMatricNum(),
+                student.getGradeProfile());
+        lessonBook.setStudent(student, renamedStudent);
+        lessonBook.setStudent(renamedStudent, student);
+    }
+}
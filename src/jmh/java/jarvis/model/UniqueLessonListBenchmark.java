@@ -0,0 +1,90 @@
+package jarvis.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jarvis.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks adding, replacing and finding lessons in a {@code UniqueLessonList} of different sizes.
+ * Each benchmark leaves the list as it found it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniqueLessonListBenchmark {
+
+    private static final int STUDENTS_PER_LESSON = 10;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private final UniqueLessonList lessons = new UniqueLessonList();
+    private List<Lesson> lessonsInList;
+    private Lesson lessonNotInList;
+    private int nextIndex;
+
+    @Setup
+    public void setUp() {
+        List<Student> students = BenchmarkData.students(STUDENTS_PER_LESSON);
+        lessonsInList = BenchmarkData.studios(size, students, STUDENTS_PER_LESSON);
+        lessons.setLessons(lessonsInList);
+
+        // fits in the free hour after the lesson in the middle of the list
+        LocalDateTime start = lessonsInList.get(size / 2).endDateTime();
+        lessonNotInList = new Consult(new LessonDesc("Consult"), new TimePeriod(start, start.plusMinutes(30)),
+                students);
+    }
+
+    private Lesson nextLesson() {
+        nextIndex = (nextIndex + 1) % size;
+        return lessonsInList.get(nextIndex);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return lessons.contains(nextLesson());
+    }
+
+    @Benchmark
+    public boolean hasPeriodClash() {
+        return lessons.hasPeriodClash(lessonNotInList);
+    }
+
+    /**
+     * Adds a lesson to the middle of the list and removes it again.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        lessons.add(lessonNotInList);
+        lessons.remove(lessonNotInList);
+    }
+
+    /**
+     * Marks a lesson as completed, which moves it to the end of the list, and marks it as not completed again.
+     */
+    @Benchmark
+    public void setLessonCompleted() {
+        Lesson lesson = nextLesson();
+        lesson.markAsCompleted();
+        lessons.setLesson(lesson, lesson);
+        lesson.markAsNotCompleted();
+        lessons.setLesson(lesson, lesson);
+    }
+}
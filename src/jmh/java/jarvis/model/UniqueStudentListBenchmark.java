@@ -0,0 +1,88 @@
+package jarvis.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jarvis.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks adding, replacing and finding students in a {@code UniqueStudentList} of different sizes.
+ * Each benchmark leaves the list as it found it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniqueStudentListBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private final UniqueStudentList students = new UniqueStudentList();
+    private List<Student> studentsInList;
+    private Student studentNotInList;
+    private int nextIndex;
+
+    @Setup
+    public void setUp() {
+        studentsInList = BenchmarkData.students(size);
+        students.setStudents(studentsInList);
+        studentNotInList = BenchmarkData.student(size);
+    }
+
+    private Student nextStudent() {
+        nextIndex = (nextIndex + 1) % size;
+        return studentsInList.get(nextIndex);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return students.contains(nextStudent());
+    }
+
+    /**
+     * Adds a student to the list and removes it again.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        students.add(studentNotInList);
+        students.remove(studentNotInList);
+    }
+
+    /**
+     * Replaces a student with an unchanged copy, as grading does.
+     */
+    @Benchmark
+    public void setStudentUnchanged() {
+        Student student = nextStudent();
+        Student gradedStudent = student.copy();
+        students.setStudent(student, gradedStudent);
+        studentsInList.set(nextIndex, gradedStudent);
+    }
+
+    /**
+     * Replaces a student with a renamed copy that sorts last, as editing does, and changes it back.
+     */
+    @Benchmark
+    public void setStudentRenamed() {
+        Student student = nextStudent();
+        Student renamedStudent = new Student(new StudentName("Zz Renamed"), student.getMatricNum(),
+                student.getGradeProfile());
+        students.setStudent(student, renamedStudent);
+        students.setStudent(renamedStudent, student);
+    }
+}
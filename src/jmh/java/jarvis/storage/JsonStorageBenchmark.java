@@ -0,0 +1,115 @@
+package jarvis.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jarvis.benchmark.BenchmarkData;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.JsonUtil;
+import jarvis.model.LessonBook;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.Student;
+import jarvis.model.TaskBook;
+
+/**
+ * Benchmarks saving and loading large student, task and lesson books as JSON files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonStorageBenchmark {
+
+    private static final int STUDENTS_PER_LESSON = 30;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private Path folder;
+    private Path studentBookFile;
+    private Path taskBookFile;
+    private Path lessonBookFile;
+
+    private ReadOnlyStudentBook studentBook;
+    private TaskBook taskBook;
+    private LessonBook lessonBook;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("jarvis-benchmark");
+        studentBookFile = folder.resolve("studentbook.json");
+        taskBookFile = folder.resolve("taskbook.json");
+        lessonBookFile = folder.resolve("lessonbook.json");
+
+        List<Student> students = BenchmarkData.students(size);
+        studentBook = BenchmarkData.studentBook(students);
+        taskBook = new TaskBook();
+        taskBook.setTasks(BenchmarkData.tasks(size));
+        lessonBook = new LessonBook();
+        lessonBook.setLessons(BenchmarkData.studios(size, students, STUDENTS_PER_LESSON));
+
+        saveStudentBook();
+        saveTaskBook();
+        saveLessonBook();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (Path file : List.of(studentBookFile, taskBookFile, lessonBookFile)) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public void saveStudentBook() throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableStudentBook(studentBook), studentBookFile);
+    }
+
+    @Benchmark
+    public void saveTaskBook() throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableTaskBook(taskBook), taskBookFile);
+    }
+
+    @Benchmark
+    public void saveLessonBook() throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableLessonBook(lessonBook), lessonBookFile);
+    }
+
+    /**
+     * Only reads the file, as {@code StudentBook} does not allow as many students as the file has.
+     */
+    @Benchmark
+    public JsonSerializableStudentBook loadStudentBook() throws DataConversionException {
+        return JsonUtil.readJsonFile(studentBookFile, JsonSerializableStudentBook.class).get();
+    }
+
+    @Benchmark
+    public TaskBook loadTaskBook() throws Exception {
+        return JsonUtil.readJsonFile(taskBookFile, JsonSerializableTaskBook.class).get().toModelType();
+    }
+
+    @Benchmark
+    public LessonBook loadLessonBook() throws Exception {
+        return JsonUtil.readJsonFile(lessonBookFile, JsonSerializableLessonBook.class).get()
+                .toModelType(studentBook);
+    }
+}
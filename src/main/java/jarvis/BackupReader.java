@@ -0,0 +1,65 @@
+package jarvis;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.FileUtil;
+
+/**
+ * Reads books from data files, recovering them from the backups of the files if needed.
+ */
+class BackupReader {
+
+    private static final Logger logger = LogsCenter.getLogger(BackupReader.class);
+
+    /**
+     * Reads the book at {@code filePath} with {@code reader}, falling back to the backups of the file from the newest
+     * to the oldest if the file is missing or cannot be read. <br>
+     * The error from reading {@code filePath} is thrown if none of its backups can be read either.
+     */
+    static <T> Optional<T> readWithBackups(BookReader<T> reader, Path filePath)
+            throws DataConversionException, IOException {
+        Optional<T> bookOptional = Optional.empty();
+        Exception readException = null;
+        try {
+            bookOptional = reader.read(filePath);
+        } catch (DataConversionException | IOException e) {
+            readException = e;
+        }
+        if (bookOptional.isPresent()) {
+            return bookOptional;
+        }
+
+        for (Path backupFilePath : FileUtil.getBackupFiles(filePath)) {
+            try {
+                Optional<T> backupOptional = reader.read(backupFilePath);
+                if (backupOptional.isPresent()) {
+                    logger.warning("Data file " + filePath + " could not be read. Recovered data from backup "
+                            + backupFilePath);
+                    return backupOptional;
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Backup file " + backupFilePath + " could not be read: " + e);
+            }
+        }
+
+        if (readException instanceof DataConversionException) {
+            throw (DataConversionException) readException;
+        } else if (readException instanceof IOException) {
+            throw (IOException) readException;
+        }
+        return bookOptional;
+    }
+
+    /**
+     * Reads a book from a given file path.
+     */
+    @FunctionalInterface
+    interface BookReader<T> {
+        Optional<T> read(Path filePath) throws DataConversionException, IOException;
+    }
+}
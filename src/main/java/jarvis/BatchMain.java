@@ -0,0 +1,176 @@
+package jarvis;
+
+import static jarvis.BackupReader.readWithBackups;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+import jarvis.commons.core.Config;
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.ConfigUtil;
+import jarvis.logic.BatchRunner;
+import jarvis.logic.LogicManager;
+import jarvis.logic.commands.exceptions.CommandException;
+import jarvis.model.LessonBook;
+import jarvis.model.ModelManager;
+import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.ReadOnlyTaskBook;
+import jarvis.model.StudentBook;
+import jarvis.model.TaskBook;
+import jarvis.model.UserPrefs;
+import jarvis.storage.JournaledStorage;
+import jarvis.storage.JsonLessonBookStorage;
+import jarvis.storage.JsonStudentBookStorage;
+import jarvis.storage.JsonTaskBookStorage;
+import jarvis.storage.JsonUserPrefsStorage;
+import jarvis.storage.Storage;
+import jarvis.storage.StorageManager;
+import jarvis.storage.UserPrefsStorage;
+
+/**
+ * A command-line entry point that executes a script of commands on the data of the application without starting
+ * the GUI, e.g. to update rosters and grades from a scheduled job.
+ * The data is read and saved with the same config and user prefs files as the GUI, but unlike the GUI, nothing is
+ * saved if the data files cannot be read. See {@link #USAGE} for the options and {@link BatchRunner} for the
+ * format of the script.
+ */
+public class BatchMain {
+
+    public static final String USAGE = "Usage: [OPTION]... [SCRIPT_FILE]\n"
+            + "Executes the commands in SCRIPT_FILE, or in the standard input if there is no SCRIPT_FILE or it is -.\n"
+            + "Options:\n"
+            + "  --config=FILE      config file to use (default: config.json)\n"
+            + "  --save-every=N     save the data after every N commands as well as after the last command\n"
+            + "  --stop-on-error    stop at the first invalid command";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_DATA_ERROR = 2;
+    public static final int EXIT_USAGE_ERROR = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Executes the script described by {@code args} and returns the exit status, which is
+     * {@link #EXIT_SUCCESS} if every command was valid, {@link #EXIT_COMMAND_FAILED} if some commands were invalid,
+     * {@link #EXIT_DATA_ERROR} if the data or the script could not be read or the data could not be saved, and
+     * {@link #EXIT_USAGE_ERROR} if {@code args} are invalid.
+     */
+    public static int run(String... args) {
+        Path configFilePath = Config.DEFAULT_CONFIG_FILE;
+        int saveInterval = 0;
+        boolean isStoppingOnError = false;
+        Path scriptFilePath = null;
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--config=")) {
+                    configFilePath = Paths.get(arg.substring("--config=".length()));
+                } else if (arg.startsWith("--save-every=")) {
+                    saveInterval = Integer.parseInt(arg.substring("--save-every=".length()));
+                    if (saveInterval <= 0) {
+                        throw new IllegalArgumentException("Invalid option: " + arg);
+                    }
+                } else if (arg.equals("--stop-on-error")) {
+                    isStoppingOnError = true;
+                } else if (arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+                } else {
+                    scriptFilePath = arg.equals("-") ? null : Paths.get(arg);
+                }
+            }
+        } catch (IllegalArgumentException iae) {
+            // also catches invalid numbers and paths
+            System.err.println(iae.getMessage());
+            System.err.println(USAGE);
+            return EXIT_USAGE_ERROR;
+        }
+
+        Storage storage;
+        ModelManager model;
+        try {
+            Config config = ConfigUtil.readConfig(configFilePath).orElse(new Config());
+            LogsCenter.init(config);
+            UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+            UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElse(new UserPrefs());
+            storage = new JournaledStorage(new StorageManager(
+                    new JsonStudentBookStorage(userPrefs.getStudentBookFilePath()),
+                    new JsonTaskBookStorage(userPrefs.getTaskBookFilePath()),
+                    new JsonLessonBookStorage(userPrefs.getLessonBookFilePath()), userPrefsStorage));
+            model = initModelManager(storage, userPrefs);
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not read data, so no commands were executed: " + e);
+            return EXIT_DATA_ERROR;
+        }
+
+        List<IOException> saveErrors = new CopyOnWriteArrayList<>();
+        storage.setAsyncErrorHandler(saveErrors::add);
+        BatchRunner batchRunner = new BatchRunner(model, storage, saveInterval, isStoppingOnError,
+                System.out, System.err);
+        int failedCount;
+        try (BufferedReader script = openScript(scriptFilePath)) {
+            failedCount = batchRunner.run(script);
+        } catch (IOException ioe) {
+            System.err.println("Could not read script: " + ioe);
+            return EXIT_DATA_ERROR;
+        } catch (CommandException ce) {
+            System.err.println(ce.getMessage());
+            return EXIT_DATA_ERROR;
+        }
+
+        // leaves complete data files behind for other programs that read them
+        try {
+            storage.compact();
+        } catch (IOException ioe) {
+            saveErrors.add(ioe);
+        }
+        if (!saveErrors.isEmpty()) {
+            System.err.println(LogicManager.FILE_OPS_ERROR_MESSAGE + saveErrors.get(0));
+            return EXIT_DATA_ERROR;
+        }
+        return failedCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s student, task and lesson books, or empty
+     * books if their files are not found. <br>
+     * A book that is missing or cannot be read is recovered from the newest readable backup of its file, if any.
+     *
+     * @throws DataConversionException if a book and its backups cannot be read.
+     */
+    private static ModelManager initModelManager(Storage storage, UserPrefs userPrefs)
+            throws DataConversionException, IOException {
+        ReadOnlyStudentBook studentBook = readWithBackups(storage::readStudentBook,
+                storage.getStudentBookFilePath()).orElseGet(StudentBook::new);
+        ReadOnlyTaskBook taskBook = readWithBackups(storage::readTaskBook, storage.getTaskBookFilePath())
+                .orElseGet(TaskBook::new);
+        ReadOnlyLessonBook lessonBook = readWithBackups(filePath -> storage.readLessonBook(filePath, studentBook),
+                storage.getLessonBookFilePath()).orElseGet(LessonBook::new);
+        logger.info("Loaded data for batch mode: " + studentBook + ", " + taskBook.getTaskList().size()
+                + " tasks, " + lessonBook.getLessonList().size() + " lessons");
+        return new ModelManager(studentBook, taskBook, lessonBook, userPrefs);
+    }
+
+    /**
+     * Opens the script at {@code scriptFilePath}, or the standard input if it is null.
+     */
+    private static BufferedReader openScript(Path scriptFilePath) throws IOException {
+        if (scriptFilePath == null) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(scriptFilePath, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,168 @@
+package jarvis;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import jarvis.model.LessonBook;
+import jarvis.model.StudentBook;
+import jarvis.model.UserPrefs;
+import jarvis.model.util.SampleDataGenerator;
+import jarvis.storage.JournaledStorage;
+import jarvis.storage.JsonLessonBookStorage;
+import jarvis.storage.JsonStudentBookStorage;
+import jarvis.storage.JsonTaskBookStorage;
+
+/**
+ * A command-line entry point that writes student, task and lesson books generated by {@link SampleDataGenerator}
+ * to a folder, without starting the GUI.
+ * Every option is optional and takes the form {@code --name=value}, except {@code --force}, which takes no value.
+ * See {@link #USAGE} for the options. Data files already in the output folder, such as those of the app in the
+ * default {@code data} folder, are only replaced if {@code --force} is given.
+ */
+public class DataGeneratorMain {
+
+    public static final String USAGE = "Options:\n"
+            + "  --seed=SEED                    seed of the generated data (default: 0)\n"
+            + "  --students=COUNT               number of students (default: 5000)\n"
+            + "  --tasks=COUNT                  number of tasks (default: 500)\n"
+            + "  --studios=COUNT                number of studios (default: 2000)\n"
+            + "  --consults=COUNT               number of consults (default: 300)\n"
+            + "  --mastery-checks=COUNT         number of mastery checks (default: 200)\n"
+            + "  --students-per-studio=MIN-MAX  range of the number of students in each studio (default: 8-12)\n"
+            + "  --output=FOLDER                folder to write the data files to (default: data)\n"
+            + "  --force                        replace the data files already in the output folder";
+
+    private static final Path DEFAULT_OUTPUT_FOLDER = Paths.get("data");
+
+    /**
+     * Generates the data described by {@code args} and writes it, exiting with a non-zero status if the
+     * arguments are invalid or the data files cannot be written.
+     */
+    public static void main(String[] args) {
+        try {
+            Path outputFolder = generate(args);
+            System.out.println("Generated data files in " + outputFolder.toAbsolutePath());
+        } catch (IllegalArgumentException iae) {
+            System.err.println(iae.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException ioe) {
+            System.err.println("Could not write data files: " + ioe);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates the data described by {@code args} and writes it to the output folder, using the file names of
+     * the default data files. Returns the output folder.
+     *
+     * @throws IllegalArgumentException if any argument is invalid, or if the output folder already has data files
+     *     and {@code --force} is not given.
+     * @throws IOException if the data files cannot be written.
+     */
+    public static Path generate(String... args) throws IOException {
+        long seed = 0;
+        Path outputFolder = DEFAULT_OUTPUT_FOLDER;
+        int studios = SampleDataGenerator.DEFAULT_STUDIO_COUNT;
+        int consults = SampleDataGenerator.DEFAULT_CONSULT_COUNT;
+        int masteryChecks = SampleDataGenerator.DEFAULT_MASTERY_CHECK_COUNT;
+        int minStudentsPerStudio = SampleDataGenerator.DEFAULT_MIN_STUDENTS_PER_STUDIO;
+        int maxStudentsPerStudio = SampleDataGenerator.DEFAULT_MAX_STUDENTS_PER_STUDIO;
+        int students = SampleDataGenerator.DEFAULT_STUDENT_COUNT;
+        int tasks = SampleDataGenerator.DEFAULT_TASK_COUNT;
+        boolean isForced = false;
+
+        for (String arg : args) {
+            if (arg.equals("--force")) {
+                isForced = true;
+                continue;
+            }
+            String[] option = arg.split("=", 2);
+            if (option.length != 2 || !option[0].startsWith("--")) {
+                throw new IllegalArgumentException("Invalid option: " + arg);
+            }
+            String value = option[1];
+            switch (option[0].substring(2)) {
+            case "seed":
+                seed = parseNumber(arg, value);
+                break;
+            case "students":
+                students = parseCount(arg, value);
+                break;
+            case "tasks":
+                tasks = parseCount(arg, value);
+                break;
+            case "studios":
+                studios = parseCount(arg, value);
+                break;
+            case "consults":
+                consults = parseCount(arg, value);
+                break;
+            case "mastery-checks":
+                masteryChecks = parseCount(arg, value);
+                break;
+            case "students-per-studio":
+                String[] range = value.split("-", 2);
+                if (range.length != 2) {
+                    throw new IllegalArgumentException("Invalid option: " + arg);
+                }
+                minStudentsPerStudio = parseCount(arg, range[0]);
+                maxStudentsPerStudio = parseCount(arg, range[1]);
+                break;
+            case "output":
+                outputFolder = Paths.get(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        UserPrefs defaultPrefs = new UserPrefs();
+        Path studentBookFilePath = outputFolder.resolve(defaultPrefs.getStudentBookFilePath().getFileName());
+        Path taskBookFilePath = outputFolder.resolve(defaultPrefs.getTaskBookFilePath().getFileName());
+        Path lessonBookFilePath = outputFolder.resolve(defaultPrefs.getLessonBookFilePath().getFileName());
+        Path journalFilePath = outputFolder.resolve(JournaledStorage.JOURNAL_FILE_NAME);
+        if (!isForced) {
+            for (Path dataFilePath : new Path[] {studentBookFilePath, taskBookFilePath, lessonBookFilePath,
+                    journalFilePath}) {
+                if (Files.exists(dataFilePath)) {
+                    throw new IllegalArgumentException("Data file already exists: " + dataFilePath
+                            + "\nUse --force to replace the data files in " + outputFolder);
+                }
+            }
+        }
+
+        SampleDataGenerator generator = new SampleDataGenerator(seed)
+                .withStudents(students)
+                .withTasks(tasks)
+                .withLessons(studios, consults, masteryChecks)
+                .withStudentsPerStudio(minStudentsPerStudio, maxStudentsPerStudio);
+        StudentBook studentBook = generator.generateStudentBook();
+        LessonBook lessonBook = generator.generateLessonBook(studentBook);
+
+        new JsonStudentBookStorage(studentBookFilePath).saveStudentBook(studentBook);
+        new JsonTaskBookStorage(taskBookFilePath).saveTaskBook(generator.generateTaskBook());
+        new JsonLessonBookStorage(lessonBookFilePath).saveLessonBook(lessonBook);
+        // a journal left by the replaced books does not apply to the new ones
+        Files.deleteIfExists(journalFilePath);
+        return outputFolder;
+    }
+
+    private static long parseNumber(String arg, String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException nfe) {
+            throw new IllegalArgumentException("Invalid number in option: " + arg);
+        }
+    }
+
+    private static int parseCount(String arg, String value) {
+        long count = parseNumber(arg, value);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid number in option: " + arg);
+        }
+        return (int) count;
+    }
+}
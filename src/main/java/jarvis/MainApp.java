@@ -1,5 +1,7 @@
 package jarvis;
 
+import static jarvis.BackupReader.readWithBackups;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -10,6 +12,7 @@ import jarvis.commons.core.LogsCenter;
 import jarvis.commons.core.Version;
 import jarvis.commons.exceptions.DataConversionException;
 import jarvis.commons.util.ConfigUtil;
+import jarvis.commons.util.JsonUtil;
 import jarvis.commons.util.StringUtil;
 import jarvis.logic.Logic;
 import jarvis.logic.LogicManager;
@@ -26,6 +29,7 @@ import jarvis.model.UserPrefs;
 import jarvis.model.util.SampleLessonUtil;
 import jarvis.model.util.SampleStudentUtil;
 import jarvis.model.util.SampleTaskUtil;
+import jarvis.storage.JournaledStorage;
 import jarvis.storage.JsonLessonBookStorage;
 import jarvis.storage.JsonStudentBookStorage;
 import jarvis.storage.JsonTaskBookStorage;
@@ -63,13 +67,15 @@ public class MainApp extends Application {
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        JsonUtil.setPrettyPrinting(config.isPrettyPrintingJson());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         StudentBookStorage studentBookStorage = new JsonStudentBookStorage(userPrefs.getStudentBookFilePath());
         TaskBookStorage taskBookStorage = new JsonTaskBookStorage(userPrefs.getTaskBookFilePath());
         LessonBookStorage lessonBookStorage = new JsonLessonBookStorage(userPrefs.getLessonBookFilePath());
-        storage = new StorageManager(studentBookStorage, taskBookStorage, lessonBookStorage, userPrefsStorage);
+        storage = new JournaledStorage(
+                new StorageManager(studentBookStorage, taskBookStorage, lessonBookStorage, userPrefsStorage));
 
         initLogging(config);
 
@@ -84,7 +90,8 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s student, task and lesson books and
      * {@code userPrefs}. <br> The data from the sample student, task or lesson book will be used instead if
      * {@code storage}'s student, task or lesson book is not found, or an empty student, task or lesson book will
-     * be used instead if errors occur when reading {@code storage}'s student, task or lesson book.
+     * be used instead if errors occur when reading {@code storage}'s student, task or lesson book. <br>
+     * A book that is missing or cannot be read is recovered from the newest readable backup of its file, if any.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyStudentBook> studentBookOptional;
@@ -94,19 +101,21 @@ public class MainApp extends Application {
         ReadOnlyTaskBook initialTaskData = new TaskBook();
         ReadOnlyLessonBook initialLessonData = new LessonBook();
         try {
-            studentBookOptional = storage.readStudentBook();
+            studentBookOptional = readWithBackups(storage::readStudentBook, storage.getStudentBookFilePath());
             if (!studentBookOptional.isPresent()) {
                 logger.info("Student data file not found. Will be starting with a sample student book");
             }
             initialStudentData = studentBookOptional.orElseGet(SampleStudentUtil::getSampleStudentBook);
 
-            taskBookOptional = storage.readTaskBook();
+            taskBookOptional = readWithBackups(storage::readTaskBook, storage.getTaskBookFilePath());
             if (!taskBookOptional.isPresent()) {
                 logger.info("Task data file not found. Will be starting with a sample task book");
             }
             initialTaskData = taskBookOptional.orElseGet(SampleTaskUtil::getSampleTaskBook);
 
-            lessonBookOptional = storage.readLessonBook();
+            ReadOnlyStudentBook studentBook = initialStudentData;
+            lessonBookOptional = readWithBackups(filePath -> storage.readLessonBook(filePath, studentBook),
+                    storage.getLessonBookFilePath());
             if (!lessonBookOptional.isPresent()) {
                 logger.info("Lesson data file not found. Will be starting with a sample lesson book");
             }
@@ -200,6 +209,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping JARVIS ] =============================");
+        try {
+            storage.compact();
+        } catch (IOException e) {
+            logger.severe("Failed to compact data files " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -15,6 +15,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isPrettyPrintingJson = true;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +33,18 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if data files should be written in the indented, human-readable JSON format.
+     * The compact format is smaller and faster to write for large books.
+     */
+    public boolean isPrettyPrintingJson() {
+        return isPrettyPrintingJson;
+    }
+
+    public void setPrettyPrintingJson(boolean isPrettyPrintingJson) {
+        this.isPrettyPrintingJson = isPrettyPrintingJson;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +57,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && isPrettyPrintingJson == o.isPrettyPrintingJson;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isPrettyPrintingJson);
     }
 
     @Override
@@ -57,6 +71,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nPretty-printing JSON : " + isPrettyPrintingJson);
         return sb.toString();
     }
 
@@ -0,0 +1,154 @@
+package jarvis.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a set of indexes in a displayed list, made up of single indexes and ranges of indexes, or of every
+ * index in the list.
+ * The ranges are only expanded into indexes once the size of the list is known, so a large range takes no more
+ * space than a single index. Overlapping and adjacent ranges are merged, so sets of the same indexes are equal.
+ */
+public class IndexSet {
+
+    private static final IndexSet ALL = new IndexSet(null);
+
+    // the zero-based first index of each range, mapped to the zero-based last index of the range, or null for all
+    private final NavigableMap<Integer, Integer> ranges;
+
+    private IndexSet(NavigableMap<Integer, Integer> ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Returns the set of every index in the list.
+     */
+    public static IndexSet all() {
+        return ALL;
+    }
+
+    /**
+     * Returns the set of the single index {@code index}.
+     */
+    public static IndexSet of(Index index) {
+        return range(index, index);
+    }
+
+    /**
+     * Returns the set of the indexes from {@code first} to {@code last}, inclusive.
+     * {@code first} must not be after {@code last}.
+     */
+    public static IndexSet range(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        assert first.getZeroBased() <= last.getZeroBased();
+        NavigableMap<Integer, Integer> ranges = new TreeMap<>();
+        ranges.put(first.getZeroBased(), last.getZeroBased());
+        return new IndexSet(ranges);
+    }
+
+    /**
+     * Returns the set of the indexes that are in this set or in {@code other}.
+     */
+    public IndexSet union(IndexSet other) {
+        requireNonNull(other);
+        if (isAll() || other.isAll()) {
+            return ALL;
+        }
+
+        NavigableMap<Integer, Integer> mergedRanges = new TreeMap<>(ranges);
+        for (Map.Entry<Integer, Integer> range : other.ranges.entrySet()) {
+            int first = range.getKey();
+            int last = range.getValue();
+            // absorb the ranges that overlap or are adjacent to this one
+            Map.Entry<Integer, Integer> previous = mergedRanges.floorEntry(first);
+            if (previous != null && previous.getValue() >= first - 1) {
+                first = previous.getKey();
+                last = Math.max(last, previous.getValue());
+            }
+            Map.Entry<Integer, Integer> next = mergedRanges.higherEntry(first);
+            while (next != null && next.getKey() <= last + 1) {
+                last = Math.max(last, next.getValue());
+                mergedRanges.remove(next.getKey());
+                next = mergedRanges.higherEntry(first);
+            }
+            mergedRanges.put(first, last);
+        }
+        return new IndexSet(mergedRanges);
+    }
+
+    public boolean isAll() {
+        return ranges == null;
+    }
+
+    /**
+     * Returns true if this set selects at least one index and every index in it is in a list of size
+     * {@code listSize}.
+     */
+    public boolean isValidFor(int listSize) {
+        return isAll() ? listSize > 0 : ranges.lastEntry().getValue() < listSize;
+    }
+
+    /**
+     * Returns the indexes in this set, in ascending order, for a list of size {@code listSize}.
+     * This set must be valid for the list.
+     */
+    public List<Index> getIndexes(int listSize) {
+        assert isValidFor(listSize);
+        List<Index> indexes = new ArrayList<>();
+        if (isAll()) {
+            for (int i = 0; i < listSize; i++) {
+                indexes.add(Index.fromZeroBased(i));
+            }
+            return indexes;
+        }
+
+        for (Map.Entry<Integer, Integer> range : ranges.entrySet()) {
+            for (int i = range.getKey(); i <= range.getValue(); i++) {
+                indexes.add(Index.fromZeroBased(i));
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the elements of {@code list} at the indexes in this set, in ascending order of their indexes.
+     * This set must be valid for the list.
+     */
+    public <T> List<T> select(List<T> list) {
+        requireNonNull(list);
+        return getIndexes(list.size()).stream()
+                .map(index -> list.get(index.getZeroBased()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexSet // instanceof handles nulls
+                && !isAll() && ranges.equals(((IndexSet) other).ranges)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return isAll() ? 0 : ranges.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        if (isAll()) {
+            return "all";
+        }
+        return ranges.entrySet().stream()
+                .map(range -> range.getKey().equals(range.getValue())
+                        ? String.valueOf(range.getKey() + 1)
+                        : (range.getKey() + 1) + "-" + (range.getValue() + 1))
+                .collect(Collectors.joining(","));
+    }
+}
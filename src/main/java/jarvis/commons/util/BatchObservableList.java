@@ -0,0 +1,112 @@
+package jarvis.commons.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list that can report a batch of changes to its listeners as a single change.
+ * Between {@link #beginBatch()} and {@link #endBatch()}, the list itself is modified as usual, but its listeners are
+ * only notified when the batch ends, with one change that sums up every modification made in the batch.
+ * The elements added and removed in the batch in progress are kept track of, so that the batch can be undone before
+ * it is reported.
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+    private boolean isInBatch = false;
+    // The elements added and removed since the batch began, compared by identity
+    private Set<E> addedInBatch = newIdentitySet();
+    private Set<E> removedInBatch = newIdentitySet();
+
+    /**
+     * Starts a batch of changes. There must not already be a batch in progress.
+     */
+    public void beginBatch() {
+        assert !isInBatch;
+        isInBatch = true;
+        addedInBatch = newIdentitySet();
+        removedInBatch = newIdentitySet();
+        beginChange();
+    }
+
+    /**
+     * Ends the batch in progress, and notifies the listeners of the changes made in it.
+     */
+    public void endBatch() {
+        assert isInBatch;
+        isInBatch = false;
+        endChange();
+    }
+
+    public boolean isInBatch() {
+        return isInBatch;
+    }
+
+    /**
+     * Returns the elements added in the batch in progress that are still in the list.
+     */
+    public List<E> getAddedInBatch() {
+        assert isInBatch;
+        return List.copyOf(addedInBatch);
+    }
+
+    /**
+     * Returns the elements that were in the list when the batch in progress began and have since been removed.
+     */
+    public List<E> getRemovedInBatch() {
+        assert isInBatch;
+        return List.copyOf(removedInBatch);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+        recordAdded(element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E oldElement = elements.set(index, element);
+        recordRemoved(oldElement);
+        recordAdded(element);
+        return oldElement;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E element = elements.remove(index);
+        recordRemoved(element);
+        return element;
+    }
+
+    private void recordAdded(E element) {
+        if (isInBatch && !removedInBatch.remove(element)) {
+            addedInBatch.add(element);
+        }
+    }
+
+    private void recordRemoved(E element) {
+        if (isInBatch && !addedInBatch.remove(element)) {
+            removedInBatch.add(element);
+        }
+    }
+
+    private static <E> Set<E> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
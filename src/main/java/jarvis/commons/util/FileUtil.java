@@ -1,17 +1,35 @@
 package jarvis.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** Number of previous versions kept for each data file written by the storage component. */
+    public static final int DATA_FILE_BACKUP_COUNT = 3;
+
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +90,138 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Opens a buffered stream for reading the content of a file.
+     * Assumes file exists
+     */
+    public static InputStream openBufferedInputStream(Path file) throws IOException {
+        return new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, 0);
+    }
+
+    /**
+     * Writes given string to a file, keeping up to {@code backupCount} previous versions of the file as backups.
+     * The content is first written and synced to a temporary file in the same directory, which is then moved over
+     * {@code file} atomically, so a crash midway never leaves a partially written file behind.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFile(Path file, String content, int backupCount) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, out -> out.write(bytes), backupCount);
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, keeping up to {@code backupCount} previous
+     * versions of the file as backups. The content is streamed through a buffer, so it never has to be held in
+     * memory as a whole.
+     * @see #writeToFile(Path, String, int)
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter, int backupCount) throws IOException {
+        writeToFile(file, contentWriter, backupCount, unused -> true);
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, keeping up to {@code backupCount} previous
+     * versions of the file as backups. The current content of the file is only backed up if {@code isReadable}
+     * accepts it, so a file that cannot be read is replaced without pushing an older, readable backup out.
+     * @see #writeToFile(Path, ContentWriter, int)
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter, int backupCount,
+            Predicate<Path> isReadable) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        Path tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                    OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            if (backupCount > 0 && isFileExists(absoluteFile) && Files.size(absoluteFile) > 0
+                    && isReadable.test(absoluteFile)) {
+                rotateBackups(absoluteFile, backupCount);
+            }
+            moveAtomically(tempFile, absoluteFile);
+            syncDirectory(absoluteFile.getParent());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} from {@code generation} writes ago.
+     */
+    public static Path getBackupFile(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Returns the existing backups of {@code file}, from the newest to the oldest.
+     */
+    public static List<Path> getBackupFiles(Path file) {
+        List<Path> backupFiles = new ArrayList<>();
+        for (int generation = 1; isFileExists(getBackupFile(file, generation)); generation++) {
+            backupFiles.add(getBackupFile(file, generation));
+        }
+        return backupFiles;
+    }
+
+    /**
+     * Shifts every backup of {@code file} back by one generation, dropping the oldest one if there are already
+     * {@code backupCount} of them, and makes the current content of {@code file} the newest backup.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backupFile = getBackupFile(file, generation);
+            if (Files.exists(backupFile)) {
+                Files.move(backupFile, getBackupFile(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Path newestBackupFile = getBackupFile(file, 1);
+        Files.deleteIfExists(newestBackupFile);
+        try {
+            // a hard link keeps the old content without copying it, and without removing the current file
+            Files.createLink(newestBackupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, newestBackupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Syncs the entries of {@code directory} to disk, so that files moved into it are still there after a crash.
+     * Does nothing on platforms that do not allow directories to be opened, such as Windows.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the file has still been written, only the durability of its directory entry is not guaranteed
+        }
+    }
+
+    /**
+     * Writes the content of a file to the given stream.
+     * The stream is flushed, synced to disk and then closed by {@code FileUtil}, so the writer must leave it open.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
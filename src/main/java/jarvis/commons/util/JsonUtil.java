@@ -3,6 +3,7 @@ package jarvis.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +12,13 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,13 +43,55 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static volatile boolean isPrettyPrinting = true;
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, 0);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, int backupCount)
+            throws IOException {
+        ObjectWriter writer = getFileWriter();
+        FileUtil.writeToFile(jsonFile, out -> writer.writeValue(out, objectToSerialize), backupCount,
+                JsonUtil::isValidJsonFile);
+    }
+
+    /**
+     * Returns true if {@code jsonFile} holds well-formed JSON. The file is only tokenized, without building any
+     * objects from it.
+     */
+    static boolean isValidJsonFile(Path jsonFile) {
+        try (InputStream in = FileUtil.openBufferedInputStream(jsonFile);
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            while (parser.nextToken() != null) {
+                parser.skipChildren();
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warning("Json file " + jsonFile + " is not readable and will not be backed up: " + e);
+            return false;
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.openBufferedInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Sets whether JSON files are written in the indented, human-readable format or in the compact format.
+     * Only affects files saved after the call.
+     */
+    public static void setPrettyPrinting(boolean isPrettyPrinting) {
+        JsonUtil.isPrettyPrinting = isPrettyPrinting;
+    }
+
+    private static ObjectWriter getFileWriter() {
+        // FileUtil syncs the stream to disk before closing it, so the writer must leave it open
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return isPrettyPrinting ? writer.withDefaultPrettyPrinter() : writer;
     }
 
     /**
@@ -84,10 +130,20 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, 0);
+    }
+
+    /**
+     * Saves the Json object to the specified file, keeping up to {@code backupCount} previous versions of the
+     * file as backups. A previous version that is not well-formed JSON is not kept as a backup.
+     * @see #saveJsonFile(Object, Path)
+     * @see FileUtil#writeToFile(Path, FileUtil.ContentWriter, int, java.util.function.Predicate)
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, int backupCount) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, backupCount);
     }
 
 
@@ -110,6 +166,15 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * without any indentation.
+     * @see #toJsonString(Object)
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,143 @@
+package jarvis.commons.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Utility methods for keeping a list sorted by the natural order of its elements as it is modified.
+ * Each method makes the smallest change to the list that keeps it sorted, so an observable list only reports
+ * the elements that were actually added, removed or replaced, rather than a permutation of the whole list.
+ * The resulting order is the same as appending or replacing the element and then stably sorting the list.
+ */
+public class SortedListUtil {
+
+    /**
+     * Inserts {@code element} into the sorted {@code list}, after any elements that compare equal to it.
+     */
+    public static <T extends Comparable<? super T>> void insert(List<T> list, T element) {
+        list.add(upperBound(list, element), element);
+    }
+
+    /**
+     * Replaces the element at {@code index} of the sorted {@code list} with {@code element}, moving it to the
+     * position that keeps the list sorted.
+     * The rest of the list must be sorted, but the element being replaced may have been modified in place.
+     */
+    public static <T extends Comparable<? super T>> void replace(List<T> list, int index, T element) {
+        boolean isAfterPrevious = index == 0 || list.get(index - 1).compareTo(element) <= 0;
+        boolean isBeforeNext = index == list.size() - 1 || element.compareTo(list.get(index + 1)) <= 0;
+        if (isAfterPrevious && isBeforeNext) {
+            list.set(index, element);
+            return;
+        }
+
+        list.remove(index);
+        // a stable sort keeps the element before equal elements that were after it, and vice versa
+        int newIndex = isBeforeNext ? upperBound(list, element) : lowerBound(list, element);
+        list.add(newIndex, element);
+    }
+
+    /**
+     * Removes the elements in {@code toRemove}, which are compared by identity and must be in the sorted
+     * {@code list}, and inserts the elements in {@code toAdd} where they keep the list sorted.
+     * Changes to a small part of the list are made one element at a time, so that only those elements are reported,
+     * while changes to a large part of the list replace its contents at once.
+     */
+    public static <T extends Comparable<? super T>> void removeAndInsertAll(ObservableList<T> list,
+            Collection<? extends T> toRemove, Collection<? extends T> toAdd) {
+        if (toRemove.size() + toAdd.size() > list.size() / 2) {
+            Set<T> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+            removed.addAll(toRemove);
+            List<T> result = new ArrayList<>(list.size() - removed.size() + toAdd.size());
+            for (T element : list) {
+                if (!removed.contains(element)) {
+                    result.add(element);
+                }
+            }
+            result.addAll(toAdd);
+            result.sort(null);
+            list.setAll(result);
+            return;
+        }
+
+        for (T element : toRemove) {
+            list.remove(indexOfInstance(list, element));
+        }
+        for (T element : toAdd) {
+            insert(list, element);
+        }
+    }
+
+    /**
+     * Returns the index of {@code element}, which is compared by identity and must be in the sorted {@code list}.
+     * The element is found by binary search, followed by a scan of the elements that compare equal to it.
+     */
+    public static <T extends Comparable<? super T>> int indexOfInstance(List<T> list, T element) {
+        int index = lowerBound(list, element);
+        while (list.get(index) != element) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns true if {@code list} is sorted by the natural order of its elements.
+     */
+    public static <T extends Comparable<? super T>> boolean isSorted(List<T> list) {
+        for (int i = 1; i < list.size(); i++) {
+            if (list.get(i - 1).compareTo(list.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of {@code elements} sorted by their natural order.
+     */
+    public static <T extends Comparable<? super T>> List<T> sortedCopy(Collection<? extends T> elements) {
+        List<T> copy = new ArrayList<>(elements);
+        copy.sort(null);
+        return copy;
+    }
+
+    /**
+     * Returns the index of the first element of the sorted {@code list} that is not less than {@code element}.
+     */
+    public static <T extends Comparable<? super T>> int lowerBound(List<T> list, T element) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (list.get(mid).compareTo(element) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element of the sorted {@code list} that is greater than {@code element}.
+     */
+    public static <T extends Comparable<? super T>> int upperBound(List<T> list, T element) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (list.get(mid).compareTo(element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,108 @@
+package jarvis.logic;
+
+import static jarvis.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.logic.commands.CommandResult;
+import jarvis.logic.commands.exceptions.CommandException;
+import jarvis.logic.parser.exceptions.ParseException;
+import jarvis.model.Model;
+import jarvis.storage.Storage;
+
+/**
+ * Executes a script of commands without the GUI, saving the data every few commands and after the last command,
+ * rather than after every command.
+ * Each non-blank line of the script is a command, except lines starting with {@value #COMMENT_PREFIX}.
+ * The feedback of each command is printed to the output stream, and the errors of invalid commands to the error
+ * stream. The script stops at an {@code exit} command, or at the first invalid command if it is to stop on errors.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_INVALID_COMMAND = "Line %1$d: %2$s";
+    public static final String MESSAGE_SUMMARY = "Executed %1$d commands, %2$d failed.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final LogicManager logic;
+    private final int saveInterval;
+    private final boolean isStoppingOnError;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands on {@code model}, saving the data to {@code storage}
+     * after every {@code saveInterval} commands and after the last command.
+     *
+     * @param saveInterval the number of commands between saves, or 0 to only save after the last command.
+     * @param isStoppingOnError whether the script stops at the first invalid command.
+     */
+    public BatchRunner(Model model, Storage storage, int saveInterval, boolean isStoppingOnError,
+                       PrintStream out, PrintStream err) {
+        requireNonNull(out);
+        requireNonNull(err);
+        checkArgument(saveInterval >= 0, "Save interval cannot be negative");
+        this.logic = new LogicManager(model, storage);
+        this.saveInterval = saveInterval;
+        this.isStoppingOnError = isStoppingOnError;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Executes the commands read from {@code script} and returns the number of commands that failed.
+     * The data is saved after the last command even if some commands failed.
+     *
+     * @throws IOException if the script cannot be read.
+     * @throws CommandException if the data cannot be saved. The rest of the script is not executed.
+     */
+    public int run(BufferedReader script) throws IOException, CommandException {
+        requireNonNull(script);
+        int executedCount = 0;
+        int failedCount = 0;
+        int unsavedCount = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            executedCount++;
+            CommandResult commandResult;
+            try {
+                commandResult = logic.executeWithoutSaving(commandText);
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                err.println(String.format(MESSAGE_INVALID_COMMAND, lineNumber, e.getMessage()));
+                if (isStoppingOnError) {
+                    break;
+                }
+                continue;
+            }
+            out.println(commandResult.getFeedbackToUser());
+            if (commandResult.isExit()) {
+                break;
+            }
+
+            unsavedCount++;
+            if (unsavedCount == saveInterval) {
+                logic.save();
+                unsavedCount = 0;
+            }
+        }
+
+        logic.save();
+        logger.info(String.format(MESSAGE_SUMMARY, executedCount, failedCount));
+        out.println(String.format(MESSAGE_SUMMARY, executedCount, failedCount));
+        return failedCount;
+    }
+}
@@ -1,6 +1,7 @@
 package jarvis.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import jarvis.commons.core.GuiSettings;
 import jarvis.logic.commands.CommandResult;
@@ -27,6 +28,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Shows the results of the command that is still being typed as {@code partialCommandText}, if the command
+     * only filters what is shown. Other commands are not previewed, and what was shown before the preview is shown
+     * again for them.
+     */
+    void previewCommand(String partialCommandText);
+
+    /**
+     * Sets the handler to be notified with an error message when data fails to save after
+     * {@link #execute(String)} has returned. The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
     /**
      * Returns the StudentBook.
      *
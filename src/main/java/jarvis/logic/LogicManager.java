@@ -1,19 +1,25 @@
 package jarvis.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import jarvis.commons.core.GuiSettings;
 import jarvis.commons.core.LogsCenter;
 import jarvis.logic.commands.Command;
 import jarvis.logic.commands.CommandResult;
+import jarvis.logic.commands.FindStudentCommand;
 import jarvis.logic.commands.exceptions.CommandException;
+import jarvis.logic.parser.FindStudentCommandParser;
 import jarvis.logic.parser.JarvisParser;
 import jarvis.logic.parser.exceptions.ParseException;
 import jarvis.model.Lesson;
 import jarvis.model.Model;
+import jarvis.model.NameContainsKeywordsPredicate;
 import jarvis.model.ReadOnlyLessonBook;
 import jarvis.model.ReadOnlyStudentBook;
 import jarvis.model.ReadOnlyTaskBook;
@@ -44,21 +50,63 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        CommandResult commandResult = executeWithoutSaving(commandText);
+        save();
+        return commandResult;
+    }
+
+    /**
+     * Executes the command without saving the data afterwards, so that the data of many commands can be saved at
+     * once with {@link #save()}.
+     * The command is executed in a transaction of the model, so its changes are shown at once and committed as one
+     * step that can be undone. If the command fails partway, the changes it made are rolled back instead.
+     */
+    public CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        model.updateFilteredLessonList(Model.PREDICATE_SHOW_ALL_LESSONS);
-        List<Lesson> allLessonList = model.getFilteredLessonList();
-        for (Lesson l : allLessonList) {
-            if (l.hasTimingConflict()) {
-                l.unmarkClash();
-                model.setLesson(l, l);
+        // clashes are only highlighted until the next command
+        model.unmarkClashingLessons();
+
+        Command command = jarvisParser.parseCommand(commandText);
+        model.beginChanges();
+        boolean isCommitted = false;
+        try {
+            CommandResult commandResult = command.execute(model);
+            model.commitChanges(commandText.trim());
+            isCommitted = true;
+            return commandResult;
+        } finally {
+            if (!isCommitted) {
+                model.rollbackChanges();
             }
         }
+    }
 
-        CommandResult commandResult;
-        Command command = jarvisParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    @Override
+    public void previewCommand(String partialCommandText) {
+        requireNonNull(partialCommandText);
+        String[] commandWordAndArgs = partialCommandText.stripLeading().split("\\s", 2);
+        if (commandWordAndArgs.length < 2 || !jarvisParser.findCommandWord(commandWordAndArgs[0])
+                .filter(FindStudentCommand.COMMAND_WORD::equals).isPresent()) {
+            model.endStudentPreview();
+            return;
+        }
+
+        Optional<NameContainsKeywordsPredicate> predicate =
+                FindStudentCommandParser.parsePartial(commandWordAndArgs[1]);
+        if (predicate.isPresent()) {
+            model.previewStudents(predicate.get());
+        } else {
+            model.endStudentPreview();
+        }
+    }
 
+    /**
+     * Saves the student, task and lesson books to storage.
+     *
+     * @throws CommandException If an error occurs while saving.
+     */
+    public void save() throws CommandException {
         try {
             storage.saveStudentBook(model.getStudentBook());
             storage.saveTaskBook(model.getTaskBook());
@@ -66,8 +114,12 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        storage.setAsyncErrorHandler(ioe -> saveErrorHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
     }
 
     @Override
@@ -72,8 +72,6 @@ public class AddConsultCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Student> lastShownList = model.getFilteredStudentList();
-        model.updateFilteredLessonList(Model.PREDICATE_SHOW_ALL_LESSONS);
-        List<Lesson> allLessonList = model.getFilteredLessonList();
 
         Set<Student> studentSet = new TreeSet<>();
 
@@ -89,14 +87,11 @@ public class AddConsultCommand extends Command {
 
         if (model.hasLesson(consultToAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_CONSULT);
-        } else if (model.hasPeriodClash(consultToAdd)) {
-            allLessonList.stream().filter(consultToAdd::hasTimingConflict).forEach(Lesson::markClash);
-            // Update for JavaFX
-            for (Lesson l : allLessonList) {
-                if (l.hasTimingConflict()) {
-                    model.setLesson(l, l);
-                }
-            }
+        }
+
+        List<Lesson> clashingLessons = model.getClashingLessons(consultToAdd);
+        if (!clashingLessons.isEmpty()) {
+            model.markClashingLessons(clashingLessons);
             throw new CommandException(MESSAGE_TIME_PERIOD_CLASH);
         }
 
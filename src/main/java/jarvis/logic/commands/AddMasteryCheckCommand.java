@@ -72,8 +72,6 @@ public class AddMasteryCheckCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Student> lastShownList = model.getFilteredStudentList();
-        model.updateFilteredLessonList(Model.PREDICATE_SHOW_ALL_LESSONS);
-        List<Lesson> allLessonList = model.getFilteredLessonList();
 
         Set<Student> studentSet = new TreeSet<>();
 
@@ -88,14 +86,11 @@ public class AddMasteryCheckCommand extends Command {
 
         if (model.hasLesson(masteryCheckToAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_MASTERY_CHECK);
-        } else if (model.hasPeriodClash(masteryCheckToAdd)) {
-            allLessonList.stream().filter(masteryCheckToAdd::hasTimingConflict).forEach(Lesson::markClash);
-            // Update for JavaFX
-            for (Lesson l : allLessonList) {
-                if (l.hasTimingConflict()) {
-                    model.setLesson(l, l);
-                }
-            }
+        }
+
+        List<Lesson> clashingLessons = model.getClashingLessons(masteryCheckToAdd);
+        if (!clashingLessons.isEmpty()) {
+            model.markClashingLessons(clashingLessons);
             throw new CommandException(MESSAGE_TIME_PERIOD_CLASH);
         }
 
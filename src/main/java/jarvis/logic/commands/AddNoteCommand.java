@@ -64,14 +64,15 @@ public class AddNoteCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_LESSON_DISPLAYED_INDEX);
         }
         Lesson lessonToAdd = lastShownLessonList.get(lessonIndex.getZeroBased());
+        Lesson editedLesson = lessonToAdd.copy();
         String successMessage;
 
         if (studentIndex == null) {
-            successMessage = executeAddOverallNote(lessonToAdd);
+            successMessage = executeAddOverallNote(editedLesson);
         } else {
-            successMessage = executeAddStudentNote(lessonToAdd);
+            successMessage = executeAddStudentNote(editedLesson);
         }
-        model.setLesson(lessonToAdd, lessonToAdd);
+        model.setLesson(lessonToAdd, editedLesson);
         model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
         return new CommandResult(successMessage);
     }
@@ -67,7 +67,7 @@ public class AddParticipationCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_LESSON_TYPE);
         }
 
-        Studio studioToMark = (Studio) lessonToMark;
+        Studio studioToMark = ((Studio) lessonToMark).copy();
         Student studentToMark = lessonToMark.getStudent(studentIndex);
 
         try {
@@ -75,7 +75,7 @@ public class AddParticipationCommand extends Command {
         } catch (StudentNotFoundException snfe) {
             throw new CommandException(String.format(Messages.MESSAGE_STUDENT_NOT_FOUND, studentToMark, lessonToMark));
         }
-        model.setLesson(studioToMark, studioToMark);
+        model.setLesson(lessonToMark, studioToMark);
         model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
         return new CommandResult(String.format(MESSAGE_ADD_PARTICIPATION_SUCCESS, studentToMark, studioToMark,
                 participation));
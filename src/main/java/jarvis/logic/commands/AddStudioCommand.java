@@ -59,23 +59,19 @@ public class AddStudioCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        // every student takes the studio, whichever students are shown
+        List<Student> allStudentList = model.getStudentBook().getStudentList();
         model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
-        List<Student> allStudentList = model.getFilteredStudentList();
 
         Studio studioToAdd = new Studio(studioDesc, studioPeriod, allStudentList);
 
         if (model.hasLesson(studioToAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_STUDIO);
-        } else if (model.hasPeriodClash(studioToAdd)) {
-            model.updateFilteredLessonList(Model.PREDICATE_SHOW_ALL_LESSONS);
-            List<Lesson> allLessonList = model.getFilteredLessonList();
-            allLessonList.stream().filter(studioToAdd::hasTimingConflict).forEach(Lesson::markClash);
-            // Update for JavaFX
-            for (Lesson l : allLessonList) {
-                if (l.hasTimingConflict()) {
-                    model.setLesson(l, l);
-                }
-            }
+        }
+
+        List<Lesson> clashingLessons = model.getClashingLessons(studioToAdd);
+        if (!clashingLessons.isEmpty()) {
+            model.markClashingLessons(clashingLessons);
             throw new CommandException(MESSAGE_TIME_PERIOD_CLASH);
         }
         model.addLesson(studioToAdd);
@@ -67,14 +67,15 @@ public class DeleteNoteCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_LESSON_DISPLAYED_INDEX);
         }
         Lesson lessonToDelete = lastShownLessonList.get(lessonIndex.getZeroBased());
+        Lesson editedLesson = lessonToDelete.copy();
         String successMessage;
 
         if (studentIndex == null) {
-            successMessage = executeDeleteOverallNote(lessonToDelete);
+            successMessage = executeDeleteOverallNote(editedLesson);
         } else {
-            successMessage = executeDeleteStudentNote(lessonToDelete);
+            successMessage = executeDeleteStudentNote(editedLesson);
         }
-        model.setLesson(lessonToDelete, lessonToDelete);
+        model.setLesson(lessonToDelete, editedLesson);
         model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
         return new CommandResult(successMessage);
     }
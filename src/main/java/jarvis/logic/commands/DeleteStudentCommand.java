@@ -2,36 +2,47 @@ package jarvis.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.commands.exceptions.CommandException;
+import jarvis.model.Lesson;
 import jarvis.model.Model;
 import jarvis.model.Student;
 
 /**
- * Deletes a student identified using it's displayed index from the student book.
+ * Deletes one or more students identified using their displayed indexes from the student book.
  */
 public class DeleteStudentCommand extends Command {
 
     public static final String COMMAND_WORD = "deletestudent";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the student identified by the index number used in the displayed student list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the students identified by the index numbers used in the displayed student list.\n"
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas, or \"all\")\n"
+            + "Example: " + COMMAND_WORD + " 1,3,5-7";
 
     public static final String MESSAGE_DELETE_STUDENT_SUCCESS = "Deleted student: %1$s";
+    public static final String MESSAGE_DELETE_LESSON_SUCCESS = "Deleted lesson with no other students: %1$s";
 
-    private final Index targetIndex;
+    private final IndexSet targetIndexes;
 
     /**
      * Creates a DeleteStudentCommand to delete the student at the specified index.
      */
     public DeleteStudentCommand(Index targetIndex) {
-        requireNonNull(targetIndex);
-        this.targetIndex = targetIndex;
+        this(IndexSet.of(targetIndex));
+    }
+
+    /**
+     * Creates a DeleteStudentCommand to delete the students at the specified indexes.
+     */
+    public DeleteStudentCommand(IndexSet targetIndexes) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
@@ -39,19 +50,25 @@ public class DeleteStudentCommand extends Command {
         requireNonNull(model);
         List<Student> lastShownList = model.getFilteredStudentList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (!targetIndexes.isValidFor(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
         }
 
-        Student studentToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteStudent(studentToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_STUDENT_SUCCESS, studentToDelete));
+        List<Student> studentsToDelete = targetIndexes.select(lastShownList);
+        List<String> messages = new ArrayList<>();
+        for (Student studentToDelete : studentsToDelete) {
+            messages.add(String.format(MESSAGE_DELETE_STUDENT_SUCCESS, studentToDelete));
+            for (Lesson deletedLesson : model.deleteStudent(studentToDelete)) {
+                messages.add(String.format(MESSAGE_DELETE_LESSON_SUCCESS, deletedLesson));
+            }
+        }
+        return new CommandResult(String.join("\n", messages));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteStudentCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteStudentCommand) other).targetIndex)); // state check
+                && targetIndexes.equals(((DeleteStudentCommand) other).targetIndexes)); // state check
     }
 }
@@ -3,35 +3,44 @@ package jarvis.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.commands.exceptions.CommandException;
 import jarvis.model.Model;
 import jarvis.model.Task;
 
 /**
- * Deletes a task identified using it's displayed index from the task book.
+ * Deletes one or more tasks identified using their displayed indexes from the task book.
  */
 public class DeleteTaskCommand extends Command {
 
     public static final String COMMAND_WORD = "deletetask";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the task identified by the index number used in the displayed task list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the tasks identified by the index numbers used in the displayed task list.\n"
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas, or \"all\")\n"
+            + "Example: " + COMMAND_WORD + " 1,3,5-7";
 
     public static final String MESSAGE_DELETE_TASK_SUCCESS = "Deleted task: %1$s";
 
-    private final Index targetIndex;
+    private final IndexSet targetIndexes;
 
     /**
      * Creates a DeleteTaskCommand to delete the task at the specified index.
      */
     public DeleteTaskCommand(Index targetIndex) {
-        requireNonNull(targetIndex);
-        this.targetIndex = targetIndex;
+        this(IndexSet.of(targetIndex));
+    }
+
+    /**
+     * Creates a DeleteTaskCommand to delete the tasks at the specified indexes.
+     */
+    public DeleteTaskCommand(IndexSet targetIndexes) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
@@ -39,20 +48,24 @@ public class DeleteTaskCommand extends Command {
         requireNonNull(model);
         List<Task> lastShownList = model.getFilteredTaskList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (!targetIndexes.isValidFor(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
-        Task taskToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteTask(taskToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
+        List<Task> tasksToDelete = targetIndexes.select(lastShownList);
+        for (Task taskToDelete : tasksToDelete) {
+            model.deleteTask(taskToDelete);
+        }
+        return new CommandResult(tasksToDelete.stream()
+                .map(task -> String.format(MESSAGE_DELETE_TASK_SUCCESS, task))
+                .collect(Collectors.joining("\n")));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteTaskCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteTaskCommand) other).targetIndex));
+                && targetIndexes.equals(((DeleteTaskCommand) other).targetIndexes));
         // state check
     }
 }
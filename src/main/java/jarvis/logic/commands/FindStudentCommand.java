@@ -16,8 +16,10 @@ public class FindStudentCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "A keyword ending with " + NameContainsKeywordsPredicate.PREFIX_WILDCARD
+            + " matches names with words starting with it.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob char" + NameContainsKeywordsPredicate.PREFIX_WILDCARD;
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -32,9 +34,8 @@ public class FindStudentCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStudentList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
+        int studentCount = model.findStudents(predicate);
+        return new CommandResult(String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, studentCount));
     }
 
     @Override
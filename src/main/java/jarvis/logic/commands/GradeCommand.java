@@ -9,34 +9,38 @@ import static jarvis.logic.parser.CliSyntax.PREFIX_STUDIO_ATTENDANCE;
 import static jarvis.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static java.util.Objects.requireNonNull;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.commands.exceptions.CommandException;
 import jarvis.model.GradeProfile;
 import jarvis.model.Model;
 import jarvis.model.Student;
 
 /**
- * Records the grade for 1 or more Assessments for a particular student.
+ * Records the grade for 1 or more Assessments for 1 or more students.
  */
 public class GradeCommand extends Command {
 
     public static final String COMMAND_WORD = "grade";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Record a grade for the student identified "
-            + "by the index number.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Record a grade for the students identified "
+            + "by the index numbers.\n"
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas, or \"all\") "
             + "[" + PREFIX_RA1 + "MARKS] [" + PREFIX_RA2 + "MARKS] "
             + "[" + PREFIX_MIDTERM + "MARKS] [" + PREFIX_PRACTICAL_ASST + "MARKS] "
             + "[" + PREFIX_FINAL_ASST + "MARKS] [" + PREFIX_STUDIO_ATTENDANCE + "MARKS]\n"
-            + "Example: " + COMMAND_WORD + " 1 "
+            + "Example: " + COMMAND_WORD + " 1,3-4 "
             + PREFIX_RA1 + "17 " + PREFIX_MIDTERM + "55";
 
     public static final String MESSAGE_SUCCESS = "Updated grades for student: %1$s";
 
-    private final Index index;
+    private final IndexSet indexes;
     private final GradeProfile gradeProfile;
 
     /**
@@ -45,9 +49,18 @@ public class GradeCommand extends Command {
      * @param gradeProfile Grade profile containing the updated grades.
      */
     public GradeCommand(Index index, GradeProfile gradeProfile) {
-        requireNonNull(index);
+        this(IndexSet.of(index), gradeProfile);
+    }
+
+    /**
+     * Creates a GradeCommand object to record the grade for the students specified at {@code indexes}
+     * @param indexes The indexes of the students
+     * @param gradeProfile Grade profile containing the updated grades.
+     */
+    public GradeCommand(IndexSet indexes, GradeProfile gradeProfile) {
+        requireNonNull(indexes);
         requireNonNull(gradeProfile);
-        this.index = index;
+        this.indexes = indexes;
         this.gradeProfile = gradeProfile;
     }
 
@@ -57,15 +70,26 @@ public class GradeCommand extends Command {
 
         List<Student> lastShownList = model.getFilteredStudentList();
 
-        if (index.getZeroBased() >= lastShownList.size()) {
+        if (!indexes.isValidFor(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
         }
 
-        Student studentToEdit = lastShownList.get(index.getZeroBased());
-        studentToEdit.updateGrades(gradeProfile);
-        model.setStudent(studentToEdit, studentToEdit);
+        Map<Student, Student> editedStudents = new LinkedHashMap<>();
+        for (Student studentToEdit : indexes.select(lastShownList)) {
+            Student editedStudent = studentToEdit.copy();
+            editedStudent.updateGrades(gradeProfile);
+            editedStudents.put(studentToEdit, editedStudent);
+        }
+        if (editedStudents.size() == 1) {
+            Map.Entry<Student, Student> edit = editedStudents.entrySet().iterator().next();
+            model.setStudent(edit.getKey(), edit.getValue());
+        } else {
+            model.setStudents(editedStudents);
+        }
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, studentToEdit));
+        return new CommandResult(editedStudents.values().stream()
+                .map(editedStudent -> String.format(MESSAGE_SUCCESS, editedStudent))
+                .collect(Collectors.joining("\n")));
     }
 
     @Override
@@ -79,6 +103,6 @@ public class GradeCommand extends Command {
         }
 
         GradeCommand gc = (GradeCommand) other;
-        return index.equals(gc.index) && gradeProfile.equals(gc.gradeProfile);
+        return indexes.equals(gc.indexes) && gradeProfile.equals(gc.gradeProfile);
     }
 }
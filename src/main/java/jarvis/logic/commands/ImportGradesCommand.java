@@ -0,0 +1,212 @@
+package jarvis.logic.commands;
+
+import static jarvis.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jarvis.logic.commands.exceptions.CommandException;
+import jarvis.logic.parser.ParserUtil;
+import jarvis.logic.parser.exceptions.ParseException;
+import jarvis.model.Assessment;
+import jarvis.model.GradeProfile;
+import jarvis.model.MatricNum;
+import jarvis.model.Model;
+import jarvis.model.Student;
+
+/**
+ * Records the grades of many students at once from a CSV file.
+ * Every row of the file is validated before any grade is recorded, and the grades are then recorded as a single
+ * update to the model.
+ */
+public class ImportGradesCommand extends Command {
+
+    public static final String COMMAND_WORD = "importgrades";
+    public static final String MATRIC_NUM_COLUMN = "matric";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Records grades for students from a CSV file.\n"
+            + "The first row of the file must be \"" + MATRIC_NUM_COLUMN + "\" followed by the assessments graded, "
+            + "and each other row a matric number followed by the student's marks. "
+            + "Empty marks are left unchanged.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/midterm.csv";
+
+    public static final String MESSAGE_SUCCESS = "Updated grades for %1$d students from %2$s";
+    public static final String MESSAGE_FILE_ERROR = "Could not read grades from %1$s: %2$s";
+    public static final String MESSAGE_EMPTY_FILE = "The grades file %1$s is empty.";
+    public static final String MESSAGE_INVALID_HEADER = "The first row of the grades file must be \""
+            + MATRIC_NUM_COLUMN + "\" followed by one or more different assessments out of: %1$s";
+    public static final String MESSAGE_INVALID_ROWS = "No grades were updated as some rows are invalid:\n%1$s";
+    public static final String MESSAGE_INVALID_ROW = "Row %1$d: %2$s";
+    public static final String MESSAGE_WRONG_VALUE_COUNT = "Expected %1$d values but found %2$d.";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "There is no student with matric number %1$s.";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "Grades for %1$s were already given in row %2$d.";
+    public static final String MESSAGE_INVALID_MC_RESULT = "Mastery check results must be \"pass\" or \"fail\", "
+            + "or 1 or 0.";
+
+    private static final String SEPARATOR = ",";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportGradesCommand to record the grades in the CSV file at {@code filePath}.
+     */
+    public ImportGradesCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, ioe), ioe);
+        }
+        if (lines.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+        }
+
+        // spreadsheet programs such as Excel start UTF-8 files with a byte order mark
+        String header = lines.get(0);
+        if (header.startsWith(BYTE_ORDER_MARK)) {
+            header = header.substring(BYTE_ORDER_MARK.length());
+        }
+        List<Assessment> assessments = parseHeader(header);
+        Map<Student, GradeProfile> grades = new LinkedHashMap<>();
+        Map<Student, Integer> rowNumbers = new HashMap<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            int rowNumber = i + 1;
+            try {
+                String[] values = splitRow(lines.get(i));
+                if (values.length != assessments.size() + 1) {
+                    throw new ParseException(String.format(MESSAGE_WRONG_VALUE_COUNT,
+                            assessments.size() + 1, values.length));
+                }
+                Student student = parseStudent(values[0], model);
+                Integer previousRowNumber = rowNumbers.putIfAbsent(student, rowNumber);
+                if (previousRowNumber != null) {
+                    throw new ParseException(String.format(MESSAGE_DUPLICATE_STUDENT,
+                            student.getMatricNum(), previousRowNumber));
+                }
+                grades.put(student, parseGrades(values, assessments));
+            } catch (ParseException pe) {
+                errors.add(String.format(MESSAGE_INVALID_ROW, rowNumber, pe.getMessage()));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_ROWS, String.join("\n", errors)));
+        }
+
+        Map<Student, Student> editedStudents = new HashMap<>();
+        for (Map.Entry<Student, GradeProfile> entry : grades.entrySet()) {
+            Student editedStudent = entry.getKey().copy();
+            editedStudent.updateGrades(entry.getValue());
+            editedStudents.put(entry.getKey(), editedStudent);
+        }
+        model.setStudents(editedStudents);
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, grades.size(), filePath));
+    }
+
+    /**
+     * Returns the assessments graded in each column of the file after the matric number column.
+     */
+    private static List<Assessment> parseHeader(String header) throws CommandException {
+        String[] columns = splitRow(header);
+        String validAssessments = Stream.of(Assessment.values())
+                .map(Assessment::getName)
+                .collect(Collectors.joining(", "));
+        if (columns.length < 2 || !columns[0].equalsIgnoreCase(MATRIC_NUM_COLUMN)) {
+            throw new CommandException(String.format(MESSAGE_INVALID_HEADER, validAssessments));
+        }
+
+        List<Assessment> assessments = new ArrayList<>();
+        Set<Assessment> seenAssessments = EnumSet.noneOf(Assessment.class);
+        for (int i = 1; i < columns.length; i++) {
+            Assessment assessment = Assessment.fromName(columns[i]).orElse(null);
+            if (assessment == null || !seenAssessments.add(assessment)) {
+                throw new CommandException(String.format(MESSAGE_INVALID_HEADER, validAssessments));
+            }
+            assessments.add(assessment);
+        }
+        return assessments;
+    }
+
+    private static Student parseStudent(String matricNum, Model model) throws ParseException {
+        MatricNum parsedMatricNum = ParserUtil.parseMatricNum(matricNum);
+        return model.getStudent(parsedMatricNum).orElseThrow(() ->
+                new ParseException(String.format(MESSAGE_UNKNOWN_STUDENT, parsedMatricNum)));
+    }
+
+    private static GradeProfile parseGrades(String[] values, List<Assessment> assessments) throws ParseException {
+        GradeProfile gradeProfile = new GradeProfile();
+        for (int i = 0; i < assessments.size(); i++) {
+            String marks = values[i + 1];
+            if (!marks.isEmpty()) {
+                Assessment assessment = assessments.get(i);
+                double parsedMarks = isMasteryCheck(assessment)
+                        ? parseMcResult(marks)
+                        : ParserUtil.parseMarks(marks, assessment);
+                gradeProfile.grade(assessment, parsedMarks);
+            }
+        }
+        return gradeProfile;
+    }
+
+    private static boolean isMasteryCheck(Assessment assessment) {
+        return assessment == Assessment.MC1 || assessment == Assessment.MC2;
+    }
+
+    /**
+     * Returns the marks for a mastery check result, which is recorded as 1 for a pass and 0 for a fail, as the
+     * {@code mc} command does.
+     */
+    private static double parseMcResult(String result) throws ParseException {
+        switch (result.toLowerCase()) {
+        case "1":
+        case "pass":
+            return 1;
+        case "0":
+        case "fail":
+            return 0;
+        default:
+            throw new ParseException(MESSAGE_INVALID_MC_RESULT);
+        }
+    }
+
+    private static String[] splitRow(String row) {
+        String[] values = row.split(SEPARATOR, -1);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values[i].trim();
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportGradesCommand // instanceof handles nulls
+                && filePath.equals(((ImportGradesCommand) other).filePath));
+    }
+}
@@ -46,10 +46,11 @@ public class MarkLessonCommand extends Command {
         }
 
         Lesson lessonToMark = lastShownLessonList.get(lessonIndex.getZeroBased());
-        lessonToMark.markAsCompleted();
-        model.setLesson(lessonToMark, lessonToMark);
+        Lesson editedLesson = lessonToMark.copy();
+        editedLesson.markAsCompleted();
+        model.setLesson(lessonToMark, editedLesson);
         model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
-        return new CommandResult(String.format(MESSAGE_MARK_LESSON_SUCCESS, lessonToMark));
+        return new CommandResult(String.format(MESSAGE_MARK_LESSON_SUCCESS, editedLesson));
     }
 
     @Override
@@ -3,36 +3,46 @@ package jarvis.logic.commands;
 import static jarvis.model.Model.PREDICATE_SHOW_ALL_TASKS;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.commands.exceptions.CommandException;
 import jarvis.model.Model;
 import jarvis.model.Task;
 
 /**
- * Marks a task as done. The task is identified using its displayed index from the task book.
+ * Marks one or more tasks as done. The tasks are identified using their displayed indexes from the task book.
  */
 public class MarkTaskCommand extends Command {
 
     public static final String COMMAND_WORD = "marktask";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks a task as done. The task is identified by the index number used in the displayed task list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Marks tasks as done. The tasks are identified by the index numbers used in the displayed task list.\n"
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas, or \"all\")\n"
+            + "Example: " + COMMAND_WORD + " 1,3,5-7";
 
     public static final String MESSAGE_MARK_TASK_SUCCESS = "Marked task as done: %1$s";
 
-    private final Index taskIndex;
+    private final IndexSet taskIndexes;
 
     /**
      * Creates a MarkTaskCommand to mark the task at the specified index as done.
      */
     public MarkTaskCommand(Index taskIndex) {
-        requireNonNull(taskIndex);
-        this.taskIndex = taskIndex;
+        this(IndexSet.of(taskIndex));
+    }
+
+    /**
+     * Creates a MarkTaskCommand to mark the tasks at the specified indexes as done.
+     */
+    public MarkTaskCommand(IndexSet taskIndexes) {
+        requireNonNull(taskIndexes);
+        this.taskIndexes = taskIndexes;
     }
 
     @Override
@@ -40,15 +50,21 @@ public class MarkTaskCommand extends Command {
         requireNonNull(model);
         List<Task> lastShownList = model.getFilteredTaskList();
 
-        if (taskIndex.getZeroBased() >= lastShownList.size()) {
+        if (!taskIndexes.isValidFor(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
-        Task taskToMark = lastShownList.get(taskIndex.getZeroBased());
-        taskToMark.markAsDone();
-        model.setTask(taskToMark, taskToMark);
+        List<Task> editedTasks = new ArrayList<>();
+        for (Task taskToMark : taskIndexes.select(lastShownList)) {
+            Task editedTask = taskToMark.copy();
+            editedTask.markAsDone();
+            model.setTask(taskToMark, editedTask);
+            editedTasks.add(editedTask);
+        }
         model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
-        return new CommandResult(String.format(MESSAGE_MARK_TASK_SUCCESS, taskToMark));
+        return new CommandResult(editedTasks.stream()
+                .map(task -> String.format(MESSAGE_MARK_TASK_SUCCESS, task))
+                .collect(Collectors.joining("\n")));
     }
 
     @Override
@@ -63,7 +79,7 @@ public class MarkTaskCommand extends Command {
 
         MarkTaskCommand otherMarkTask = (MarkTaskCommand) other;
 
-        return taskIndex.equals(otherMarkTask.taskIndex);
+        return taskIndexes.equals(otherMarkTask.taskIndexes);
     }
 }
 
@@ -56,9 +56,10 @@ public class MasteryCheckCommand extends Command {
         }
 
         Student studentToEdit = lastShownList.get(index.getZeroBased());
-        studentToEdit.updateMark(assessment, isPass ? 1 : 0);
-        model.setStudent(studentToEdit, studentToEdit);
+        Student editedStudent = studentToEdit.copy();
+        editedStudent.updateMark(assessment, isPass ? 1 : 0);
+        model.setStudent(studentToEdit, editedStudent);
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, assessment, studentToEdit));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, assessment, editedStudent));
     }
 }
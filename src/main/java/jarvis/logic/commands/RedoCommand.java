@@ -0,0 +1,34 @@
+package jarvis.logic.commands;
+
+import static jarvis.model.Model.PREDICATE_SHOW_ALL_LESSONS;
+import static jarvis.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+import static jarvis.model.Model.PREDICATE_SHOW_ALL_TASKS;
+import static java.util.Objects.requireNonNull;
+
+import jarvis.logic.commands.exceptions.CommandException;
+import jarvis.model.Model;
+
+/**
+ * Redoes the last command that was undone in JARVIS.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no undone command to redo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+
+        String redoneCommand = model.redo();
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, redoneCommand));
+    }
+}
@@ -0,0 +1,34 @@
+package jarvis.logic.commands;
+
+import static jarvis.model.Model.PREDICATE_SHOW_ALL_LESSONS;
+import static jarvis.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+import static jarvis.model.Model.PREDICATE_SHOW_ALL_TASKS;
+import static java.util.Objects.requireNonNull;
+
+import jarvis.logic.commands.exceptions.CommandException;
+import jarvis.model.Model;
+
+/**
+ * Undoes the last command that changed the students, tasks or lessons in JARVIS.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no command to undo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+
+        String undoneCommand = model.undo();
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, undoneCommand));
+    }
+}
@@ -7,9 +7,11 @@ import static jarvis.model.Model.PREDICATE_SHOW_ALL_LESSONS;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.commands.exceptions.CommandException;
 import jarvis.model.Lesson;
 import jarvis.model.Model;
@@ -17,35 +19,43 @@ import jarvis.model.Student;
 import jarvis.model.exceptions.StudentNotFoundException;
 
 /**
- * Marks a student as absent for a given lesson.
+ * Marks one or more students as absent for a given lesson.
  * The lesson is identified using its displayed index from the lesson book.
- * The student is identified using its displayed index in the student list of the specified lesson.
+ * The students are identified using their displayed indexes in the student list of the specified lesson.
  */
 public class UnmarkStudentCommand extends Command {
 
     public static final String COMMAND_WORD = "unmarkstudent";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks a student as absent for a lesson. "
-            + "The lesson is identified by its index number in the displayed lesson list. The student is identified "
-            + "using its displayed index in the student list of the specified lesson\n"
+            + ": Marks students as absent for a lesson. "
+            + "The lesson is identified by its index number in the displayed lesson list. The students are "
+            + "identified using their displayed indexes in the student list of the specified lesson, given as "
+            + "positive integers or ranges of them, separated by commas, or as \"all\"\n"
             + "Parameters: "
             + PREFIX_LESSON_INDEX + "LESSON INDEX "
-            + PREFIX_STUDENT_INDEX + "STUDENT_INDEX \n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_LESSON_INDEX + "1 " + PREFIX_STUDENT_INDEX + "2";
+            + PREFIX_STUDENT_INDEX + "STUDENT_INDEXES \n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_LESSON_INDEX + "1 " + PREFIX_STUDENT_INDEX + "2,4-6";
 
     public static final String MESSAGE_MARK_STUDENT_SUCCESS = "Marked %1$s as absent: %2$s";
 
     private final Index lessonIndex;
-    private final Index studentIndex;
+    private final IndexSet studentIndexes;
 
     /**
      * Creates a UnmarkStudentCommand to mark the specified student in the specified lesson as absent.
      */
     public UnmarkStudentCommand(Index lessonIndex, Index studentIndex) {
-        requireAllNonNull(lessonIndex, studentIndex);
+        this(lessonIndex, IndexSet.of(studentIndex));
+    }
+
+    /**
+     * Creates a UnmarkStudentCommand to mark the specified students in the specified lesson as absent.
+     */
+    public UnmarkStudentCommand(Index lessonIndex, IndexSet studentIndexes) {
+        requireAllNonNull(lessonIndex, studentIndexes);
         this.lessonIndex = lessonIndex;
-        this.studentIndex = studentIndex;
+        this.studentIndexes = studentIndexes;
     }
 
     @Override
@@ -56,16 +66,27 @@ public class UnmarkStudentCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_LESSON_DISPLAYED_INDEX);
         }
         Lesson lessonToMark = lastShownLessonList.get(lessonIndex.getZeroBased());
-        Student studentToMark = lessonToMark.getStudent(studentIndex);
+        List<Student> lessonStudents = lessonToMark.getStudentList();
+        if (!studentIndexes.isValidFor(lessonStudents.size())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+        }
+        List<Student> studentsToMark = studentIndexes.select(lessonStudents);
 
-        try {
-            lessonToMark.markAsAbsent(studentToMark);
-        } catch (StudentNotFoundException snfe) {
-            throw new CommandException(String.format(Messages.MESSAGE_STUDENT_NOT_FOUND, studentToMark, lessonToMark));
+        // every student is marked in the same copy, so the lesson is only replaced once
+        Lesson editedLesson = lessonToMark.copy();
+        for (Student studentToMark : studentsToMark) {
+            try {
+                editedLesson.markAsAbsent(studentToMark);
+            } catch (StudentNotFoundException snfe) {
+                throw new CommandException(String.format(Messages.MESSAGE_STUDENT_NOT_FOUND, studentToMark,
+                        lessonToMark));
+            }
         }
-        model.setLesson(lessonToMark, lessonToMark);
+        model.setLesson(lessonToMark, editedLesson);
         model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
-        return new CommandResult(String.format(MESSAGE_MARK_STUDENT_SUCCESS, studentToMark, lessonToMark));
+        return new CommandResult(studentsToMark.stream()
+                .map(student -> String.format(MESSAGE_MARK_STUDENT_SUCCESS, student, lessonToMark))
+                .collect(Collectors.joining("\n")));
     }
 
     @Override
@@ -81,6 +102,6 @@ public class UnmarkStudentCommand extends Command {
         UnmarkStudentCommand otherUnmarkStudent = (UnmarkStudentCommand) other;
 
         return lessonIndex.equals(otherUnmarkStudent.lessonIndex)
-                && studentIndex.equals(otherUnmarkStudent.studentIndex);
+                && studentIndexes.equals(otherUnmarkStudent.studentIndexes);
     }
 }
@@ -3,37 +3,47 @@ package jarvis.logic.commands;
 import static jarvis.model.Model.PREDICATE_SHOW_ALL_TASKS;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.commands.exceptions.CommandException;
 import jarvis.model.Model;
 import jarvis.model.Task;
 
 /**
- * Marks a task as not done. The task is identified using its displayed index from the task book.
+ * Marks one or more tasks as not done. The tasks are identified using their displayed indexes from the task book.
  */
 public class UnmarkTaskCommand extends Command {
 
     public static final String COMMAND_WORD = "unmarktask";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks a task as not done."
-            + "The task is identified by the index number used in the displayed task list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Marks tasks as not done. "
+            + "The tasks are identified by the index numbers used in the displayed task list.\n"
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas, or \"all\")\n"
+            + "Example: " + COMMAND_WORD + " 1,3,5-7";
 
     public static final String MESSAGE_UNMARK_TASK_SUCCESS = "Marked task as not done: %1$s";
 
-    private final Index targetIndex;
+    private final IndexSet targetIndexes;
 
     /**
      * Creates an UnmarkTaskCommand to mark the task at the specified index as not done.
      */
     public UnmarkTaskCommand(Index targetIndex) {
-        requireNonNull(targetIndex);
-        this.targetIndex = targetIndex;
+        this(IndexSet.of(targetIndex));
+    }
+
+    /**
+     * Creates an UnmarkTaskCommand to mark the tasks at the specified indexes as not done.
+     */
+    public UnmarkTaskCommand(IndexSet targetIndexes) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
@@ -41,22 +51,28 @@ public class UnmarkTaskCommand extends Command {
         requireNonNull(model);
         List<Task> lastShownList = model.getFilteredTaskList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (!targetIndexes.isValidFor(lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
-        Task taskToUnmark = lastShownList.get(targetIndex.getZeroBased());
-        taskToUnmark.markAsNotDone();
-        model.setTask(taskToUnmark, taskToUnmark);
+        List<Task> editedTasks = new ArrayList<>();
+        for (Task taskToUnmark : targetIndexes.select(lastShownList)) {
+            Task editedTask = taskToUnmark.copy();
+            editedTask.markAsNotDone();
+            model.setTask(taskToUnmark, editedTask);
+            editedTasks.add(editedTask);
+        }
         model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
-        return new CommandResult(String.format(MESSAGE_UNMARK_TASK_SUCCESS, taskToUnmark));
+        return new CommandResult(editedTasks.stream()
+                .map(task -> String.format(MESSAGE_UNMARK_TASK_SUCCESS, task))
+                .collect(Collectors.joining("\n")));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UnmarkTaskCommand // instanceof handles nulls
-                && targetIndex.equals(((UnmarkTaskCommand) other).targetIndex));
+                && targetIndexes.equals(((UnmarkTaskCommand) other).targetIndexes));
         // state check
     }
 }
@@ -26,14 +26,16 @@ import jarvis.model.TimePeriod;
  */
 public class AddMasteryCheckCommandParser implements Parser<AddMasteryCheckCommand> {
 
+    private static final PrefixMatcher PREFIX_MATCHER = new PrefixMatcher(PREFIX_LESSON, PREFIX_START_DATE,
+            PREFIX_START_TIME, PREFIX_END_DATE, PREFIX_END_TIME, PREFIX_STUDENT_INDEX);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddMasteryCheckCommand
      * and returns an AddMasteryCheckCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddMasteryCheckCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LESSON, PREFIX_START_DATE,
-                PREFIX_START_TIME, PREFIX_END_DATE, PREFIX_END_TIME, PREFIX_STUDENT_INDEX);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MATCHER);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_START_DATE, PREFIX_START_TIME, PREFIX_END_TIME,
                 PREFIX_STUDENT_INDEX) || !argMultimap.getPreamble().isEmpty()) {
@@ -16,14 +16,16 @@ import jarvis.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new AddNoteCommand object
  */
 public class AddNoteCommandParser implements Parser<AddNoteCommand> {
+
+    private static final PrefixMatcher PREFIX_MATCHER = new PrefixMatcher(PREFIX_NOTE, PREFIX_LESSON_INDEX,
+            PREFIX_STUDENT_INDEX);
     /**
      * Parses the given {@code String} of arguments in the context of the AddNoteCommand
      * and returns a AddNoteCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddNoteCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NOTE, PREFIX_LESSON_INDEX,
-                PREFIX_STUDENT_INDEX);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MATCHER);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NOTE, PREFIX_LESSON_INDEX)
                 || !argMultimap.getPreamble().isEmpty()) {
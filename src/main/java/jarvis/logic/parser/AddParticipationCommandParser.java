@@ -15,14 +15,16 @@ import jarvis.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new AddParticipationCommand object
  */
 public class AddParticipationCommandParser implements Parser<AddParticipationCommand> {
+
+    private static final PrefixMatcher PREFIX_MATCHER = new PrefixMatcher(PREFIX_PARTICIPATION, PREFIX_LESSON_INDEX,
+            PREFIX_STUDENT_INDEX);
     /**
      * Parses the given {@code String} of arguments in the context of the AddParticipationCommand
      * and returns a AddParticipationCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddParticipationCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-                PREFIX_PARTICIPATION, PREFIX_LESSON_INDEX, PREFIX_STUDENT_INDEX);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MATCHER);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_PARTICIPATION, PREFIX_LESSON_INDEX, PREFIX_STUDENT_INDEX)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -23,14 +23,16 @@ import jarvis.model.TimePeriod;
  */
 public class AddStudioCommandParser implements Parser<AddStudioCommand> {
 
+    private static final PrefixMatcher PREFIX_MATCHER = new PrefixMatcher(PREFIX_LESSON, PREFIX_START_DATE,
+            PREFIX_START_TIME, PREFIX_END_DATE, PREFIX_END_TIME);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddStudioCommand
      * and returns an AddStudioCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddStudioCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LESSON,
-                PREFIX_START_DATE, PREFIX_START_TIME, PREFIX_END_DATE, PREFIX_END_TIME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MATCHER);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_START_DATE, PREFIX_START_TIME, PREFIX_END_TIME)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -1,9 +1,11 @@
 package jarvis.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,31 +14,76 @@ import java.util.Optional;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * The values are stored as the positions they span in the arguments string, in arrays indexed by the ordinals of
+ * their prefixes in a {@code PrefixMatcher}, and are only copied out of the arguments string when they are read.
  */
 public class ArgumentMultimap {
 
-    /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private static final int NO_VALUE = -1;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final String argsString;
+    private final PrefixMatcher prefixMatcher;
+
+    /** The index of the last value of each prefix, by ordinal */
+    private final int[] lastValueIndices;
+
+    // the values in the order they were put, each linked to the value of the same prefix put before it
+    private int[] valueStarts = new int[INITIAL_CAPACITY];
+    private int[] valueEnds = new int[INITIAL_CAPACITY];
+    private int[] previousValueIndices = new int[INITIAL_CAPACITY];
+    private int valueCount = 0;
+
+    private int preambleStart = 0;
+    private int preambleEnd = 0;
+
+    /**
+     * Creates an empty map for the values in {@code argsString} of the prefixes matched by {@code prefixMatcher}.
+     */
+    ArgumentMultimap(String argsString, PrefixMatcher prefixMatcher) {
+        requireNonNull(argsString);
+        requireNonNull(prefixMatcher);
+        this.argsString = argsString;
+        this.prefixMatcher = prefixMatcher;
+        lastValueIndices = new int[prefixMatcher.getPrefixCount()];
+        Arrays.fill(lastValueIndices, NO_VALUE);
+    }
+
+    /**
+     * Sets the preamble to the text from {@code start} to {@code end} of the arguments string, without leading and
+     * trailing whitespace.
+     */
+    void putPreamble(int start, int end) {
+        preambleStart = trimStart(start, end);
+        preambleEnd = trimEnd(preambleStart, end);
+    }
 
     /**
-     * Associates the specified argument value with {@code prefix} key in this map.
-     * If the map previously contained a mapping for the key, the new value is appended to the list of existing values.
-     *
-     * @param prefix   Prefix key with which the specified argument value is to be associated
-     * @param argValue Argument value to be associated with the specified prefix key
+     * Associates the text from {@code start} to {@code end} of the arguments string, without leading and trailing
+     * whitespace, with the prefix of the given {@code ordinal}.
+     * If the prefix already has values, the new value is appended to them.
      */
-    public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+    void put(int ordinal, int start, int end) {
+        if (valueCount == valueStarts.length) {
+            int capacity = valueCount * 2;
+            valueStarts = Arrays.copyOf(valueStarts, capacity);
+            valueEnds = Arrays.copyOf(valueEnds, capacity);
+            previousValueIndices = Arrays.copyOf(previousValueIndices, capacity);
+        }
+        int trimmedStart = trimStart(start, end);
+        valueStarts[valueCount] = trimmedStart;
+        valueEnds[valueCount] = trimEnd(trimmedStart, end);
+        previousValueIndices[valueCount] = lastValueIndices[ordinal];
+        lastValueIndices[ordinal] = valueCount;
+        valueCount++;
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        int valueIndex = getLastValueIndex(prefix);
+        return valueIndex == NO_VALUE ? Optional.empty() : Optional.of(getValueAt(valueIndex));
     }
 
     /**
@@ -45,16 +92,49 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (int i = getLastValueIndex(prefix); i != NO_VALUE; i = previousValueIndices[i]) {
+            values.add(getValueAt(i));
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        Collections.reverse(values);
+        return values;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return argsString.substring(preambleStart, preambleEnd);
+    }
+
+    private int getLastValueIndex(Prefix prefix) {
+        int ordinal = prefixMatcher.getOrdinal(prefix);
+        return ordinal == PrefixMatcher.NO_MATCH ? NO_VALUE : lastValueIndices[ordinal];
+    }
+
+    private String getValueAt(int valueIndex) {
+        return argsString.substring(valueStarts[valueIndex], valueEnds[valueIndex]);
+    }
+
+    /**
+     * Returns the position of the first character from {@code start} to {@code end} that is not whitespace, as
+     * defined by {@link String#trim()}, or {@code end} if there is none.
+     */
+    private int trimStart(int start, int end) {
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the position after the last character from {@code start} to {@code end} that is not whitespace, as
+     * defined by {@link String#trim()}, or {@code start} if there is none.
+     */
+    private int trimEnd(int start, int end) {
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
     }
 }
@@ -0,0 +1,196 @@
+package jarvis.logic.parser;
+
+import static jarvis.commons.core.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static jarvis.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import jarvis.logic.commands.Command;
+import jarvis.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words to the parsers of their commands.
+ * A command word can be abbreviated to any start of it that no other command word starts with, e.g. {@code addst}
+ * for {@code addstudent}, unless it is registered to be typed in full. The command words are stored in a trie,
+ * which finds the command word of an abbreviation by reading each of its characters once.
+ * The parser of each command is only created when the command is first parsed, and is reused after that, so
+ * parsers must not keep any state between parses. Commands that are never used are never loaded.
+ */
+public class CommandRegistry {
+
+    private final Node root = new Node();
+
+    /**
+     * Registers the parser created by {@code parserFactory} as the parser of the command {@code commandWord}.
+     * The command word can be abbreviated.
+     * {@code parserFactory} should not refer to the classes of the command or its parser until it is called, so
+     * that they are only loaded when the command is first parsed.
+     */
+    public void register(String commandWord, Supplier<Parser<? extends Command>> parserFactory) {
+        register(commandWord, parserFactory, true);
+    }
+
+    /**
+     * Registers the parser created by {@code parserFactory} as the parser of the command {@code commandWord}, which
+     * must be typed in full, such as for commands that are hard to recover from when typed by mistake.
+     */
+    public void registerWithoutAbbreviation(String commandWord, Supplier<Parser<? extends Command>> parserFactory) {
+        register(commandWord, parserFactory, false);
+    }
+
+    private void register(String commandWord, Supplier<Parser<? extends Command>> parserFactory,
+                          boolean isAbbreviable) {
+        requireAllNonNull(commandWord, parserFactory);
+        assert !commandWord.isEmpty() && (findNode(commandWord) == null || findNode(commandWord).entry == null);
+
+        Entry entry = new Entry(commandWord, parserFactory, isAbbreviable);
+        Node node = root;
+        node.addEntryBelow(entry);
+        for (int i = 0; i < commandWord.length(); i++) {
+            node = node.getOrCreateChild(commandWord.charAt(i));
+            node.addEntryBelow(entry);
+        }
+        node.entry = entry;
+    }
+
+    /**
+     * Returns the parser of the command with the command word {@code commandWordOrAbbreviation}, or of the only
+     * command whose command word starts with it.
+     *
+     * @throws ParseException if there is no such command, or if more than one command word starts with
+     *     {@code commandWordOrAbbreviation}.
+     */
+    public Parser<? extends Command> getParser(String commandWordOrAbbreviation) throws ParseException {
+        requireNonNull(commandWordOrAbbreviation);
+        Node node = findNode(commandWordOrAbbreviation);
+        if (node == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        if (node.entry != null) {
+            return node.entry.getParser();
+        }
+        if (node.onlyEntryBelow != null) {
+            if (!node.onlyEntryBelow.isAbbreviable) {
+                throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            }
+            return node.onlyEntryBelow.getParser();
+        }
+
+        List<String> candidates = new ArrayList<>();
+        node.collectCommandWords(candidates);
+        Collections.sort(candidates);
+        throw new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND, commandWordOrAbbreviation,
+                String.join(", ", candidates)));
+    }
+
+    /**
+     * Returns the command word that {@code commandWordOrAbbreviation} stands for, if it stands for exactly one.
+     */
+    public Optional<String> findCommandWord(String commandWordOrAbbreviation) {
+        requireNonNull(commandWordOrAbbreviation);
+        Node node = findNode(commandWordOrAbbreviation);
+        if (node == null) {
+            return Optional.empty();
+        }
+        if (node.entry != null) {
+            return Optional.of(node.entry.commandWord);
+        }
+        return Optional.ofNullable(node.onlyEntryBelow)
+                .filter(entry -> entry.isAbbreviable)
+                .map(entry -> entry.commandWord);
+    }
+
+    /**
+     * Returns the node reached by reading {@code word} from the root, or null if no command word starts with it.
+     */
+    private Node findNode(String word) {
+        if (word.isEmpty()) {
+            return null;
+        }
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.getChild(word.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * A registered command word and the parser of its command, which is created when it is first needed.
+     */
+    private static class Entry {
+        private final String commandWord;
+        private final Supplier<Parser<? extends Command>> parserFactory;
+        private final boolean isAbbreviable;
+        private Parser<? extends Command> parser;
+
+        Entry(String commandWord, Supplier<Parser<? extends Command>> parserFactory, boolean isAbbreviable) {
+            this.commandWord = commandWord;
+            this.parserFactory = parserFactory;
+            this.isAbbreviable = isAbbreviable;
+        }
+
+        Parser<? extends Command> getParser() {
+            if (parser == null) {
+                parser = parserFactory.get();
+            }
+            return parser;
+        }
+    }
+
+    /**
+     * A node of the trie, reached by reading the start of one or more command words.
+     * Nodes have a few children at most, so their children are searched in order.
+     */
+    private static class Node {
+        private char[] childChars = new char[0];
+        private Node[] children = new Node[0];
+        private Entry entry;
+        private Entry onlyEntryBelow;
+        private int entryCountBelow = 0;
+
+        Node getChild(char c) {
+            for (int i = 0; i < childChars.length; i++) {
+                if (childChars[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrCreateChild(char c) {
+            Node child = getChild(c);
+            if (child == null) {
+                child = new Node();
+                childChars = Arrays.copyOf(childChars, childChars.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                childChars[childChars.length - 1] = c;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+
+        /**
+         * Records that {@code entry} has a command word that starts with the characters read to reach this node.
+         */
+        void addEntryBelow(Entry entry) {
+            entryCountBelow++;
+            onlyEntryBelow = entryCountBelow == 1 ? entry : null;
+        }
+
+        void collectCommandWords(List<String> commandWords) {
+            if (entry != null) {
+                commandWords.add(entry.commandWord);
+            }
+            for (Node child : children) {
+                child.collectCommandWords(commandWords);
+            }
+        }
+    }
+}
@@ -16,14 +16,16 @@ import jarvis.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new DeleteNoteCommand object
  */
 public class DeleteNoteCommandParser implements Parser<DeleteNoteCommand> {
+
+    private static final PrefixMatcher PREFIX_MATCHER = new PrefixMatcher(PREFIX_NOTE_INDEX, PREFIX_LESSON_INDEX,
+            PREFIX_STUDENT_INDEX);
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteNoteCommand
      * and returns a DeleteNoteCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteNoteCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NOTE_INDEX, PREFIX_LESSON_INDEX,
-                PREFIX_STUDENT_INDEX);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MATCHER);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NOTE_INDEX, PREFIX_LESSON_INDEX)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -2,7 +2,7 @@ package jarvis.logic.parser;
 
 import static jarvis.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.commands.DeleteStudentCommand;
 import jarvis.logic.parser.exceptions.ParseException;
 
@@ -18,8 +18,8 @@ public class DeleteStudentCommandParser implements Parser<DeleteStudentCommand>
      */
     public DeleteStudentCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DeleteStudentCommand(index);
+            IndexSet indexes = ParserUtil.parseIndexes(args);
+            return new DeleteStudentCommand(indexes);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteStudentCommand.MESSAGE_USAGE), pe);
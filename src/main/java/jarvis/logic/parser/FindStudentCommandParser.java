@@ -2,7 +2,10 @@ package jarvis.logic.parser;
 
 import static jarvis.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import jarvis.logic.commands.FindStudentCommand;
 import jarvis.logic.parser.exceptions.ParseException;
@@ -29,4 +32,26 @@ public class FindStudentCommandParser implements Parser<FindStudentCommand> {
 
         return new FindStudentCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
+
+    /**
+     * Parses the arguments of a FindCommand that is still being typed into the predicate of the students it would
+     * find so far, or an empty Optional if no keywords have been typed yet.
+     * The last keyword is matched as the start of a word, unless it is followed by whitespace, as it may not have
+     * been typed in full yet.
+     */
+    public static Optional<NameContainsKeywordsPredicate> parsePartial(String args) {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<String> nameKeywords = new ArrayList<>(Arrays.asList(trimmedArgs.split("\\s+")));
+        int lastIndex = nameKeywords.size() - 1;
+        String lastKeyword = nameKeywords.get(lastIndex);
+        boolean isLastKeywordComplete = Character.isWhitespace(args.charAt(args.length() - 1));
+        if (!isLastKeywordComplete && !lastKeyword.endsWith(NameContainsKeywordsPredicate.PREFIX_WILDCARD)) {
+            nameKeywords.set(lastIndex, lastKeyword + NameContainsKeywordsPredicate.PREFIX_WILDCARD);
+        }
+        return Optional.of(new NameContainsKeywordsPredicate(nameKeywords));
+    }
 }
@@ -11,7 +11,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.stream.Stream;
 
-import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.commands.GradeCommand;
 import jarvis.logic.parser.exceptions.ParseException;
 import jarvis.model.Assessment;
@@ -22,6 +22,9 @@ import jarvis.model.GradeProfile;
  */
 public class GradeCommandParser implements Parser<GradeCommand> {
 
+    private static final PrefixMatcher PREFIX_MATCHER = new PrefixMatcher(PREFIX_RA1, PREFIX_RA2, PREFIX_MIDTERM,
+            PREFIX_PRACTICAL_ASST, PREFIX_FINAL_ASST, PREFIX_STUDIO_ATTENDANCE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the MasteryCheckCommand
      * and returns a MasteryCheckCommand object for execution.
@@ -29,19 +32,17 @@ public class GradeCommandParser implements Parser<GradeCommand> {
      */
     public GradeCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_RA1, PREFIX_RA2, PREFIX_MIDTERM,
-                        PREFIX_PRACTICAL_ASST, PREFIX_FINAL_ASST, PREFIX_STUDIO_ATTENDANCE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MATCHER);
 
         if (!anyPrefixesPresent(argMultimap, PREFIX_RA1, PREFIX_RA2, PREFIX_MIDTERM, PREFIX_PRACTICAL_ASST,
                 PREFIX_FINAL_ASST, PREFIX_STUDIO_ATTENDANCE) || argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GradeCommand.MESSAGE_USAGE));
         }
 
-        Index index;
+        IndexSet indexes;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            indexes = ParserUtil.parseIndexes(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GradeCommand.MESSAGE_USAGE),
                     pe);
@@ -71,7 +72,7 @@ public class GradeCommandParser implements Parser<GradeCommand> {
                     Assessment.STUDIO_ATTENDANCE));
         }
 
-        return new GradeCommand(index, gp);
+        return new GradeCommand(indexes, gp);
     }
 
     /**
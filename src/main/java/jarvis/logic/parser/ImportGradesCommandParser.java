@@ -0,0 +1,41 @@
+package jarvis.logic.parser;
+
+import static jarvis.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import jarvis.logic.commands.ImportGradesCommand;
+import jarvis.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportGradesCommand object
+ */
+public class ImportGradesCommandParser implements Parser<ImportGradesCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportGradesCommand
+     * and returns an ImportGradesCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportGradesCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportGradesCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(trimmedArgs);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportGradesCommand.MESSAGE_USAGE), ipe);
+        }
+        return new ImportGradesCommand(filePath);
+    }
+
+}
@@ -1,8 +1,8 @@
 package jarvis.logic.parser;
 
 import static jarvis.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static jarvis.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -24,6 +24,7 @@ import jarvis.logic.commands.ExitCommand;
 import jarvis.logic.commands.FindStudentCommand;
 import jarvis.logic.commands.GradeCommand;
 import jarvis.logic.commands.HelpCommand;
+import jarvis.logic.commands.ImportGradesCommand;
 import jarvis.logic.commands.ListAllCommand;
 import jarvis.logic.commands.ListLessonCommand;
 import jarvis.logic.commands.ListStudentCommand;
@@ -32,6 +33,8 @@ import jarvis.logic.commands.MarkLessonCommand;
 import jarvis.logic.commands.MarkStudentCommand;
 import jarvis.logic.commands.MarkTaskCommand;
 import jarvis.logic.commands.MasteryCheckCommand;
+import jarvis.logic.commands.RedoCommand;
+import jarvis.logic.commands.UndoCommand;
 import jarvis.logic.commands.UnmarkLessonCommand;
 import jarvis.logic.commands.UnmarkStudentCommand;
 import jarvis.logic.commands.UnmarkTaskCommand;
@@ -39,6 +42,8 @@ import jarvis.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * Commands are looked up in a {@code CommandRegistry}, so their command words can be abbreviated and their parsers
+ * are only loaded when they are first used.
  */
 public class JarvisParser {
 
@@ -47,6 +52,8 @@ public class JarvisParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private static final CommandRegistry COMMAND_REGISTRY = createCommandRegistry();
+
     /**
      * Parses user input into command for execution.
      *
@@ -62,95 +69,57 @@ public class JarvisParser {
 
         final String commandWord = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddStudentCommand.COMMAND_WORD:
-            return new AddStudentCommandParser().parse(arguments);
-
-        case AddTaskCommand.COMMAND_WORD:
-            return new AddTaskCommandParser().parse(arguments);
-
-        case AddMasteryCheckCommand.COMMAND_WORD:
-            return new AddMasteryCheckCommandParser().parse(arguments);
-
-        case AddStudioCommand.COMMAND_WORD:
-            return new AddStudioCommandParser().parse(arguments);
-
-        case AddConsultCommand.COMMAND_WORD:
-            return new AddConsultCommandParser().parse(arguments);
-
-        case AddNoteCommand.COMMAND_WORD:
-            return new AddNoteCommandParser().parse(arguments);
-
-        case AddParticipationCommand.COMMAND_WORD:
-            return new AddParticipationCommandParser().parse(arguments);
-
-        case EditStudentCommand.COMMAND_WORD:
-            return new EditStudentCommandParser().parse(arguments);
-
-        case DeleteStudentCommand.COMMAND_WORD:
-            return new DeleteStudentCommandParser().parse(arguments);
-
-        case DeleteTaskCommand.COMMAND_WORD:
-            return new DeleteTaskCommandParser().parse(arguments);
-
-        case DeleteLessonCommand.COMMAND_WORD:
-            return new DeleteLessonCommandParser().parse(arguments);
-
-        case DeleteNoteCommand.COMMAND_WORD:
-            return new DeleteNoteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindStudentCommand.COMMAND_WORD:
-            return new FindStudentCommandParser().parse(arguments);
-
-        case GradeCommand.COMMAND_WORD:
-            return new GradeCommandParser().parse(arguments);
-
-        case ListStudentCommand.COMMAND_WORD:
-            return new ListStudentCommand();
-
-        case ListTaskCommand.COMMAND_WORD:
-            return new ListTaskCommand();
-
-        case ListLessonCommand.COMMAND_WORD:
-            return new ListLessonCommand();
-
-        case ListAllCommand.COMMAND_WORD:
-            return new ListAllCommand();
-
-        case MasteryCheckCommand.COMMAND_WORD:
-            return new MasteryCheckCommandParser().parse(arguments);
-
-        case MarkTaskCommand.COMMAND_WORD:
-            return new MarkTaskCommandParser().parse(arguments);
-
-        case MarkStudentCommand.COMMAND_WORD:
-            return new MarkStudentCommandParser().parse(arguments);
-
-        case MarkLessonCommand.COMMAND_WORD:
-            return new MarkLessonCommandParser().parse(arguments);
-
-        case UnmarkTaskCommand.COMMAND_WORD:
-            return new UnmarkTaskCommandParser().parse(arguments);
-
-        case UnmarkStudentCommand.COMMAND_WORD:
-            return new UnmarkStudentCommandParser().parse(arguments);
-
-        case UnmarkLessonCommand.COMMAND_WORD:
-            return new UnmarkLessonCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+        return COMMAND_REGISTRY.getParser(commandWord).parse(arguments);
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    /**
+     * Returns the command word that {@code commandWordOrAbbreviation} stands for, if it stands for exactly one
+     * command.
+     */
+    public Optional<String> findCommandWord(String commandWordOrAbbreviation) {
+        return COMMAND_REGISTRY.findCommandWord(commandWordOrAbbreviation);
+    }
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+    /**
+     * Creates the registry of all commands.
+     * The parsers are created in lambdas instead of with constructor references, as constructor references load the
+     * classes of the parsers as soon as they are registered.
+     */
+    private static CommandRegistry createCommandRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddStudentCommand.COMMAND_WORD, () -> new AddStudentCommandParser());
+        registry.register(AddTaskCommand.COMMAND_WORD, () -> new AddTaskCommandParser());
+        registry.register(AddMasteryCheckCommand.COMMAND_WORD, () -> new AddMasteryCheckCommandParser());
+        registry.register(AddStudioCommand.COMMAND_WORD, () -> new AddStudioCommandParser());
+        registry.register(AddConsultCommand.COMMAND_WORD, () -> new AddConsultCommandParser());
+        registry.register(AddNoteCommand.COMMAND_WORD, () -> new AddNoteCommandParser());
+        registry.register(AddParticipationCommand.COMMAND_WORD, () -> new AddParticipationCommandParser());
+        registry.register(EditStudentCommand.COMMAND_WORD, () -> new EditStudentCommandParser());
+        registry.register(DeleteStudentCommand.COMMAND_WORD, () -> new DeleteStudentCommandParser());
+        registry.register(DeleteTaskCommand.COMMAND_WORD, () -> new DeleteTaskCommandParser());
+        registry.register(DeleteLessonCommand.COMMAND_WORD, () -> new DeleteLessonCommandParser());
+        registry.register(DeleteNoteCommand.COMMAND_WORD, () -> new DeleteNoteCommandParser());
+        // clearing all data by mistake is too easy with an abbreviation
+        registry.registerWithoutAbbreviation(ClearCommand.COMMAND_WORD, () -> arguments -> new ClearCommand());
+        registry.register(FindStudentCommand.COMMAND_WORD, () -> new FindStudentCommandParser());
+        registry.register(GradeCommand.COMMAND_WORD, () -> new GradeCommandParser());
+        registry.register(ImportGradesCommand.COMMAND_WORD, () -> new ImportGradesCommandParser());
+        registry.register(ListStudentCommand.COMMAND_WORD, () -> arguments -> new ListStudentCommand());
+        registry.register(ListTaskCommand.COMMAND_WORD, () -> arguments -> new ListTaskCommand());
+        registry.register(ListLessonCommand.COMMAND_WORD, () -> arguments -> new ListLessonCommand());
+        registry.register(ListAllCommand.COMMAND_WORD, () -> arguments -> new ListAllCommand());
+        registry.register(MasteryCheckCommand.COMMAND_WORD, () -> new MasteryCheckCommandParser());
+        registry.register(MarkTaskCommand.COMMAND_WORD, () -> new MarkTaskCommandParser());
+        registry.register(MarkStudentCommand.COMMAND_WORD, () -> new MarkStudentCommandParser());
+        registry.register(MarkLessonCommand.COMMAND_WORD, () -> new MarkLessonCommandParser());
+        registry.register(UnmarkTaskCommand.COMMAND_WORD, () -> new UnmarkTaskCommandParser());
+        registry.register(UnmarkStudentCommand.COMMAND_WORD, () -> new UnmarkStudentCommandParser());
+        registry.register(UnmarkLessonCommand.COMMAND_WORD, () -> new UnmarkLessonCommandParser());
+        registry.register(UndoCommand.COMMAND_WORD, () -> arguments -> new UndoCommand());
+        registry.register(RedoCommand.COMMAND_WORD, () -> arguments -> new RedoCommand());
+        registry.register(ExitCommand.COMMAND_WORD, () -> arguments -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, () -> arguments -> new HelpCommand());
+        return registry;
     }
 
 }
@@ -7,6 +7,7 @@ import static jarvis.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
 import java.util.stream.Stream;
 
 import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.commands.MarkStudentCommand;
 import jarvis.logic.parser.exceptions.ParseException;
 
@@ -14,13 +15,15 @@ import jarvis.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new MarkStudentCommand object
  */
 public class MarkStudentCommandParser implements Parser<MarkStudentCommand> {
+
+    private static final PrefixMatcher PREFIX_MATCHER = new PrefixMatcher(PREFIX_LESSON_INDEX, PREFIX_STUDENT_INDEX);
     /**
      * Parses the given {@code String} of arguments in the context of the MarkStudentCommand
      * and returns a MarkStudentCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public MarkStudentCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LESSON_INDEX, PREFIX_STUDENT_INDEX);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MATCHER);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_LESSON_INDEX, PREFIX_STUDENT_INDEX)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -28,9 +31,9 @@ public class MarkStudentCommandParser implements Parser<MarkStudentCommand> {
         }
 
         Index lessonIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_LESSON_INDEX).get());
-        Index studentIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_STUDENT_INDEX).get());
+        IndexSet studentIndexes = ParserUtil.parseIndexes(argMultimap.getValue(PREFIX_STUDENT_INDEX).get());
 
-        return new MarkStudentCommand(lessonIndex, studentIndex);
+        return new MarkStudentCommand(lessonIndex, studentIndexes);
     }
 
     /**
@@ -2,7 +2,7 @@ package jarvis.logic.parser;
 
 import static jarvis.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.commands.MarkTaskCommand;
 import jarvis.logic.parser.exceptions.ParseException;
 
@@ -17,8 +17,8 @@ public class MarkTaskCommandParser implements Parser<MarkTaskCommand> {
      */
     public MarkTaskCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new MarkTaskCommand(index);
+            IndexSet indexes = ParserUtil.parseIndexes(args);
+            return new MarkTaskCommand(indexes);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkTaskCommand.MESSAGE_USAGE), pe);
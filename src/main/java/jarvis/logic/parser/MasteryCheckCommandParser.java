@@ -17,6 +17,8 @@ import jarvis.model.Assessment;
  */
 public class MasteryCheckCommandParser implements Parser<MasteryCheckCommand> {
 
+    private static final PrefixMatcher PREFIX_MATCHER = new PrefixMatcher(PREFIX_MC_NUM, PREFIX_MC_RES);
+
     /**
      * Parses the given {@code String} of arguments in the context of the MasteryCheckCommand
      * and returns a MasteryCheckCommand object for execution.
@@ -24,7 +26,7 @@ public class MasteryCheckCommandParser implements Parser<MasteryCheckCommand> {
      */
     public MasteryCheckCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MC_NUM, PREFIX_MC_RES);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MATCHER);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_MC_NUM, PREFIX_MC_RES) || argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MasteryCheckCommand.MESSAGE_USAGE));
@@ -12,6 +12,7 @@ import java.util.Set;
 
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.commons.util.StringUtil;
 import jarvis.logic.parser.exceptions.ParseException;
 import jarvis.model.Assessment;
@@ -28,12 +29,17 @@ import jarvis.model.TimePeriod;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "The first index of a range cannot be greater than "
+            + "the last.";
     public static final String MESSAGE_INVALID_MARK_FORMAT = "Mark has to be a non-negative number.";
     public static final String MESSAGE_INVALID_MARK_VALUE = "Mark cannot be greater than the total mark"
                                                             + " for the assessment.";
     public static final String MESSAGE_INVALID_MCNUM = "Mastery check number has to be 1 or 2.";
     public static final String MESSAGE_INVALID_MCRESULT = "Mastery check result has to be \"PASS\" or \"FAIL\"";
 
+    /** The argument that selects every index in a list. */
+    public static final String INDEXES_ALL = "all";
+
     public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
@@ -50,6 +56,38 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes} into an {@code IndexSet} and returns it. The indexes are given as a
+     * comma-separated list of indexes and ranges of indexes, such as {@code 1,3,5-12}, or as {@code all} for every
+     * index. Whitespace around each index will be trimmed.
+     * @throws ParseException if any index is invalid (not non-zero unsigned integer), or any range ends before it
+     *     starts.
+     */
+    public static IndexSet parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        if (oneBasedIndexes.trim().equalsIgnoreCase(INDEXES_ALL)) {
+            return IndexSet.all();
+        }
+
+        IndexSet indexes = null;
+        for (String part : oneBasedIndexes.split(",", -1)) {
+            String[] bounds = part.split("-", -1);
+            IndexSet partIndexes;
+            if (bounds.length == 2) {
+                Index first = parseIndex(bounds[0]);
+                Index last = parseIndex(bounds[1]);
+                if (first.getZeroBased() > last.getZeroBased()) {
+                    throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+                }
+                partIndexes = IndexSet.range(first, last);
+            } else {
+                partIndexes = IndexSet.of(parseIndex(part));
+            }
+            indexes = indexes == null ? partIndexes : indexes.union(partIndexes);
+        }
+        return indexes;
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -169,7 +207,7 @@ public class ParserUtil {
             throw new ParseException(MESSAGE_INVALID_MARK_FORMAT);
         }
 
-        if (value < 0) {
+        if (Double.isNaN(value) || value < 0) {
             throw new ParseException(MESSAGE_INVALID_MARK_FORMAT);
         }
         return value;
@@ -0,0 +1,126 @@
+package jarvis.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * Matches the prefixes of a command in an arguments string.
+ * The prefixes are numbered by their position in the order they were given, which is their ordinal, and are
+ * stored in a trie so that all of them can be matched at a position by reading each character once.
+ * A matcher does not change once it is created, so each command parser creates its matcher once and reuses it.
+ */
+public class PrefixMatcher {
+
+    /** The ordinal returned when no prefix matches. */
+    public static final int NO_MATCH = -1;
+
+    private static final int ROOT = 0;
+
+    private final Prefix[] prefixes;
+
+    // the trie, with the characters leading out of each state and the states they lead to
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] matchedOrdinals;
+
+    /**
+     * Creates a matcher for {@code prefixes}. Empty prefixes are never matched.
+     * If a prefix is given more than once, the first ordinal it is given with is matched.
+     */
+    public PrefixMatcher(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        this.prefixes = prefixes.clone();
+
+        int maxStateCount = 1 + Arrays.stream(prefixes).mapToInt(prefix -> prefix.getPrefix().length()).sum();
+        char[][] chars = new char[maxStateCount][0];
+        int[][] targets = new int[maxStateCount][0];
+        int[] ordinals = new int[maxStateCount];
+        Arrays.fill(ordinals, NO_MATCH);
+
+        int stateCount = 1;
+        for (int ordinal = 0; ordinal < prefixes.length; ordinal++) {
+            String prefix = prefixes[ordinal].getPrefix();
+            if (prefix.isEmpty()) {
+                continue;
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < prefix.length(); i++) {
+                char c = prefix.charAt(i);
+                int next = findTransition(chars[state], targets[state], c);
+                if (next == NO_MATCH) {
+                    next = stateCount++;
+                    int transitionCount = chars[state].length;
+                    chars[state] = Arrays.copyOf(chars[state], transitionCount + 1);
+                    targets[state] = Arrays.copyOf(targets[state], transitionCount + 1);
+                    chars[state][transitionCount] = c;
+                    targets[state][transitionCount] = next;
+                }
+                state = next;
+            }
+            if (ordinals[state] == NO_MATCH) {
+                ordinals[state] = ordinal;
+            }
+        }
+
+        transitionChars = Arrays.copyOf(chars, stateCount);
+        transitionTargets = Arrays.copyOf(targets, stateCount);
+        matchedOrdinals = Arrays.copyOf(ordinals, stateCount);
+    }
+
+    /**
+     * Returns the number of prefixes matched, which is one more than the largest ordinal.
+     */
+    public int getPrefixCount() {
+        return prefixes.length;
+    }
+
+    public Prefix getPrefix(int ordinal) {
+        return prefixes[ordinal];
+    }
+
+    /**
+     * Returns the ordinal of {@code prefix}, or {@link #NO_MATCH} if it is not one of the prefixes matched.
+     */
+    public int getOrdinal(Prefix prefix) {
+        for (int ordinal = 0; ordinal < prefixes.length; ordinal++) {
+            if (prefixes[ordinal].equals(prefix)) {
+                return ordinal;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Returns the ordinal of the longest prefix that {@code argsString} contains starting at {@code start}, or
+     * {@link #NO_MATCH} if it does not contain any of the prefixes there.
+     */
+    public int matchAt(String argsString, int start) {
+        int matched = NO_MATCH;
+        int state = ROOT;
+        for (int i = start; i < argsString.length(); i++) {
+            state = findTransition(transitionChars[state], transitionTargets[state], argsString.charAt(i));
+            if (state == NO_MATCH) {
+                break;
+            }
+            if (matchedOrdinals[state] != NO_MATCH) {
+                matched = matchedOrdinals[state];
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Returns the state that the transition for {@code c} leads to, or {@link #NO_MATCH} if there is none.
+     * States have a few transitions at most, so they are searched in order.
+     */
+    private static int findTransition(char[] chars, int[] targets, char c) {
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == c) {
+                return targets[i];
+            }
+        }
+        return NO_MATCH;
+    }
+}
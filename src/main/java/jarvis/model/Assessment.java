@@ -1,5 +1,7 @@
 package jarvis.model;
 
+import java.util.Optional;
+
 /**
  * Represents a graded assessment in the CS1101S curriculum.
  */
@@ -28,6 +30,22 @@ public enum Assessment {
         this.name = name;
     }
 
+    /**
+     * Returns the assessment with the given name, ignoring case, if there is one.
+     */
+    public static Optional<Assessment> fromName(String name) {
+        for (Assessment assessment : values()) {
+            if (assessment.name.equalsIgnoreCase(name)) {
+                return Optional.of(assessment);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String getName() {
+        return name;
+    }
+
     public int getTotalMarks() {
         switch(name) {
         case "mc1":
@@ -20,6 +20,15 @@ public class Consult extends Lesson {
         super(lessonDesc, timePeriod, students, attendance, notes);
     }
 
+    private Consult(Consult toCopy) {
+        super(toCopy);
+    }
+
+    @Override
+    public Consult copy() {
+        return new Consult(this);
+    }
+
     /**
      * Returns true if both Consults have the same description,
      * occur at the same time and are attended by the same students.
@@ -35,6 +44,9 @@ public class Consult extends Lesson {
         }
 
         Consult otherConsult = (Consult) other;
+        if (otherConsult.hashCode() != hashCode()) {
+            return false;
+        }
 
         boolean consultDescEquality;
         if (hasDesc()) {
@@ -46,12 +58,12 @@ public class Consult extends Lesson {
                 && otherConsult.startDateTime().equals(startDateTime())
                 && otherConsult.endDateTime().equals(endDateTime())
                 && otherConsult.getStudentList().equals(getStudentList())
-                && otherConsult.getAttendance().equals(getAttendance());
+                && otherConsult.hasSameAttendance(this);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getDesc(), getTimePeriod(), getAttendance());
+        return getCachedHashCode(() -> Objects.hash(getDesc(), getTimePeriod(), getAttendanceHashCode()));
     }
 
     @Override
@@ -43,6 +43,15 @@ public class GradeProfile {
         }
     }
 
+    /**
+     * Returns a copy of this grade profile that can be modified without changing this grade profile.
+     */
+    public GradeProfile copy() {
+        GradeProfile copy = new GradeProfile();
+        copy.updateGrades(this);
+        return copy;
+    }
+
     public EnumMap<Assessment, GradeComponent> getGradeMap() {
         return gradeMap.clone();
     }
@@ -5,19 +5,24 @@ import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.IntSupplier;
 
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
 import jarvis.logic.commands.exceptions.CommandException;
+import jarvis.model.exceptions.NoStudentsInLessonException;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 /**
  * Represents a Lesson in JARVIS.
+ * The students of the lesson are kept in a {@code Roster}, and their attendance, notes and participation are kept
+ * in columns indexed by the positions of the students in the roster.
  * Guarantees: details are present and not null.
  */
 public abstract class Lesson implements Comparable<Lesson> {
@@ -25,14 +30,18 @@ public abstract class Lesson implements Comparable<Lesson> {
     // Identity fields
     private final LessonDesc lessonDesc;
     private final TimePeriod timePeriod;
-    private final ArrayList<Student> studentList;
-    private final ObservableList<Student> observableStudentList;
+    private Roster roster;
+    private ObservableList<Student> observableStudentList;
 
     // Data fields
-    private final LessonAttendance attendance;
-    private final LessonNotes notes;
+    private LessonAttendance attendance;
+    private LessonNotes notes;
     private boolean isCompleted = false;
-    private boolean hasClash = false;
+    private final ReadOnlyBooleanWrapper hasClash = new ReadOnlyBooleanWrapper(false);
+
+    private LessonKey identityKey;
+    private int hashCode;
+    private boolean isHashCodeCached = false;
 
     /**
      * Every field must be present and not null.
@@ -41,10 +50,9 @@ public abstract class Lesson implements Comparable<Lesson> {
         requireAllNonNull(timePeriod, students);
         this.lessonDesc = lessonDesc;
         this.timePeriod = timePeriod;
-        this.studentList = new ArrayList<>(students);
-        this.observableStudentList = FXCollections.observableArrayList(studentList);
-        this.attendance = new LessonAttendance(students);
-        this.notes = new LessonNotes(students);
+        this.roster = new Roster(students);
+        this.attendance = LessonAttendance.createFor(roster);
+        this.notes = LessonNotes.createFor(roster);
     }
 
     /**
@@ -60,12 +68,31 @@ public abstract class Lesson implements Comparable<Lesson> {
 
         this.lessonDesc = lessonDesc;
         this.timePeriod = timePeriod;
-        this.studentList = new ArrayList<>(students);
-        this.observableStudentList = FXCollections.observableArrayList(studentList);
-        this.attendance = attendance;
-        this.notes = notes;
+        this.roster = new Roster(students);
+        this.attendance = attendance.alignTo(roster);
+        this.notes = notes.alignTo(roster);
     }
 
+    /**
+     * Creates a copy of {@code toCopy} with the same students, whose attendance, notes and completion can be
+     * modified without changing {@code toCopy}. The copy shares the roster of {@code toCopy}.
+     */
+    protected Lesson(Lesson toCopy) {
+        this.lessonDesc = toCopy.lessonDesc;
+        this.timePeriod = toCopy.timePeriod;
+        this.roster = toCopy.roster;
+        this.attendance = toCopy.attendance.copy();
+        this.notes = toCopy.notes.copy();
+        this.isCompleted = toCopy.isCompleted;
+        this.hasClash.set(toCopy.hasClash.get());
+    }
+
+    /**
+     * Returns a copy of this lesson that can be modified without changing this lesson.
+     * The copy refers to the same students as this lesson.
+     */
+    public abstract Lesson copy();
+
     public LocalDateTime startDateTime() {
         return timePeriod.getStart();
     }
@@ -75,7 +102,14 @@ public abstract class Lesson implements Comparable<Lesson> {
     }
 
     public boolean hasTimingConflict() {
-        return hasClash;
+        return hasClash.get();
+    }
+
+    /**
+     * Returns a property that is true while this lesson is marked as clashing with another lesson.
+     */
+    public ReadOnlyBooleanProperty clashProperty() {
+        return hasClash.getReadOnlyProperty();
     }
 
     public boolean hasTimingConflict(Lesson other) {
@@ -84,32 +118,75 @@ public abstract class Lesson implements Comparable<Lesson> {
 
     public Student getStudent(Index studentIndex) throws CommandException {
         int index = studentIndex.getZeroBased();
-        if (index >= studentList.size()) {
+        if (index >= roster.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
         }
-        return studentList.get(index);
+        return roster.get(index);
     }
 
+    /**
+     * Returns an unmodifiable view of the students in this lesson, in order.
+     */
     public List<Student> getStudentList() {
-        return studentList;
+        return roster.asList();
     }
 
+    /**
+     * Returns the students in this lesson as an observable list for the UI, which is only created when it is first
+     * needed.
+     */
     public ObservableList<Student> getObservableStudentList() {
+        if (observableStudentList == null) {
+            observableStudentList = FXCollections.observableArrayList(roster.asList());
+        }
         return observableStudentList;
     }
 
+    Roster getRoster() {
+        return roster;
+    }
+
     public boolean hasStudent(Student student) {
-        return studentList.contains(student);
+        return roster.indexOf(student) != Roster.NOT_IN_ROSTER;
     }
 
+    /**
+     * Replaces {@code targetStudent} with {@code editedStudent}, and sorts the students of this lesson by name.
+     */
     public void setStudent(Student targetStudent, Student editedStudent) {
-        if (studentList.contains(targetStudent)) {
+        if (hasStudent(targetStudent)) {
             attendance.setStudent(targetStudent, editedStudent);
             notes.setStudent(targetStudent, editedStudent);
-            studentList.remove(targetStudent);
-            studentList.add(editedStudent);
-            Collections.sort(studentList);
-            observableStudentList.setAll(studentList);
+            setRoster(roster.withStudent(targetStudent, editedStudent).sorted());
+        }
+    }
+
+    /**
+     * Removes {@code student} and their attendance and notes from this lesson.
+     *
+     * @throws NoStudentsInLessonException if {@code student} is the only student in this lesson.
+     */
+    public void removeStudent(Student student) {
+        if (!hasStudent(student)) {
+            return;
+        }
+        if (roster.size() == 1) {
+            throw new NoStudentsInLessonException();
+        }
+        setRoster(roster.without(student));
+    }
+
+    /**
+     * Replaces the roster of this lesson with {@code newRoster}, moving the details of each student to their
+     * position in it. Students who are not in {@code newRoster} are dropped with their details.
+     */
+    protected void setRoster(Roster newRoster) {
+        roster = newRoster;
+        attendance = attendance.alignTo(roster);
+        notes = notes.alignTo(roster);
+        invalidateHashCode();
+        if (observableStudentList != null) {
+            observableStudentList.setAll(roster.asList());
         }
     }
 
@@ -123,10 +200,12 @@ public abstract class Lesson implements Comparable<Lesson> {
 
     public void markAsPresent(Student student) {
         attendance.markAsPresent(student);
+        invalidateHashCode();
     }
 
     public void markAsAbsent(Student student) {
         attendance.markAsAbsent(student);
+        invalidateHashCode();
     }
 
     public void markAsCompleted() {
@@ -155,8 +234,8 @@ public abstract class Lesson implements Comparable<Lesson> {
 
     public Map<Integer, Boolean> getAttendance() {
         Map<Integer, Boolean> resMap = new TreeMap<>();
-        for (Student student : studentList) {
-            resMap.put(studentList.indexOf(student), attendance.isPresent(student));
+        for (int i = 0; i < roster.size(); i++) {
+            resMap.put(i, attendance.isPresent(i));
         }
         return resMap;
     }
@@ -183,14 +262,55 @@ public abstract class Lesson implements Comparable<Lesson> {
 
     public Map<Integer, ArrayList<String>> getStudentNotes() {
         TreeMap<Integer, ArrayList<String>> resMap = new TreeMap<>();
-        for (Student student: studentList) {
-            resMap.put(studentList.indexOf(student), notes.getStudentNotes(student));
+        for (int i = 0; i < roster.size(); i++) {
+            resMap.put(i, notes.getStudentNotes(i));
         }
         return resMap;
     }
 
     public abstract LessonType getLessonType();
 
+    /**
+     * Returns the key of this lesson, which equal lessons share.
+     */
+    public LessonKey getIdentityKey() {
+        if (identityKey == null) {
+            identityKey = new LessonKey(getLessonType(), timePeriod, lessonDesc);
+        }
+        return identityKey;
+    }
+
+    /**
+     * Returns true if the students of this lesson and {@code other} have the same attendance, given that both
+     * lessons have the same students in the same order.
+     */
+    protected boolean hasSameAttendance(Lesson other) {
+        return attendance.hasSamePresence(other.attendance);
+    }
+
+    protected int getAttendanceHashCode() {
+        return attendance.getPresenceHashCode();
+    }
+
+    /**
+     * Returns the hash code computed by {@code hashCodeFunction}, which is only computed again after this lesson is
+     * modified.
+     */
+    protected int getCachedHashCode(IntSupplier hashCodeFunction) {
+        if (!isHashCodeCached) {
+            hashCode = hashCodeFunction.getAsInt();
+            isHashCodeCached = true;
+        }
+        return hashCode;
+    }
+
+    /**
+     * Discards the cached hash code, after this lesson was modified in a way that changes it.
+     */
+    protected void invalidateHashCode() {
+        isHashCodeCached = false;
+    }
+
     public void addOverallNote(String overallNotes) {
         notes.addNote(overallNotes);
     }
@@ -208,11 +328,11 @@ public abstract class Lesson implements Comparable<Lesson> {
     }
 
     public void markClash() {
-        hasClash = true;
+        hasClash.set(true);
     }
 
     public void unmarkClash() {
-        hasClash = false;
+        hasClash.set(false);
     }
 
     @Override
@@ -1,34 +1,31 @@
 package jarvis.model;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 
 import jarvis.model.exceptions.NoStudentsInLessonException;
-import jarvis.model.exceptions.StudentNotFoundException;
 
 /**
  * Represents the attendance for a lesson in JARVIS.
+ * The attendance is stored as one bit for each student, at the position of the student in the roster.
  */
 public class LessonAttendance {
 
-    private final TreeMap<Student, Boolean> attendance;
+    private Roster roster;
+    private final BitSet present;
 
     /**
      * Creates the attendance list for a lesson.
      * @param students Students who are involved in the lesson.
      */
     public LessonAttendance(Collection<Student> students) {
+        this(new Roster(students), new BitSet(students.size()));
         if (students.size() == 0) {
             throw new NoStudentsInLessonException();
         }
-
-        attendance = new TreeMap<>();
-        for (Student stu : students) {
-            attendance.put(stu, false);
-        }
     }
 
     /**
@@ -38,11 +35,48 @@ public class LessonAttendance {
      * @param indexAttendanceMap The attendance data using student indexes to represent students in the studentList.
      */
     public LessonAttendance(List<Student> studentList, Map<Integer, Boolean> indexAttendanceMap) {
-        TreeMap<Student, Boolean> attendance = new TreeMap<>();
-        for (Integer i : indexAttendanceMap.keySet()) {
-            attendance.put(studentList.get(i), indexAttendanceMap.get(i));
+        this(new Roster(studentList), new BitSet(studentList.size()));
+        for (Map.Entry<Integer, Boolean> entry : indexAttendanceMap.entrySet()) {
+            present.set(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Creates the attendance list for a lesson with the students in {@code roster}, who are all absent.
+     */
+    static LessonAttendance createFor(Roster roster) {
+        if (roster.size() == 0) {
+            throw new NoStudentsInLessonException();
+        }
+        return new LessonAttendance(roster, new BitSet(roster.size()));
+    }
+
+    private LessonAttendance(Roster roster, BitSet present) {
+        this.roster = roster;
+        this.present = present;
+    }
+
+    /**
+     * Returns a copy of this attendance list that can be modified without changing this attendance list.
+     */
+    public LessonAttendance copy() {
+        return new LessonAttendance(roster, (BitSet) present.clone());
+    }
+
+    /**
+     * Returns this attendance list with the students in the positions of {@code otherRoster}.
+     * Students who are only in {@code otherRoster} are absent, and students who are not in it are dropped.
+     */
+    LessonAttendance alignTo(Roster otherRoster) {
+        if (roster.hasSameOrder(otherRoster)) {
+            roster = otherRoster;
+            return this;
         }
-        this.attendance = attendance;
+        BitSet alignedPresent = new BitSet(otherRoster.size());
+        for (int i = 0; i < otherRoster.size(); i++) {
+            alignedPresent.set(i, isPresent(otherRoster.get(i)));
+        }
+        return new LessonAttendance(otherRoster, alignedPresent);
     }
 
     /**
@@ -50,10 +84,7 @@ public class LessonAttendance {
      * @param student Student to mark as present.
      */
     public void markAsPresent(Student student) {
-        if (!attendance.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        attendance.put(student, true);
+        present.set(roster.positionOf(student));
     }
 
     /**
@@ -61,49 +92,66 @@ public class LessonAttendance {
      * @param student Student to mark as absent.
      */
     public void markAsAbsent(Student student) {
-        if (!attendance.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        attendance.put(student, false);
+        present.clear(roster.positionOf(student));
     }
 
     public boolean isPresent(Student student) {
-        return attendance.getOrDefault(student, false);
+        int position = roster.indexOf(student);
+        return position != Roster.NOT_IN_ROSTER && present.get(position);
+    }
+
+    /**
+     * Returns true if the student at {@code position} in the roster is present.
+     */
+    boolean isPresent(int position) {
+        return present.get(position);
+    }
+
+    /**
+     * Returns true if the students at the same positions of both rosters have the same attendance.
+     */
+    boolean hasSamePresence(LessonAttendance other) {
+        return present.equals(other.present);
+    }
+
+    /**
+     * Returns a hash code of the attendance of the students by position, consistent with
+     * {@link #hasSamePresence(LessonAttendance)}.
+     */
+    int getPresenceHashCode() {
+        return present.hashCode();
     }
 
     public Set<Student> getAllStudents() {
-        return attendance.keySet();
+        return roster.asSet();
     }
 
     public String getAllStudentsName() {
         StringBuilder studentsNameBuilder = new StringBuilder();
         studentsNameBuilder.append("Students: ");
-        Set<Student> students = getAllStudents();
-        assert !students.isEmpty();
+        assert roster.size() > 0;
 
-        for (Student student : students) {
-            studentsNameBuilder.append(student.getName() + ", ");
+        for (int position : roster.getSortedPositions()) {
+            studentsNameBuilder.append(roster.get(position).getName() + ", ");
         }
         studentsNameBuilder.deleteCharAt(studentsNameBuilder.length() - 2); //remove the last ','
         return studentsNameBuilder.toString();
     }
 
     public void setStudent(Student targetStudent, Student editedStudent) {
-        if (!attendance.containsKey(targetStudent)) {
+        if (roster.indexOf(targetStudent) == Roster.NOT_IN_ROSTER) {
             return;
         }
-        boolean b = attendance.get(targetStudent);
-        attendance.remove(targetStudent);
-        attendance.put(editedStudent, b);
+        roster = roster.withStudent(targetStudent, editedStudent);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("Attendance:\n");
-        for (Map.Entry<Student, Boolean> entry : attendance.entrySet()) {
-            sb.append(entry.getKey());
+        for (int position : roster.getSortedPositions()) {
+            sb.append(roster.get(position));
             sb.append(": ");
-            sb.append(entry.getValue() ? "PRESENT" : "ABSENT");
+            sb.append(present.get(position) ? "PRESENT" : "ABSENT");
             sb.append("\n");
         }
         return sb.toString();
@@ -120,11 +168,25 @@ public class LessonAttendance {
         }
 
         LessonAttendance otherLessonAttendance = (LessonAttendance) other;
-        return otherLessonAttendance.attendance.equals(attendance);
+        if (otherLessonAttendance.roster.size() != roster.size()) {
+            return false;
+        }
+        for (int i = 0; i < roster.size(); i++) {
+            int otherPosition = otherLessonAttendance.roster.indexOf(roster.get(i));
+            if (otherPosition == Roster.NOT_IN_ROSTER
+                    || otherLessonAttendance.present.get(otherPosition) != present.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return attendance.hashCode();
+        int hashCode = 0;
+        for (int i = 0; i < roster.size(); i++) {
+            hashCode += roster.get(i).hashCode() ^ Boolean.hashCode(present.get(i));
+        }
+        return hashCode;
     }
 }
@@ -2,7 +2,14 @@ package jarvis.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 
@@ -13,6 +20,7 @@ import javafx.collections.ObservableList;
 public class LessonBook implements ReadOnlyLessonBook {
 
     private final UniqueLessonList lessons;
+    private long modificationCount;
 
     {
         lessons = new UniqueLessonList();
@@ -36,6 +44,7 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void setLessons(List<? extends Lesson> lessons) {
         this.lessons.setLessons(lessons);
+        modificationCount++;
     }
 
     /**
@@ -63,6 +72,7 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void addLesson(Lesson p) {
         lessons.add(p);
+        modificationCount++;
     }
 
     /**
@@ -72,6 +82,13 @@ public class LessonBook implements ReadOnlyLessonBook {
         return lessons.hasPeriodClash(l);
     }
 
+    /**
+     * Returns the lessons in the lesson book that have a time period clash with {@code l}.
+     */
+    public List<Lesson> getClashingLessons(Lesson l) {
+        return lessons.getClashingLessons(l);
+    }
+
     /**
      * Replaces the given lesson {@code targetLesson} in the list with {@code editedLesson}.
      * {@code targetLesson} must exist in the lesson book.
@@ -82,6 +99,7 @@ public class LessonBook implements ReadOnlyLessonBook {
         requireNonNull(editedLesson);
 
         lessons.setLesson(targetLesson, editedLesson);
+        modificationCount++;
     }
 
     /**
@@ -90,16 +108,119 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void removeLesson(Lesson key) {
         lessons.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the lessons in the lesson book that have the student with the matriculation number {@code matricNum}.
+     */
+    public List<Lesson> getLessonsWithStudent(MatricNum matricNum) {
+        return lessons.getLessonsWithStudent(matricNum);
     }
 
+    /**
+     * Replaces {@code targetStudent} with {@code editedStudent} in every lesson, by replacing each affected lesson
+     * with a copy, so that earlier versions of the lesson book are left unchanged.
+     * Only the lessons of {@code targetStudent} are looked at.
+     */
     public void setStudent(Student targetStudent, Student editedStudent) {
-        for (Lesson l: lessons) {
-            if (!l.hasStudent(targetStudent)) {
-                continue;
+        for (Lesson l : lessons.getLessonsWithStudent(targetStudent.getMatricNum())) {
+            Lesson editedLesson = l.copy();
+            editedLesson.setStudent(targetStudent, editedStudent);
+            lessons.setLesson(l, editedLesson);
+            modificationCount++;
+        }
+    }
+
+    /**
+     * Replaces each student in the keys of {@code editedStudents} with its value in every lesson, replacing each
+     * affected lesson with a copy once.
+     * Lessons refer to the same student objects as the student book, so students that are replaced by themselves
+     * do not need to be updated.
+     */
+    public void setStudents(Map<Student, Student> editedStudents) {
+        requireNonNull(editedStudents);
+        Map<Student, Student> replacedStudents = new HashMap<>();
+        for (Map.Entry<Student, Student> entry : editedStudents.entrySet()) {
+            if (entry.getKey() != entry.getValue()) {
+                replacedStudents.put(entry.getKey(), entry.getValue());
             }
-            l.setStudent(targetStudent, editedStudent);
-            lessons.setLesson(l, l);
         }
+        if (replacedStudents.isEmpty()) {
+            return;
+        }
+
+        Set<Lesson> affectedLessons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Student student : replacedStudents.keySet()) {
+            affectedLessons.addAll(lessons.getLessonsWithStudent(student.getMatricNum()));
+        }
+        for (Lesson l : affectedLessons) {
+            Lesson editedLesson = l.copy();
+            for (Student student : l.getStudentList()) {
+                if (replacedStudents.containsKey(student)) {
+                    editedLesson.setStudent(student, replacedStudents.get(student));
+                }
+            }
+            lessons.setLesson(l, editedLesson);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code student} from every lesson, by replacing each affected lesson with a copy without the
+     * student. Lessons that {@code student} is the only student of are removed.
+     * Only the lessons of {@code student} are looked at.
+     *
+     * @return The lessons that were removed.
+     */
+    public List<Lesson> removeStudent(Student student) {
+        requireNonNull(student);
+        List<Lesson> removedLessons = new ArrayList<>();
+        for (Lesson l : lessons.getLessonsWithStudent(student.getMatricNum())) {
+            if (l.getStudentList().size() == 1) {
+                lessons.remove(l);
+                removedLessons.add(l);
+            } else {
+                Lesson editedLesson = l.copy();
+                editedLesson.removeStudent(student);
+                lessons.setLesson(l, editedLesson);
+            }
+            modificationCount++;
+        }
+        return removedLessons;
+    }
+
+    /**
+     * Removes the lessons in {@code toRemove} from this {@code LessonBook} and adds the lessons in
+     * {@code toAdd}, to bring it back to a version that it had before.
+     */
+    public void restoreLessons(Collection<Lesson> toRemove, Collection<Lesson> toAdd) {
+        lessons.restore(toRemove, toAdd);
+        modificationCount++;
+    }
+
+    /**
+     * Holds back the notifications of changes to the lesson list until {@link #endBatch()} is called, so that the
+     * changes made in between are reported as one.
+     */
+    public void beginBatch() {
+        lessons.beginBatch();
+    }
+
+    /**
+     * Reports the changes to the lesson list made since {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        lessons.endBatch();
+    }
+
+    /**
+     * Undoes the changes to the lesson list made since {@link #beginBatch()} and ends the batch, so that the
+     * changes are never reported on their own.
+     */
+    public void rollbackBatch() {
+        lessons.rollbackBatch();
+        modificationCount++;
     }
 
     //// util methods
@@ -114,6 +235,11 @@ public class LessonBook implements ReadOnlyLessonBook {
         return lessons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,58 @@
+package jarvis.model;
+
+import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Identifies a lesson in JARVIS by its type, time period and description, which do not change once the lesson is
+ * created. Equal lessons have equal keys, so a lesson only needs to be compared in full with the lessons that have
+ * the same key.
+ * Guarantees: immutable; the type and time period are present and not null.
+ */
+public class LessonKey {
+
+    private final LessonType lessonType;
+    private final TimePeriod timePeriod;
+    private final LessonDesc lessonDesc;
+    private final int hashCode;
+
+    /**
+     * Creates the key of a lesson of type {@code lessonType} during {@code timePeriod}, with the description
+     * {@code lessonDesc}, which may be null if the lesson has no description.
+     */
+    public LessonKey(LessonType lessonType, TimePeriod timePeriod, LessonDesc lessonDesc) {
+        requireAllNonNull(lessonType, timePeriod);
+        this.lessonType = lessonType;
+        this.timePeriod = timePeriod;
+        this.lessonDesc = lessonDesc;
+        this.hashCode = Objects.hash(lessonType, timePeriod, lessonDesc);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof LessonKey)) {
+            return false;
+        }
+
+        LessonKey otherKey = (LessonKey) other;
+        return otherKey.hashCode == hashCode
+                && otherKey.lessonType == lessonType
+                && otherKey.timePeriod.equals(timePeriod)
+                && Objects.equals(otherKey.lessonDesc, lessonDesc);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return lessonType + " at " + timePeriod + (lessonDesc == null ? "" : ": " + lessonDesc);
+    }
+}
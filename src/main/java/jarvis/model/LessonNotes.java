@@ -5,37 +5,31 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 
 import jarvis.model.exceptions.InvalidNoteException;
 import jarvis.model.exceptions.NoStudentsInLessonException;
 import jarvis.model.exceptions.NoteNotFoundException;
-import jarvis.model.exceptions.StudentNotFoundException;
 
 /**
  * Represents the notes for a lesson in JARVIS.
+ * The notes of each student are stored at the position of the student in the roster.
  */
 public class LessonNotes {
     public static final String GENERAL_NOTES_HEADER = "Lesson Notes:\n";
 
+    private Roster roster;
     private final ArrayList<String> generalNotes;
-    private final TreeMap<Student, ArrayList<String>> studentNotes;
+    private final ArrayList<ArrayList<String>> studentNotes;
 
     /**
      * Creates the notes for a lesson.
      * @param students Students who are involved in the lesson.
      */
     public LessonNotes(Collection<Student> students) {
+        this(new Roster(students), new ArrayList<>(), createEmptyStudentNotes(students.size()));
         if (students.size() == 0) {
             throw new NoStudentsInLessonException();
         }
-
-        generalNotes = new ArrayList<>();
-
-        studentNotes = new TreeMap<>();
-        for (Student stu : students) {
-            studentNotes.put(stu, new ArrayList<>());
-        }
     }
 
     /**
@@ -47,14 +41,64 @@ public class LessonNotes {
      */
     public LessonNotes(List<Student> studentList, ArrayList<String> generalNotes,
                        Map<Integer, ArrayList<String>> indexNotesMap) {
-        TreeMap<Student, ArrayList<String>> studentNotes = new TreeMap<>();
-        for (Integer i : indexNotesMap.keySet()) {
-            studentNotes.put(studentList.get(i), indexNotesMap.get(i));
+        this(new Roster(studentList), generalNotes, new ArrayList<>(studentList.size()));
+        for (int i = 0; i < studentList.size(); i++) {
+            studentNotes.add(indexNotesMap.getOrDefault(i, new ArrayList<>()));
         }
+    }
+
+    /**
+     * Creates the notes for a lesson with the students in {@code roster}, who have no notes yet.
+     */
+    static LessonNotes createFor(Roster roster) {
+        if (roster.size() == 0) {
+            throw new NoStudentsInLessonException();
+        }
+        return new LessonNotes(roster, new ArrayList<>(), createEmptyStudentNotes(roster.size()));
+    }
+
+    private LessonNotes(Roster roster, ArrayList<String> generalNotes, ArrayList<ArrayList<String>> studentNotes) {
+        this.roster = roster;
         this.generalNotes = generalNotes;
         this.studentNotes = studentNotes;
     }
 
+    private static ArrayList<ArrayList<String>> createEmptyStudentNotes(int studentCount) {
+        ArrayList<ArrayList<String>> studentNotes = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            studentNotes.add(new ArrayList<>());
+        }
+        return studentNotes;
+    }
+
+    /**
+     * Returns a copy of these notes that can be modified without changing these notes.
+     */
+    public LessonNotes copy() {
+        ArrayList<ArrayList<String>> studentNotesCopy = new ArrayList<>(studentNotes.size());
+        for (ArrayList<String> notes : studentNotes) {
+            studentNotesCopy.add(new ArrayList<>(notes));
+        }
+        return new LessonNotes(roster, new ArrayList<>(generalNotes), studentNotesCopy);
+    }
+
+    /**
+     * Returns these notes with the students in the positions of {@code otherRoster}.
+     * Students who are only in {@code otherRoster} have no notes, and students who are not in it are dropped.
+     */
+    LessonNotes alignTo(Roster otherRoster) {
+        if (roster.hasSameOrder(otherRoster)) {
+            roster = otherRoster;
+            return this;
+        }
+        ArrayList<ArrayList<String>> alignedStudentNotes = new ArrayList<>(otherRoster.size());
+        for (int i = 0; i < otherRoster.size(); i++) {
+            ArrayList<String> notes = getStudentNotes(otherRoster.get(i));
+            alignedStudentNotes.add(notes == null ? new ArrayList<>() : notes);
+        }
+        return new LessonNotes(otherRoster, generalNotes, alignedStudentNotes);
+    }
+
     /**
      * Adds on to the overall lesson notes.
      * @param notes Lines to append to the overall lesson notes.
@@ -75,10 +119,7 @@ public class LessonNotes {
         if (notes.isBlank()) {
             throw new InvalidNoteException("Note cannot be empty");
         }
-        if (!studentNotes.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        studentNotes.get(student).add(notes.strip());
+        studentNotes.get(roster.positionOf(student)).add(notes.strip());
     }
 
     /**
@@ -102,10 +143,7 @@ public class LessonNotes {
      * @return String of the deleted note.
      */
     public String deleteNote(Student student, int index) {
-        if (!studentNotes.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        ArrayList<String> specifiedStudentNotes = studentNotes.get(student);
+        ArrayList<String> specifiedStudentNotes = studentNotes.get(roster.positionOf(student));
         if (index >= specifiedStudentNotes.size()) {
             throw new NoteNotFoundException();
         }
@@ -113,37 +151,34 @@ public class LessonNotes {
     }
 
     public String getGeneralNotesString() {
-        StringBuilder formattedGeneralNotes = new StringBuilder(GENERAL_NOTES_HEADER);
-        int index = 0;
-        for (String generalNote: generalNotes) {
-            formattedGeneralNotes.append(++index + ". ");
-            formattedGeneralNotes.append(generalNote);
-            formattedGeneralNotes.append("\n");
-        }
-        return formattedGeneralNotes.toString();
+        return formatNotes(GENERAL_NOTES_HEADER, generalNotes);
     }
 
     public String getStudentNotesString(Student student) {
-        if (!studentNotes.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        StringBuilder formattedStudentNotes = new StringBuilder();
+        return formatNotes("", studentNotes.get(roster.positionOf(student)));
+    }
+
+    /**
+     * Returns {@code notes} numbered from 1, one on each line, after {@code header}.
+     */
+    public static String formatNotes(String header, List<String> notes) {
+        StringBuilder formattedNotes = new StringBuilder(header);
         int index = 0;
-        for (String studentNote: studentNotes.get(student)) {
-            formattedStudentNotes.append(++index + ". ");
-            formattedStudentNotes.append(studentNote);
-            formattedStudentNotes.append("\n");
+        for (String note : notes) {
+            formattedNotes.append(++index + ". ");
+            formattedNotes.append(note);
+            formattedNotes.append("\n");
         }
-        return formattedStudentNotes.toString();
+        return formattedNotes.toString();
     }
 
     public String getAllNotes() {
         StringBuilder formattedAllNotes = new StringBuilder(getGeneralNotesString());
         formattedAllNotes.append("\nNotes for individual students:\n");
-        for (Student student: studentNotes.keySet()) {
-            formattedAllNotes.append(student.toString());
+        for (int position : roster.getSortedPositions()) {
+            formattedAllNotes.append(roster.get(position).toString());
             formattedAllNotes.append(":\n");
-            formattedAllNotes.append(getStudentNotesString(student));
+            formattedAllNotes.append(formatNotes("", studentNotes.get(position)));
             formattedAllNotes.append("\n");
         }
         return formattedAllNotes.toString();
@@ -153,22 +188,30 @@ public class LessonNotes {
         return generalNotes;
     }
 
+    /**
+     * Returns the notes of {@code student}, or null if the student is not in the lesson.
+     */
     public ArrayList<String> getStudentNotes(Student student) {
-        return studentNotes.get(student);
+        int position = roster.indexOf(student);
+        return position == Roster.NOT_IN_ROSTER ? null : studentNotes.get(position);
+    }
+
+    /**
+     * Returns the notes of the student at {@code position} in the roster.
+     */
+    ArrayList<String> getStudentNotes(int position) {
+        return studentNotes.get(position);
     }
 
     public void setStudent(Student targetStudent, Student editedStudent) {
-        if (!studentNotes.containsKey(targetStudent)) {
+        if (roster.indexOf(targetStudent) == Roster.NOT_IN_ROSTER) {
             return;
         }
-        ArrayList<String> tempNotes = studentNotes.get(targetStudent);
-        assert tempNotes != null;
-        studentNotes.remove(targetStudent);
-        studentNotes.put(editedStudent, tempNotes);
+        roster = roster.withStudent(targetStudent, editedStudent);
     }
 
     public Set<Student> getAllStudents() {
-        return studentNotes.keySet();
+        return roster.asSet();
     }
 
     @Override
@@ -187,11 +230,24 @@ public class LessonNotes {
         }
 
         LessonNotes otherLessonNotes = (LessonNotes) other;
-        return otherLessonNotes.getAllNotes().equals(getAllNotes());
+        if (!otherLessonNotes.generalNotes.equals(generalNotes) || otherLessonNotes.roster.size() != roster.size()) {
+            return false;
+        }
+        for (int i = 0; i < roster.size(); i++) {
+            ArrayList<String> otherStudentNotes = otherLessonNotes.getStudentNotes(roster.get(i));
+            if (!studentNotes.get(i).equals(otherStudentNotes)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return getAllNotes().hashCode();
+        int hashCode = generalNotes.hashCode();
+        for (int i = 0; i < roster.size(); i++) {
+            hashCode += roster.get(i).hashCode() ^ studentNotes.get(i).hashCode();
+        }
+        return hashCode;
     }
 }
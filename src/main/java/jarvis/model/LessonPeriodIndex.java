@@ -0,0 +1,252 @@
+package jarvis.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An interval index of lessons keyed by their {@code TimePeriod}, used by {@code UniqueLessonList} to answer
+ * clash queries without scanning every lesson.
+ * Backed by an AVL tree ordered by start then end time, where every node also keeps the latest end time found
+ * in its subtree. A clash query therefore only descends into subtrees that can contain an overlapping lesson,
+ * and runs in O(log n + k) time where k is the number of clashing lessons.
+ */
+class LessonPeriodIndex {
+
+    private static final Comparator<TimePeriod> PERIOD_ORDER =
+            Comparator.comparing(TimePeriod::getStart).thenComparing(TimePeriod::getEnd);
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds a lesson to the index.
+     */
+    public void add(Lesson toAdd) {
+        requireNonNull(toAdd);
+        root = insert(root, toAdd);
+        size++;
+    }
+
+    /**
+     * Removes the given lesson instance from the index.
+     * Returns true if the lesson was found and removed.
+     */
+    public boolean remove(Lesson toRemove) {
+        requireNonNull(toRemove);
+        int oldSize = size;
+        root = delete(root, toRemove);
+        return size < oldSize;
+    }
+
+    /**
+     * Removes all lessons from the index.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code lessons}.
+     */
+    public void setAll(Iterable<? extends Lesson> lessons) {
+        clear();
+        for (Lesson lesson : lessons) {
+            add(lesson);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if any lesson in the index overlaps with {@code period}.
+     */
+    public boolean hasOverlap(TimePeriod period) {
+        requireNonNull(period);
+        Node node = root;
+        while (node != null) {
+            if (node.period.hasOverlap(period)) {
+                return true;
+            }
+            // Go left if the left subtree may still hold a lesson ending after the period starts,
+            // since every lesson on the right starts no earlier than the current one.
+            if (node.left != null && node.left.maxEnd.isAfter(period.getStart())) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns all lessons in the index that overlap with {@code period}, ordered by start time.
+     */
+    public List<Lesson> getOverlapping(TimePeriod period) {
+        requireNonNull(period);
+        List<Lesson> result = new ArrayList<>();
+        collectOverlapping(root, period, result);
+        return result;
+    }
+
+    private void collectOverlapping(Node node, TimePeriod period, List<Lesson> result) {
+        if (node == null || !node.maxEnd.isAfter(period.getStart())) {
+            return;
+        }
+        collectOverlapping(node.left, period, result);
+        if (!node.period.getStart().isBefore(period.getEnd())) {
+            // this lesson and everything to its right starts after the period ends
+            return;
+        }
+        if (node.period.hasOverlap(period)) {
+            result.addAll(node.lessons);
+        }
+        collectOverlapping(node.right, period, result);
+    }
+
+    //// AVL tree operations
+
+    private Node insert(Node node, Lesson lesson) {
+        if (node == null) {
+            return new Node(lesson);
+        }
+        int cmp = PERIOD_ORDER.compare(lesson.getTimePeriod(), node.period);
+        if (cmp < 0) {
+            node.left = insert(node.left, lesson);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, lesson);
+        } else {
+            node.lessons.add(lesson);
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private Node delete(Node node, Lesson lesson) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = PERIOD_ORDER.compare(lesson.getTimePeriod(), node.period);
+        if (cmp < 0) {
+            node.left = delete(node.left, lesson);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, lesson);
+        } else {
+            if (!removeInstance(node.lessons, lesson)) {
+                return node;
+            }
+            size--;
+            if (!node.lessons.isEmpty()) {
+                return node;
+            }
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = detachMin(node.right);
+            successor.right = node.right;
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node detachMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = detachMin(node.left);
+        return rebalance(node);
+    }
+
+    private static boolean removeInstance(List<Lesson> lessons, Lesson lesson) {
+        for (int i = 0; i < lessons.size(); i++) {
+            if (lessons.get(i) == lesson) {
+                lessons.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A tree node holding every indexed lesson with the same time period.
+     */
+    private static class Node {
+        private final TimePeriod period;
+        private final List<Lesson> lessons = new ArrayList<>(1);
+        private Node left;
+        private Node right;
+        private LocalDateTime maxEnd;
+        private int height;
+
+        Node(Lesson lesson) {
+            this.period = lesson.getTimePeriod();
+            this.lessons.add(lesson);
+            update();
+        }
+
+        void update() {
+            height = 1 + Math.max(LessonPeriodIndex.height(left), LessonPeriodIndex.height(right));
+            maxEnd = period.getEnd();
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
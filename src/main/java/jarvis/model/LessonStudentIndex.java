@@ -0,0 +1,71 @@
+package jarvis.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of lessons keyed by the matriculation numbers of their students, used by {@code UniqueLessonList} to
+ * find the lessons of a student without scanning every lesson.
+ * Lessons are held by instance, as lessons that are equal may still be different lessons in the list.
+ */
+class LessonStudentIndex {
+
+    private final Map<MatricNum, Set<Lesson>> lessonsByStudent = new HashMap<>();
+
+    /**
+     * Adds a lesson to the index, under each of its students.
+     */
+    public void add(Lesson toAdd) {
+        requireNonNull(toAdd);
+        for (Student student : toAdd.getStudentList()) {
+            lessonsByStudent.computeIfAbsent(student.getMatricNum(),
+                    unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(toAdd);
+        }
+    }
+
+    /**
+     * Removes the given lesson instance from the index.
+     */
+    public void remove(Lesson toRemove) {
+        requireNonNull(toRemove);
+        for (Student student : toRemove.getStudentList()) {
+            Set<Lesson> lessons = lessonsByStudent.get(student.getMatricNum());
+            if (lessons != null && lessons.remove(toRemove) && lessons.isEmpty()) {
+                lessonsByStudent.remove(student.getMatricNum());
+            }
+        }
+    }
+
+    /**
+     * Removes all lessons from the index.
+     */
+    public void clear() {
+        lessonsByStudent.clear();
+    }
+
+    /**
+     * Replaces the contents of the index with {@code lessons}.
+     */
+    public void setAll(Iterable<? extends Lesson> lessons) {
+        clear();
+        for (Lesson lesson : lessons) {
+            add(lesson);
+        }
+    }
+
+    /**
+     * Returns the lessons of the student with the matriculation number {@code matricNum}, in no particular order.
+     * The returned list is a copy, so the index can be modified while it is read.
+     */
+    public List<Lesson> getLessons(MatricNum matricNum) {
+        requireNonNull(matricNum);
+        return new ArrayList<>(lessonsByStudent.getOrDefault(matricNum, Set.of()));
+    }
+}
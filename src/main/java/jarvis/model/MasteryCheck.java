@@ -20,6 +20,15 @@ public class MasteryCheck extends Lesson {
         super(lessonDesc, timePeriod, students, attendance, notes);
     }
 
+    private MasteryCheck(MasteryCheck toCopy) {
+        super(toCopy);
+    }
+
+    @Override
+    public MasteryCheck copy() {
+        return new MasteryCheck(this);
+    }
+
     /**
      * Returns true if both MasteryChecks have the same description,
      * occur at the same time and are attended by the same students.
@@ -35,6 +44,9 @@ public class MasteryCheck extends Lesson {
         }
 
         MasteryCheck otherMasteryCheck = (MasteryCheck) other;
+        if (otherMasteryCheck.hashCode() != hashCode()) {
+            return false;
+        }
 
         boolean masteryCheckDescEquality;
         if (hasDesc()) {
@@ -47,12 +59,12 @@ public class MasteryCheck extends Lesson {
                 && otherMasteryCheck.startDateTime().equals(startDateTime())
                 && otherMasteryCheck.endDateTime().equals(endDateTime())
                 && otherMasteryCheck.getStudentList().equals(getStudentList())
-                && otherMasteryCheck.getAttendance().equals(getAttendance());
+                && otherMasteryCheck.hasSameAttendance(this);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getDesc(), getTimePeriod(), getAttendance());
+        return getCachedHashCode(() -> Objects.hash(getDesc(), getTimePeriod(), getAttendanceHashCode()));
     }
 
     @Override
@@ -1,6 +1,9 @@
 package jarvis.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import jarvis.commons.core.GuiSettings;
@@ -83,10 +86,13 @@ public interface Model {
     boolean hasStudent(Student student);
 
     /**
-     * Deletes the given student.
+     * Deletes the given student, and removes them from their lessons.
+     * Lessons that the student is the only student of are deleted.
      * The student must exist in the student book.
+     *
+     * @return The lessons that were deleted.
      */
-    void deleteStudent(Student target);
+    List<Lesson> deleteStudent(Student target);
 
     /**
      * Adds the given student.
@@ -101,7 +107,24 @@ public interface Model {
      */
     void setStudent(Student targetStudent, Student editedStudent);
 
-    /** Returns an unmodifiable view of the filtered student list */
+    /**
+     * Replaces each student in the keys of {@code editedStudents} with its value, as a single update to the
+     * student book and the lessons of the replaced students.
+     * Every key must exist in the student book.
+     * The identities of the edited students must not be the same as another existing student in the student book.
+     */
+    void setStudents(Map<Student, Student> editedStudents);
+
+    /**
+     * Returns the student in the student book with the given matric number, if any.
+     */
+    Optional<Student> getStudent(MatricNum matricNum);
+
+    /**
+     * Returns an unmodifiable view of the filtered student list.
+     * Inside a transaction, the list is not updated by changes or new filters until the transaction ends, so it
+     * must only be read for what was shown before the changes, never for the result of a filter just updated.
+     */
     ObservableList<Student> getFilteredStudentList();
 
     /**
@@ -110,6 +133,29 @@ public interface Model {
      */
     void updateFilteredStudentList(Predicate<Student> predicate);
 
+    /**
+     * Updates the filter of the filtered student list to show the students whose names match {@code predicate}.
+     * The matching students are found from the name index of the student book, and are found again whenever the
+     * student book changes, until the filter is next updated.
+     *
+     * @return The number of students found.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    int findStudents(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Shows the students whose names match {@code predicate} in the filtered student list until the preview is ended.
+     * The filter shown before the preview began is kept, so that it can be shown again when the preview ends. The
+     * preview is discarded if the filter is updated in the meantime.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void previewStudents(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Ends the current preview of the filtered student list, if any, and shows the filter shown before it again.
+     */
+    void endStudentPreview();
+
     //=========== TaskBook ================================================================================
 
     /**
@@ -144,7 +190,11 @@ public interface Model {
      */
     void setTask(Task targetTask, Task editedTask);
 
-    /** Returns an unmodifiable view of the filtered task list */
+    /**
+     * Returns an unmodifiable view of the filtered task list.
+     * Inside a transaction, the list is not updated by changes or new filters until the transaction ends, so it
+     * must only be read for what was shown before the changes, never for the result of a filter just updated.
+     */
     ObservableList<Task> getFilteredTaskList();
 
     /**
@@ -187,7 +237,11 @@ public interface Model {
      */
     void setLesson(Lesson targetLesson, Lesson editedLesson);
 
-    /** Returns an unmodifiable view of the filtered lesson list */
+    /**
+     * Returns an unmodifiable view of the filtered lesson list.
+     * Inside a transaction, the list is not updated by changes or new filters until the transaction ends, so it
+     * must only be read for what was shown before the changes, never for the result of a filter just updated.
+     */
     ObservableList<Lesson> getFilteredLessonList();
 
     /**
@@ -200,4 +254,67 @@ public interface Model {
      * Returns true if {@lesson} has clashing time period with a lesson in the lesson book.
      */
     boolean hasPeriodClash(Lesson lesson);
+
+    /**
+     * Returns the lessons in the lesson book that have a clashing time period with {@code lesson}.
+     */
+    List<Lesson> getClashingLessons(Lesson lesson);
+
+    /**
+     * Marks the given lessons as clashing with a lesson that could not be added, so that they are highlighted
+     * until {@link #unmarkClashingLessons()} is called.
+     */
+    void markClashingLessons(List<Lesson> lessons);
+
+    /**
+     * Unmarks the lessons that were marked as clashing since this was last called.
+     */
+    void unmarkClashingLessons();
+
+    //=========== History ================================================================================
+
+    /**
+     * Starts a transaction, which ends when the changes made in it are committed with
+     * {@link #commitChanges(String)} or discarded with {@link #rollbackChanges()}.
+     * The changes made to each of the student, task and lesson lists during the transaction are reported to the
+     * listeners of the list as a single change when the transaction ends, so views of the lists are refreshed once
+     * rather than after every change. The filtered lists are likewise only updated, and filtered, when the
+     * transaction ends, so they must not be read after making changes in the transaction.
+     */
+    void beginChanges();
+
+    /**
+     * Ends the current transaction, if any, and records the changes made to the student, task and lesson books
+     * since this was last called as one step, described by {@code description}, that can be undone. Does nothing
+     * else if nothing has changed.
+     * Students, tasks and lessons must be replaced with modified copies rather than modified in place for their
+     * changes to be recorded.
+     */
+    void commitChanges(String description);
+
+    /**
+     * Ends the current transaction, if any, and brings the student, task and lesson books back to how they were
+     * when changes were last committed.
+     * The changes made in the transaction are undone before they are reported, so the listeners of the lists are
+     * not notified of them.
+     */
+    void rollbackChanges();
+
+    /** Returns true if there is a step that can be undone. */
+    boolean canUndo();
+
+    /** Returns true if there is a step that was undone and can be redone. */
+    boolean canRedo();
+
+    /**
+     * Undoes the last step that was committed or redone, and returns its description.
+     * There must be a step to undo, and all changes must have been committed.
+     */
+    String undo();
+
+    /**
+     * Redoes the last step that was undone, and returns its description.
+     * There must be a step to redo, and all changes must have been committed.
+     */
+    String redo();
 }
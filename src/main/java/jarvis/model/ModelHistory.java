@@ -0,0 +1,223 @@
+package jarvis.model;
+
+import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * The history of changes to the student, task and lesson books of a model, for undoing and redoing them.
+ * Students, tasks and lessons are replaced with modified copies instead of being modified in place, so every
+ * version of the books shares all unchanged students, tasks and lessons with the versions before and after it.
+ * Each step in the history only keeps the students, tasks and lessons that it removed and added, which are found
+ * from the changes to the lists of the books as they happen. Committing a step therefore takes time and memory
+ * proportional to what changed, no matter how large the books are.
+ */
+class ModelHistory {
+
+    /** The number of steps that can be undone before the oldest steps are forgotten. */
+    public static final int DEFAULT_MAX_UNDO_COUNT = 500;
+
+    private final StudentBook studentBook;
+    private final TaskBook taskBook;
+    private final LessonBook lessonBook;
+    private final int maxUndoCount;
+    private final Deque<Step> undoableSteps = new ArrayDeque<>();
+    private final Deque<Step> redoableSteps = new ArrayDeque<>();
+
+    private final BookChanges<Student> studentChanges = new BookChanges<>();
+    private final BookChanges<Task> taskChanges = new BookChanges<>();
+    private final BookChanges<Lesson> lessonChanges = new BookChanges<>();
+
+    /**
+     * Creates a history that records the changes made to the given books from now on.
+     */
+    ModelHistory(StudentBook studentBook, TaskBook taskBook, LessonBook lessonBook, int maxUndoCount) {
+        requireAllNonNull(studentBook, taskBook, lessonBook);
+        assert maxUndoCount > 0;
+        this.studentBook = studentBook;
+        this.taskBook = taskBook;
+        this.lessonBook = lessonBook;
+        this.maxUndoCount = maxUndoCount;
+        studentBook.getStudentList().addListener(studentChanges);
+        taskBook.getTaskList().addListener(taskChanges);
+        lessonBook.getLessonList().addListener(lessonChanges);
+    }
+
+    /**
+     * Records the changes made since the last step as a new step described by {@code description}, which can then
+     * be undone. Does nothing if nothing has changed.
+     * The steps that were undone can no longer be redone once a new step is recorded.
+     */
+    void commit(String description) {
+        if (!hasUncommittedChanges()) {
+            return;
+        }
+
+        undoableSteps.addLast(new Step(description, studentChanges.takeRemoved(), studentChanges.takeAdded(),
+                taskChanges.takeRemoved(), taskChanges.takeAdded(),
+                lessonChanges.takeRemoved(), lessonChanges.takeAdded()));
+        if (undoableSteps.size() > maxUndoCount) {
+            undoableSteps.removeFirst();
+        }
+        redoableSteps.clear();
+    }
+
+    boolean canUndo() {
+        return !undoableSteps.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoableSteps.isEmpty();
+    }
+
+    /**
+     * Brings the books back to the version before the last step that was committed or redone, and returns the
+     * description of that step.
+     * There must be a step to undo, and all changes must have been committed.
+     */
+    String undo() {
+        assert canUndo() && !hasUncommittedChanges();
+        Step step = undoableSteps.removeLast();
+        restore(step.addedStudents, step.removedStudents, step.addedTasks, step.removedTasks,
+                step.addedLessons, step.removedLessons);
+        redoableSteps.addLast(step);
+        return step.description;
+    }
+
+    /**
+     * Brings the books forward to the version after the last step that was undone, and returns the description of
+     * that step.
+     * There must be a step to redo, and all changes must have been committed.
+     */
+    String redo() {
+        assert canRedo() && !hasUncommittedChanges();
+        Step step = redoableSteps.removeLast();
+        restore(step.removedStudents, step.addedStudents, step.removedTasks, step.addedTasks,
+                step.removedLessons, step.addedLessons);
+        undoableSteps.addLast(step);
+        return step.description;
+    }
+
+    /**
+     * Brings the books back to the version after the last step, discarding the changes made since then.
+     * The discarded changes cannot be redone.
+     */
+    void rollback() {
+        restore(studentChanges.takeAdded(), studentChanges.takeRemoved(), taskChanges.takeAdded(),
+                taskChanges.takeRemoved(), lessonChanges.takeAdded(), lessonChanges.takeRemoved());
+    }
+
+    private boolean hasUncommittedChanges() {
+        return !studentChanges.isEmpty() || !taskChanges.isEmpty() || !lessonChanges.isEmpty();
+    }
+
+    private void restore(List<Student> studentsToRemove, List<Student> studentsToAdd,
+                         List<Task> tasksToRemove, List<Task> tasksToAdd,
+                         List<Lesson> lessonsToRemove, List<Lesson> lessonsToAdd) {
+        // the changes are expected before they are made, as they may only be reported at the end of a batch
+        studentChanges.expect(studentsToRemove, studentsToAdd);
+        taskChanges.expect(tasksToRemove, tasksToAdd);
+        lessonChanges.expect(lessonsToRemove, lessonsToAdd);
+        restoreIfChanged(studentBook::restoreStudents, studentsToRemove, studentsToAdd);
+        restoreIfChanged(taskBook::restoreTasks, tasksToRemove, tasksToAdd);
+        restoreIfChanged(lessonBook::restoreLessons, lessonsToRemove, lessonsToAdd);
+    }
+
+    private static <T> void restoreIfChanged(BiConsumer<Collection<T>, Collection<T>> restorer,
+                                             List<T> toRemove, List<T> toAdd) {
+        if (!toRemove.isEmpty() || !toAdd.isEmpty()) {
+            restorer.accept(toRemove, toAdd);
+        }
+    }
+
+    /**
+     * The students, tasks and lessons removed and added by one step.
+     */
+    private static class Step {
+        private final String description;
+        private final List<Student> removedStudents;
+        private final List<Student> addedStudents;
+        private final List<Task> removedTasks;
+        private final List<Task> addedTasks;
+        private final List<Lesson> removedLessons;
+        private final List<Lesson> addedLessons;
+
+        Step(String description, List<Student> removedStudents, List<Student> addedStudents,
+             List<Task> removedTasks, List<Task> addedTasks, List<Lesson> removedLessons, List<Lesson> addedLessons) {
+            this.description = description;
+            this.removedStudents = removedStudents;
+            this.addedStudents = addedStudents;
+            this.removedTasks = removedTasks;
+            this.addedTasks = addedTasks;
+            this.removedLessons = removedLessons;
+            this.addedLessons = addedLessons;
+        }
+    }
+
+    /**
+     * The items removed from and added to the list of a book since the last step, compared by identity.
+     * An item that is removed and added again, such as one replaced by itself, has not changed.
+     */
+    private static class BookChanges<T> implements ListChangeListener<T> {
+        private Set<T> removed = newIdentitySet();
+        private Set<T> added = newIdentitySet();
+
+        @Override
+        public void onChanged(Change<? extends T> change) {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    // the books are sorted, so a reordering is restored along with the items that caused it
+                    continue;
+                }
+                for (T item : change.getRemoved()) {
+                    if (!added.remove(item)) {
+                        removed.add(item);
+                    }
+                }
+                for (T item : change.getAddedSubList()) {
+                    if (!removed.remove(item)) {
+                        added.add(item);
+                    }
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return removed.isEmpty() && added.isEmpty();
+        }
+
+        /**
+         * Records that {@code toRemove} will be removed and {@code toAdd} will be added to bring the book back to
+         * a recorded version, so that those changes cancel out when they are reported instead of being recorded.
+         */
+        void expect(List<T> toRemove, List<T> toAdd) {
+            added.addAll(toRemove);
+            removed.addAll(toAdd);
+        }
+
+        List<T> takeRemoved() {
+            List<T> items = List.copyOf(removed);
+            removed = newIdentitySet();
+            return items;
+        }
+
+        List<T> takeAdded() {
+            List<T> items = List.copyOf(added);
+            added = newIdentitySet();
+            return items;
+        }
+
+        private Set<T> newIdentitySet() {
+            return Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+    }
+}
@@ -4,11 +4,18 @@ import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import jarvis.commons.core.GuiSettings;
 import jarvis.commons.core.LogsCenter;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 
@@ -25,6 +32,20 @@ public class ModelManager implements Model {
     private final FilteredList<Student> filteredStudents;
     private final FilteredList<Task> filteredTasks;
     private final FilteredList<Lesson> filteredLessons;
+    private final ModelHistory history;
+    private boolean isInTransaction = false;
+    // The filters to apply once the current transaction ends, or null if they are unchanged
+    private Predicate<? super Student> pendingStudentPredicate;
+    private Predicate<? super Task> pendingTaskPredicate;
+    private Predicate<? super Lesson> pendingLessonPredicate;
+    private Predicate<Student> studentPredicate = PREDICATE_SHOW_ALL_STUDENTS;
+    private NameContainsKeywordsPredicate studentNameFilter;
+    // The student filter shown before the current preview, restored when the preview ends
+    private boolean isPreviewingStudents = false;
+    private Predicate<Student> studentPredicateBeforePreview;
+    private NameContainsKeywordsPredicate studentNameFilterBeforePreview;
+    // Lessons currently marked as clashing, compared by identity as lessons are modified in place
+    private final Set<Lesson> clashingLessons = Collections.newSetFromMap(new IdentityHashMap<>());
 
     /**
      * Initializes a ModelManager with the given studentBook, taskBook, lessonBook and userPrefs.
@@ -43,6 +64,13 @@ public class ModelManager implements Model {
         filteredStudents = new FilteredList<>(this.studentBook.getStudentList());
         filteredTasks = new FilteredList<>(this.taskBook.getTaskList());
         filteredLessons = new FilteredList<>(this.lessonBook.getLessonList());
+        history = new ModelHistory(this.studentBook, this.taskBook, this.lessonBook,
+                ModelHistory.DEFAULT_MAX_UNDO_COUNT);
+        this.studentBook.getStudentList().addListener((ListChangeListener<Student>) unused -> {
+            if (studentNameFilter != null) {
+                applyStudentNameFilter();
+            }
+        });
     }
 
     /**
@@ -148,8 +176,9 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void deleteStudent(Student targetStudent) {
+    public List<Lesson> deleteStudent(Student targetStudent) {
         studentBook.removeStudent(targetStudent);
+        return lessonBook.removeStudent(targetStudent);
     }
 
     @Override
@@ -165,6 +194,19 @@ public class ModelManager implements Model {
         lessonBook.setStudent(targetStudent, editedStudent);
     }
 
+    @Override
+    public void setStudents(Map<Student, Student> editedStudents) {
+        requireNonNull(editedStudents);
+        studentBook.setStudents(editedStudents);
+        lessonBook.setStudents(editedStudents);
+    }
+
+    @Override
+    public Optional<Student> getStudent(MatricNum matricNum) {
+        requireNonNull(matricNum);
+        return studentBook.getStudent(matricNum);
+    }
+
     //=========== TaskBook ================================================================================
 
     @Override
@@ -242,6 +284,115 @@ public class ModelManager implements Model {
         requireNonNull(lesson);
         return lessonBook.hasPeriodClash(lesson);
     }
+
+    @Override
+    public List<Lesson> getClashingLessons(Lesson lesson) {
+        requireNonNull(lesson);
+        return lessonBook.getClashingLessons(lesson);
+    }
+
+    @Override
+    public void markClashingLessons(List<Lesson> lessons) {
+        requireNonNull(lessons);
+        for (Lesson lesson : lessons) {
+            lesson.markClash();
+            clashingLessons.add(lesson);
+        }
+    }
+
+    @Override
+    public void unmarkClashingLessons() {
+        for (Lesson lesson : clashingLessons) {
+            lesson.unmarkClash();
+        }
+        clashingLessons.clear();
+    }
+
+    //=========== History ================================================================================
+
+    @Override
+    public void beginChanges() {
+        assert !isInTransaction;
+        isInTransaction = true;
+        beginBatches();
+    }
+
+    @Override
+    public void commitChanges(String description) {
+        requireNonNull(description);
+        if (isInTransaction) {
+            endBatches();
+            endTransaction();
+        }
+        history.commit(description);
+    }
+
+    @Override
+    public void rollbackChanges() {
+        if (isInTransaction) {
+            // the changes are undone before they are reported, so that the listeners never see them
+            studentBook.rollbackBatch();
+            taskBook.rollbackBatch();
+            lessonBook.rollbackBatch();
+            endTransaction();
+        }
+        // changes reported outside of a transaction are only known to the history
+        history.rollback();
+    }
+
+    /**
+     * Ends the current transaction once its batches have ended, and applies the filters updated during it.
+     * The filtered lists only learn of the changes to the books when the batches end, so they are filtered once
+     * after that instead of while the changes are being made.
+     */
+    private void endTransaction() {
+        isInTransaction = false;
+        if (pendingStudentPredicate != null) {
+            filteredStudents.setPredicate(pendingStudentPredicate);
+            pendingStudentPredicate = null;
+        }
+        if (pendingTaskPredicate != null) {
+            filteredTasks.setPredicate(pendingTaskPredicate);
+            pendingTaskPredicate = null;
+        }
+        if (pendingLessonPredicate != null) {
+            filteredLessons.setPredicate(pendingLessonPredicate);
+            pendingLessonPredicate = null;
+        }
+    }
+
+    private void beginBatches() {
+        studentBook.beginBatch();
+        taskBook.beginBatch();
+        lessonBook.beginBatch();
+    }
+
+    private void endBatches() {
+        studentBook.endBatch();
+        taskBook.endBatch();
+        lessonBook.endBatch();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    @Override
+    public String undo() {
+        return history.undo();
+    }
+
+    @Override
+    public String redo() {
+        return history.redo();
+    }
+
     //=========== Filtered Student List Accessors =============================================================
 
     /**
@@ -256,7 +407,65 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
-        filteredStudents.setPredicate(predicate);
+        isPreviewingStudents = false;
+        studentNameFilter = null;
+        studentPredicate = predicate;
+        setStudentPredicate(predicate);
+    }
+
+    @Override
+    public int findStudents(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        isPreviewingStudents = false;
+        studentNameFilter = predicate;
+        return applyStudentNameFilter();
+    }
+
+    @Override
+    public void previewStudents(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        if (!isPreviewingStudents) {
+            isPreviewingStudents = true;
+            studentPredicateBeforePreview = studentPredicate;
+            studentNameFilterBeforePreview = studentNameFilter;
+        }
+        studentNameFilter = predicate;
+        applyStudentNameFilter();
+    }
+
+    @Override
+    public void endStudentPreview() {
+        if (!isPreviewingStudents) {
+            return;
+        }
+        isPreviewingStudents = false;
+        studentPredicate = studentPredicateBeforePreview;
+        studentNameFilter = studentNameFilterBeforePreview;
+        if (studentNameFilter == null) {
+            setStudentPredicate(studentPredicate);
+        } else {
+            // students may have changed since the preview began, so the name filter is matched again
+            applyStudentNameFilter();
+        }
+    }
+
+    /**
+     * Filters the filtered student list by the students that match the current name filter, found from the name
+     * index of the student book, and returns the number of matching students.
+     */
+    private int applyStudentNameFilter() {
+        Set<Student> matches = studentBook.findStudentsByName(studentNameFilter.getWords(),
+                studentNameFilter.getPrefixes());
+        setStudentPredicate(matches::contains);
+        return matches.size();
+    }
+
+    private void setStudentPredicate(Predicate<? super Student> predicate) {
+        if (isInTransaction) {
+            pendingStudentPredicate = predicate;
+        } else {
+            filteredStudents.setPredicate(predicate);
+        }
     }
 
     @Override
@@ -267,7 +476,11 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
-        filteredTasks.setPredicate(predicate);
+        if (isInTransaction) {
+            pendingTaskPredicate = predicate;
+        } else {
+            filteredTasks.setPredicate(predicate);
+        }
     }
 
     @Override
@@ -278,7 +491,11 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredLessonList(Predicate<Lesson> predicate) {
         requireNonNull(predicate);
-        filteredLessons.setPredicate(predicate);
+        if (isInTransaction) {
+            pendingLessonPredicate = predicate;
+        } else {
+            filteredLessons.setPredicate(predicate);
+        }
     }
 
     @Override
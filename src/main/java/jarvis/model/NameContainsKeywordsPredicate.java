@@ -1,24 +1,68 @@
 package jarvis.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import jarvis.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Student}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a word in the name that is the same when case is ignored. A keyword that ends with
+ * {@value #PREFIX_WILDCARD} matches any word that starts with the rest of the keyword instead.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Student> {
+
+    public static final String PREFIX_WILDCARD = "*";
+
     private final List<String> keywords;
+    private final Set<String> words = new HashSet<>();
+    private final List<String> prefixes = new ArrayList<>();
 
+    /**
+     * Creates a predicate that matches names containing any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+            if (lowerCaseKeyword.endsWith(PREFIX_WILDCARD)) {
+                prefixes.add(lowerCaseKeyword.substring(0, lowerCaseKeyword.length() - PREFIX_WILDCARD.length()));
+            } else {
+                words.add(lowerCaseKeyword);
+            }
+        }
+    }
+
+    /**
+     * Returns the keywords that match whole words, in lower case.
+     */
+    public Set<String> getWords() {
+        return Collections.unmodifiableSet(words);
+    }
+
+    /**
+     * Returns the keywords that match the starts of words, in lower case and without the wildcard.
+     */
+    public List<String> getPrefixes() {
+        return Collections.unmodifiableList(prefixes);
     }
 
     @Override
     public boolean test(Student student) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(student.getName().fullName, keyword));
+        for (String nameWord : student.getName().getLowerCaseWords()) {
+            if (words.contains(nameWord)) {
+                return true;
+            }
+            for (String prefix : prefixes) {
+                if (nameWord.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
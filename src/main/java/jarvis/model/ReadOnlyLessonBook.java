@@ -13,4 +13,10 @@ public interface ReadOnlyLessonBook {
      */
     ObservableList<Lesson> getLessonList();
 
+    /**
+     * Returns the number of modifications made to this lesson book so far.
+     * Storage compares this count against the last saved one to skip rewriting an unchanged book.
+     */
+    long getModificationCount();
+
 }
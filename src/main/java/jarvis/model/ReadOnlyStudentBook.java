@@ -13,4 +13,10 @@ public interface ReadOnlyStudentBook {
      */
     ObservableList<Student> getStudentList();
 
+    /**
+     * Returns the number of modifications made to this student book so far.
+     * Storage compares this count against the last saved one to skip rewriting an unchanged book.
+     */
+    long getModificationCount();
+
 }
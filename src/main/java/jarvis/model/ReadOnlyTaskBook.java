@@ -13,4 +13,10 @@ public interface ReadOnlyTaskBook {
      */
     ObservableList<Task> getTaskList();
 
+    /**
+     * Returns the number of modifications made to this task book so far.
+     * Storage compares this count against the last saved one to skip rewriting an unchanged book.
+     */
+    long getModificationCount();
+
 }
@@ -0,0 +1,158 @@
+package jarvis.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import jarvis.model.exceptions.StudentNotFoundException;
+
+/**
+ * Represents the students of a lesson in JARVIS, in the order they are listed in the lesson.
+ * The details of the students in a lesson, such as their attendance, are stored in columns indexed by the positions
+ * of the students in the roster, so they are found without comparing students.
+ * A roster does not change once it is created, so copies of a lesson share it.
+ */
+public class Roster {
+
+    /** The position returned for a student who is not in the roster. */
+    public static final int NOT_IN_ROSTER = -1;
+
+    private final Student[] students;
+    private final List<Student> studentList;
+    private final Map<Student, Integer> positions;
+
+    // the positions of the students in the order of their names, only sorted when first needed
+    private int[] sortedPositions;
+
+    /**
+     * Creates a roster of {@code students} in the order they are given.
+     */
+    public Roster(Collection<Student> students) {
+        this(students.toArray(new Student[0]));
+    }
+
+    private Roster(Student[] students) {
+        this.students = students;
+        this.studentList = Collections.unmodifiableList(Arrays.asList(students));
+        this.positions = new HashMap<>();
+        for (int i = 0; i < students.length; i++) {
+            positions.putIfAbsent(requireNonNull(students[i]), i);
+        }
+    }
+
+    public int size() {
+        return students.length;
+    }
+
+    public Student get(int position) {
+        return students[position];
+    }
+
+    /**
+     * Returns the position of {@code student}, or {@link #NOT_IN_ROSTER} if the student is not in the roster.
+     */
+    public int indexOf(Student student) {
+        requireNonNull(student);
+        return positions.getOrDefault(student, NOT_IN_ROSTER);
+    }
+
+    /**
+     * Returns the position of {@code student}.
+     *
+     * @throws StudentNotFoundException if the student is not in the roster.
+     */
+    public int positionOf(Student student) {
+        int position = indexOf(student);
+        if (position == NOT_IN_ROSTER) {
+            throw new StudentNotFoundException();
+        }
+        return position;
+    }
+
+    /**
+     * Returns an unmodifiable view of the students in the roster, in order.
+     */
+    public List<Student> asList() {
+        return studentList;
+    }
+
+    /**
+     * Returns an unmodifiable view of the students in the roster.
+     */
+    public Set<Student> asSet() {
+        return Collections.unmodifiableSet(positions.keySet());
+    }
+
+    /**
+     * Returns the positions of the students in the order of their names.
+     * The array is shared and must not be modified.
+     */
+    int[] getSortedPositions() {
+        if (sortedPositions == null) {
+            sortedPositions = IntStream.range(0, students.length).boxed()
+                    .sorted(Comparator.comparing(position -> students[position]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+        return sortedPositions;
+    }
+
+    /**
+     * Returns a roster with {@code editedStudent} at the position of {@code targetStudent}.
+     */
+    public Roster withStudent(Student targetStudent, Student editedStudent) {
+        Student[] editedStudents = students.clone();
+        editedStudents[positionOf(targetStudent)] = requireNonNull(editedStudent);
+        return new Roster(editedStudents);
+    }
+
+    /**
+     * Returns a roster without {@code student}, with the other students in the same order.
+     */
+    public Roster without(Student student) {
+        int position = positionOf(student);
+        Student[] remainingStudents = new Student[students.length - 1];
+        System.arraycopy(students, 0, remainingStudents, 0, position);
+        System.arraycopy(students, position + 1, remainingStudents, position, students.length - position - 1);
+        return new Roster(remainingStudents);
+    }
+
+    /**
+     * Returns a roster of the same students in the order of their names, or this roster if they are already in
+     * that order.
+     */
+    public Roster sorted() {
+        int[] order = getSortedPositions();
+        if (IntStream.range(0, order.length).allMatch(i -> order[i] == i)) {
+            return this;
+        }
+        return new Roster(Arrays.stream(order).mapToObj(position -> students[position]).toArray(Student[]::new));
+    }
+
+    /**
+     * Returns true if {@code other} lists the same student objects in the same order, so that the same positions
+     * refer to the same students in both rosters.
+     */
+    public boolean hasSameOrder(Roster other) {
+        if (other == this) {
+            return true;
+        }
+        if (other.students.length != students.length) {
+            return false;
+        }
+        for (int i = 0; i < students.length; i++) {
+            if (other.students[i] != students[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -48,6 +48,13 @@ public class Student implements Comparable<Student> {
         gradeProfile.updateGrades(gp);
     }
 
+    /**
+     * Returns a copy of this student whose grades can be modified without changing this student.
+     */
+    public Student copy() {
+        return new Student(studentName, matricNum, gradeProfile.copy());
+    }
+
 
     /**
      * Returns true if both students have the same matriculation number.
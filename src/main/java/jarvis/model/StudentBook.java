@@ -2,7 +2,11 @@ package jarvis.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import jarvis.model.exceptions.MaxStudentsExceededException;
 import javafx.collections.ObservableList;
@@ -16,6 +20,7 @@ public class StudentBook implements ReadOnlyStudentBook {
     public static final int MAX_STUDENTS = 10;
 
     private final UniqueStudentList students;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +51,7 @@ public class StudentBook implements ReadOnlyStudentBook {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
+        modificationCount++;
     }
 
     /**
@@ -67,6 +73,14 @@ public class StudentBook implements ReadOnlyStudentBook {
         return students.contains(student);
     }
 
+    /**
+     * Returns the student in the student book with the given matric number, if any.
+     */
+    public Optional<Student> getStudent(MatricNum matricNum) {
+        requireNonNull(matricNum);
+        return students.get(matricNum);
+    }
+
     /**
      * Adds a student to the student book.
      * The student must not already exist in the student book.
@@ -77,6 +91,7 @@ public class StudentBook implements ReadOnlyStudentBook {
             throw new MaxStudentsExceededException("Maximum number of students (" + MAX_STUDENTS + ") exceeded");
         }
         students.add(p);
+        modificationCount++;
     }
 
     /**
@@ -89,6 +104,20 @@ public class StudentBook implements ReadOnlyStudentBook {
         requireNonNull(editedStudent);
 
         students.setStudent(target, editedStudent);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces each student in the keys of {@code editedStudents} with its value, as a single update to the
+     * student book.
+     * Every key must exist in the student book, and the edited students must not have the same identity as
+     * another student in the student book.
+     */
+    public void setStudents(Map<Student, Student> editedStudents) {
+        requireNonNull(editedStudents);
+
+        students.setStudents(editedStudents);
+        modificationCount++;
     }
 
     /**
@@ -97,6 +126,50 @@ public class StudentBook implements ReadOnlyStudentBook {
      */
     public void removeStudent(Student key) {
         students.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Removes the students in {@code toRemove} from this {@code StudentBook} and adds the students in
+     * {@code toAdd}, to bring it back to a version that it had before.
+     * Unlike {@link #addStudent(Student)}, the number of students is not limited, as the version being restored
+     * may have been read from the data file with more students.
+     */
+    public void restoreStudents(Collection<Student> toRemove, Collection<Student> toAdd) {
+        students.restore(toRemove, toAdd);
+        modificationCount++;
+    }
+
+    /**
+     * Holds back the notifications of changes to the student list until {@link #endBatch()} is called, so that the
+     * changes made in between are reported as one.
+     */
+    public void beginBatch() {
+        students.beginBatch();
+    }
+
+    /**
+     * Reports the changes to the student list made since {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        students.endBatch();
+    }
+
+    /**
+     * Undoes the changes to the student list made since {@link #beginBatch()} and ends the batch, so that the
+     * changes are never reported on their own.
+     */
+    public void rollbackBatch() {
+        students.rollbackBatch();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the students with a word in their name that is one of {@code words} or starts with one of
+     * {@code prefixes}. All words and prefixes must be in lower case.
+     */
+    public Set<Student> findStudentsByName(Collection<String> words, Collection<String> prefixes) {
+        return students.findByName(words, prefixes);
     }
 
     //// util methods
@@ -115,6 +188,11 @@ public class StudentBook implements ReadOnlyStudentBook {
         return students.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
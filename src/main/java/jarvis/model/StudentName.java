@@ -3,6 +3,9 @@ package jarvis.model;
 import static jarvis.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Represents a Student's name in the student book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +22,7 @@ public class StudentName {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    private final List<String> lowerCaseWords;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +33,7 @@ public class StudentName {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseWords = List.of(name.toLowerCase(Locale.ROOT).split("\\s+"));
     }
 
     /**
@@ -38,6 +43,12 @@ public class StudentName {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words in this name, in lower case.
+     */
+    public List<String> getLowerCaseWords() {
+        return lowerCaseWords;
+    }
 
     @Override
     public String toString() {
@@ -10,14 +10,14 @@ import java.util.TreeMap;
  * Guarantees: details are present and not null.
  */
 public class Studio extends Lesson {
-    private final StudioParticipation participation;
+    private StudioParticipation participation;
 
     /**
      * Every field must be present and not null.
      */
     public Studio(LessonDesc lessonDesc, TimePeriod timePeriod, Collection<Student> students) {
         super(lessonDesc, timePeriod, students);
-        this.participation = new StudioParticipation(students);
+        this.participation = StudioParticipation.createFor(getRoster());
     }
 
     /**
@@ -30,11 +30,22 @@ public class Studio extends Lesson {
         assert participation.getAllStudents().containsAll(students);
         assert students.containsAll(participation.getAllStudents());
 
-        this.participation = participation;
+        this.participation = participation.alignTo(getRoster());
+    }
+
+    private Studio(Studio toCopy) {
+        super(toCopy);
+        this.participation = toCopy.participation.copy();
+    }
+
+    @Override
+    public Studio copy() {
+        return new Studio(this);
     }
 
     public void setParticipationForStudent(Student student, int i) {
         participation.setParticipationForStudent(student, i);
+        invalidateHashCode();
     }
 
     public int getParticipationForStudent(Student student) {
@@ -43,8 +54,8 @@ public class Studio extends Lesson {
 
     public Map<Integer, Integer> getParticipation() {
         Map<Integer, Integer> resMap = new TreeMap<>();
-        for (Student student : getStudentList()) {
-            resMap.put(getStudentList().indexOf(student), participation.getParticipationForStudent(student));
+        for (int i = 0; i < getStudentList().size(); i++) {
+            resMap.put(i, participation.getParticipationForStudent(i));
         }
         return resMap;
     }
@@ -55,8 +66,14 @@ public class Studio extends Lesson {
 
     @Override
     public void setStudent(Student targetStudent, Student editedStudent) {
-        super.setStudent(targetStudent, editedStudent);
         participation.setStudent(targetStudent, editedStudent);
+        super.setStudent(targetStudent, editedStudent);
+    }
+
+    @Override
+    protected void setRoster(Roster newRoster) {
+        super.setRoster(newRoster);
+        participation = participation.alignTo(newRoster);
     }
     /**
      * Returns true if both Studios have the same description,
@@ -74,6 +91,9 @@ public class Studio extends Lesson {
         }
 
         Studio otherStudio = (Studio) other;
+        if (otherStudio.hashCode() != hashCode()) {
+            return false;
+        }
 
         boolean studioDescEquality;
         if (hasDesc()) {
@@ -86,13 +106,14 @@ public class Studio extends Lesson {
                 && otherStudio.startDateTime().equals(startDateTime())
                 && otherStudio.endDateTime().equals(endDateTime())
                 && otherStudio.getStudentList().equals(getStudentList())
-                && otherStudio.getAttendance().equals(getAttendance())
-                && otherStudio.getParticipation().equals(getParticipation());
+                && otherStudio.hasSameAttendance(this)
+                && otherStudio.participation.hasSameScores(participation);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getDesc(), getTimePeriod(), getAttendance(), getParticipation());
+        return getCachedHashCode(() -> Objects.hash(getDesc(), getTimePeriod(), getAttendanceHashCode(),
+                participation.getScoresHashCode()));
     }
 
     @Override
@@ -1,21 +1,22 @@
 package jarvis.model;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 
 import jarvis.model.exceptions.InvalidParticipationException;
-import jarvis.model.exceptions.StudentNotFoundException;
 
 /**
  * Represents the participation for a Studio in JARVIS.
  * A student's participation score must be an integer between
  * 0 and 500 inclusive.
+ * The score of each student is stored at the position of the student in the roster.
  */
 public class StudioParticipation {
-    private final TreeMap<Student, Integer> participation;
+    private Roster roster;
+    private final int[] participation;
 
     /**
      * Creates a StudioParticipation and initializes the participation
@@ -23,11 +24,7 @@ public class StudioParticipation {
      * @param students Students involved in the lesson.
      */
     public StudioParticipation(Collection<Student> students) {
-        participation = new TreeMap<>();
-
-        for (Student stu : students) {
-            participation.put(stu, 0);
-        }
+        this(new Roster(students), new int[students.size()]);
     }
 
     /**
@@ -37,50 +34,99 @@ public class StudioParticipation {
      * @param indexMap The participation data for each student mapped by student index.
      */
     public StudioParticipation(List<Student> studentList, Map<Integer, Integer> indexMap) {
-        TreeMap<Student, Integer> participation = new TreeMap<>();
-        for (int i : indexMap.keySet()) {
-            participation.put(studentList.get(i), indexMap.get(i));
+        this(new Roster(studentList), new int[studentList.size()]);
+        for (Map.Entry<Integer, Integer> entry : indexMap.entrySet()) {
+            participation[entry.getKey()] = entry.getValue();
         }
+    }
+
+    /**
+     * Creates a StudioParticipation for the students in {@code roster}, whose scores are all 0.
+     */
+    static StudioParticipation createFor(Roster roster) {
+        return new StudioParticipation(roster, new int[roster.size()]);
+    }
+
+    private StudioParticipation(Roster roster, int[] participation) {
+        this.roster = roster;
         this.participation = participation;
     }
 
+    /**
+     * Returns a copy of this participation that can be modified without changing this participation.
+     */
+    public StudioParticipation copy() {
+        return new StudioParticipation(roster, participation.clone());
+    }
+
+    /**
+     * Returns this participation with the students in the positions of {@code otherRoster}.
+     * Students who are only in {@code otherRoster} have a score of 0, and students who are not in it are dropped.
+     */
+    StudioParticipation alignTo(Roster otherRoster) {
+        if (roster.hasSameOrder(otherRoster)) {
+            roster = otherRoster;
+            return this;
+        }
+        int[] alignedParticipation = new int[otherRoster.size()];
+        for (int i = 0; i < otherRoster.size(); i++) {
+            int position = roster.indexOf(otherRoster.get(i));
+            alignedParticipation[i] = position == Roster.NOT_IN_ROSTER ? 0 : participation[position];
+        }
+        return new StudioParticipation(otherRoster, alignedParticipation);
+    }
+
     public void setParticipationForStudent(Student student, int i) {
         if (i < 0 || i > 500) {
             throw new InvalidParticipationException("Participation value must be between 0 and 500 inclusive");
         }
-        if (!participation.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        participation.put(student, i);
+        participation[roster.positionOf(student)] = i;
     }
 
     public int getParticipationForStudent(Student student) {
-        if (!participation.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        return participation.get(student);
+        return participation[roster.positionOf(student)];
+    }
+
+    /**
+     * Returns the participation score of the student at {@code position} in the roster.
+     */
+    int getParticipationForStudent(int position) {
+        return participation[position];
+    }
+
+    /**
+     * Returns true if the students at the same positions of both rosters have the same participation scores.
+     */
+    boolean hasSameScores(StudioParticipation other) {
+        return Arrays.equals(participation, other.participation);
+    }
+
+    /**
+     * Returns a hash code of the participation scores of the students by position, consistent with
+     * {@link #hasSameScores(StudioParticipation)}.
+     */
+    int getScoresHashCode() {
+        return Arrays.hashCode(participation);
     }
 
     public void setStudent(Student targetStudent, Student editedStudent) {
-        if (!participation.containsKey(targetStudent)) {
+        if (roster.indexOf(targetStudent) == Roster.NOT_IN_ROSTER) {
             return;
         }
-        int studentParticipation = participation.get(targetStudent);
-        participation.remove(targetStudent);
-        participation.put(editedStudent, studentParticipation);
+        roster = roster.withStudent(targetStudent, editedStudent);
     }
 
     public Set<Student> getAllStudents() {
-        return participation.keySet();
+        return roster.asSet();
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("Studio Participation:\n");
-        for (Map.Entry<Student, Integer> entry : participation.entrySet()) {
-            sb.append(entry.getKey());
+        for (int position : roster.getSortedPositions()) {
+            sb.append(roster.get(position));
             sb.append(": ");
-            sb.append(entry.getValue());
+            sb.append(participation[position]);
             sb.append("\n");
         }
         return sb.toString();
@@ -97,11 +143,25 @@ public class StudioParticipation {
         }
 
         StudioParticipation otherStudioParticipation = (StudioParticipation) other;
-        return otherStudioParticipation.participation.equals(participation);
+        if (otherStudioParticipation.roster.size() != roster.size()) {
+            return false;
+        }
+        for (int i = 0; i < roster.size(); i++) {
+            int otherPosition = otherStudioParticipation.roster.indexOf(roster.get(i));
+            if (otherPosition == Roster.NOT_IN_ROSTER
+                    || otherStudioParticipation.participation[otherPosition] != participation[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return participation.hashCode();
+        int hashCode = 0;
+        for (int i = 0; i < roster.size(); i++) {
+            hashCode += roster.get(i).hashCode() ^ Integer.hashCode(participation[i]);
+        }
+        return hashCode;
     }
 }
@@ -56,6 +56,15 @@ public class Task implements Comparable<Task> {
         isDone = false;
     }
 
+    /**
+     * Returns a copy of this task that can be marked as done or not done without changing this task.
+     */
+    public Task copy() {
+        Task copy = new Task(taskDesc, taskDeadline);
+        copy.isDone = isDone;
+        return copy;
+    }
+
     @Override
     public int compareTo(Task t) {
         if (isDone != t.isDone()) {
@@ -2,6 +2,7 @@ package jarvis.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
 import javafx.collections.ObservableList;
@@ -13,6 +14,7 @@ import javafx.collections.ObservableList;
 public class TaskBook implements ReadOnlyTaskBook {
 
     private final UniqueTaskList tasks;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -43,6 +45,7 @@ public class TaskBook implements ReadOnlyTaskBook {
      */
     public void setTasks(List<Task> tasks) {
         this.tasks.setTasks(tasks);
+        modificationCount++;
     }
 
     /**
@@ -70,6 +73,7 @@ public class TaskBook implements ReadOnlyTaskBook {
      */
     public void addTask(Task t) {
         tasks.add(t);
+        modificationCount++;
     }
 
     /**
@@ -81,6 +85,7 @@ public class TaskBook implements ReadOnlyTaskBook {
         requireNonNull(editedTask);
 
         tasks.setTask(targetTask, editedTask);
+        modificationCount++;
     }
 
     /**
@@ -89,6 +94,40 @@ public class TaskBook implements ReadOnlyTaskBook {
      */
     public void removeTask(Task key) {
         tasks.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Removes the tasks in {@code toRemove} from this {@code TaskBook} and adds the tasks in {@code toAdd}, to
+     * bring it back to a version that it had before.
+     */
+    public void restoreTasks(Collection<Task> toRemove, Collection<Task> toAdd) {
+        tasks.restore(toRemove, toAdd);
+        modificationCount++;
+    }
+
+    /**
+     * Holds back the notifications of changes to the task list until {@link #endBatch()} is called, so that the
+     * changes made in between are reported as one.
+     */
+    public void beginBatch() {
+        tasks.beginBatch();
+    }
+
+    /**
+     * Reports the changes to the task list made since {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        tasks.endBatch();
+    }
+
+    /**
+     * Undoes the changes to the task list made since {@link #beginBatch()} and ends the batch, so that the
+     * changes are never reported on their own.
+     */
+    public void rollbackBatch() {
+        tasks.rollbackBatch();
+        modificationCount++;
     }
 
     //// util methods
@@ -103,6 +142,11 @@ public class TaskBook implements ReadOnlyTaskBook {
         return tasks.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -3,10 +3,16 @@ package jarvis.model;
 import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import jarvis.commons.core.index.Index;
+import jarvis.commons.util.BatchObservableList;
+import jarvis.commons.util.SortedListUtil;
 import jarvis.model.exceptions.DuplicateLessonException;
 import jarvis.model.exceptions.LessonClashException;
 import jarvis.model.exceptions.LessonNotFoundException;
@@ -19,6 +25,14 @@ import javafx.collections.ObservableList;
  * As such, adding and updating of lesson uses Lesson#equals(Object) for equality to ensure that the
  * lesson being added or updated is unique in terms of identity in the UniqueLessonList.The removal of a
  * lesson also uses Lesson#equals(Object).
+ * Lessons are indexed by their identity keys, so a lesson is only compared with the lessons that have the same key,
+ * and the position of a lesson is then found by binary search.
+ * The lessons of each student are answered by an index over the students of the lessons, which is also kept in sync
+ * with the list.
+ * Time slot clashes are answered by an interval index over the lessons' time periods, which is kept in sync
+ * with the list.
+ * The list is kept sorted as it is modified, by inserting, removing and moving only the affected lessons.
+ * Lessons must not be modified in place once they are in the list.
  *
  * Supports a minimal set of list operations.
  *
@@ -26,16 +40,19 @@ import javafx.collections.ObservableList;
  */
 public class UniqueLessonList implements Iterable<Lesson> {
 
-    private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Lesson> internalList = new BatchObservableList<>();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final LessonPeriodIndex periodIndex = new LessonPeriodIndex();
+    private final LessonStudentIndex studentIndex = new LessonStudentIndex();
+    private final Map<LessonKey, List<Lesson>> lessonsByKey = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return getStoredLesson(toCheck) != null;
     }
 
     /**
@@ -44,7 +61,24 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public boolean hasPeriodClash(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasTimingConflict);
+        return periodIndex.hasOverlap(toCheck.getTimePeriod());
+    }
+
+    /**
+     * Returns the lessons in the list that have a clash in time slot with the lesson as given argument,
+     * ordered by start time.
+     */
+    public List<Lesson> getClashingLessons(Lesson toCheck) {
+        requireNonNull(toCheck);
+        return periodIndex.getOverlapping(toCheck.getTimePeriod());
+    }
+
+    /**
+     * Returns the lessons in the list that the student with the matriculation number {@code matricNum} is in, in
+     * no particular order.
+     */
+    public List<Lesson> getLessonsWithStudent(MatricNum matricNum) {
+        return studentIndex.getLessons(matricNum);
     }
 
     /**
@@ -62,8 +96,10 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new LessonClashException();
         }
 
-        internalList.add(toAdd);
-        FXCollections.sort(internalList);
+        SortedListUtil.insert(internalList, toAdd);
+        periodIndex.add(toAdd);
+        studentIndex.add(toAdd);
+        addToKeyIndex(lessonsByKey, toAdd);
     }
 
     /**
@@ -73,23 +109,23 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public Index indexOf(Lesson target) {
         requireNonNull(target);
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Lesson storedTarget = getStoredLesson(target);
+        if (storedTarget == null) {
             throw new LessonNotFoundException();
         }
-        return Index.fromZeroBased(index);
+        return Index.fromZeroBased(SortedListUtil.indexOfInstance(internalList, storedTarget));
     }
 
     /**
      * Replaces the lesson {@code target} in the list with {@code editedLesson}.
      * {@code target} must exist in the list.
      * The lesson identity of {@code editedLesson} must not be the same as another existing lesson in the list.
+     * The time period of {@code editedLesson} must not clash with any lesson in the list other than {@code target}.
      */
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
-
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Lesson storedTarget = getStoredLesson(target);
+        if (storedTarget == null) {
             throw new LessonNotFoundException();
         }
 
@@ -97,12 +133,19 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        if (!editedLesson.equals(target) && hasPeriodClash(editedLesson)) {
+        if (!editedLesson.equals(target) && getClashingLessons(editedLesson).stream()
+                .anyMatch(lesson -> lesson != storedTarget)) {
             throw new LessonClashException();
         }
 
-        internalList.set(index, editedLesson);
-        FXCollections.sort(internalList);
+        int index = SortedListUtil.indexOfInstance(internalList, storedTarget);
+        periodIndex.remove(storedTarget);
+        studentIndex.remove(storedTarget);
+        removeFromKeyIndex(storedTarget);
+        SortedListUtil.replace(internalList, index, editedLesson);
+        periodIndex.add(editedLesson);
+        studentIndex.add(editedLesson);
+        addToKeyIndex(lessonsByKey, editedLesson);
     }
 
     /**
@@ -111,16 +154,45 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Lesson removedLesson = getStoredLesson(toRemove);
+        if (removedLesson == null) {
             throw new LessonNotFoundException();
         }
-        FXCollections.sort(internalList);
+        internalList.remove(SortedListUtil.indexOfInstance(internalList, removedLesson));
+        periodIndex.remove(removedLesson);
+        studentIndex.remove(removedLesson);
+        removeFromKeyIndex(removedLesson);
+    }
+
+    /**
+     * Removes the lessons in {@code toRemove} from the list and adds the lessons in {@code toAdd}, to bring the
+     * list back to a version that it had before.
+     * Every lesson in {@code toRemove} must be in the list, and the lessons in {@code toAdd} must not be the same
+     * as any lesson left in the list. As the version being restored was valid, the lessons in {@code toAdd} are
+     * not checked for clashes, which lessons read from the data file may have.
+     */
+    public void restore(Collection<Lesson> toRemove, Collection<Lesson> toAdd) {
+        requireAllNonNull(toRemove, toAdd);
+        for (Lesson lesson : toRemove) {
+            periodIndex.remove(lesson);
+            studentIndex.remove(lesson);
+            removeFromKeyIndex(lesson);
+        }
+        for (Lesson lesson : toAdd) {
+            periodIndex.add(lesson);
+            studentIndex.add(lesson);
+            addToKeyIndex(lessonsByKey, lesson);
+        }
+        SortedListUtil.removeAndInsertAll(internalList, toRemove, toAdd);
     }
 
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
+        periodIndex.setAll(internalList);
+        studentIndex.setAll(internalList);
+        lessonsByKey.clear();
+        replacement.lessonsByKey.forEach((key, lessons) -> lessonsByKey.put(key, new ArrayList<>(lessons)));
     }
 
     /**
@@ -129,22 +201,53 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void setLessons(List<? extends Lesson> lessons) {
         requireAllNonNull(lessons);
-        if (!lessonsAreUnique(lessons)) {
-            throw new DuplicateLessonException();
+        Map<LessonKey, List<Lesson>> replacementLessonsByKey = new HashMap<>();
+        for (Lesson lesson : lessons) {
+            List<Lesson> sameKeyLessons = replacementLessonsByKey.get(lesson.getIdentityKey());
+            if (sameKeyLessons != null && sameKeyLessons.contains(lesson)) {
+                throw new DuplicateLessonException();
+            }
+            addToKeyIndex(replacementLessonsByKey, lesson);
         }
 
-        internalList.setAll(lessons);
-        FXCollections.sort(internalList);
+        internalList.setAll(SortedListUtil.sortedCopy(lessons));
+        periodIndex.setAll(internalList);
+        studentIndex.setAll(internalList);
+        lessonsByKey.clear();
+        lessonsByKey.putAll(replacementLessonsByKey);
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Lesson> asUnmodifiableObservableList() {
-        FXCollections.sort(internalList);
         return internalUnmodifiableList;
     }
 
+    /**
+     * Starts a batch of changes to the list, which are reported to the listeners of the list as a single change
+     * when {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch of changes started by {@link #beginBatch()}, and reports them.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Undoes the changes made since {@link #beginBatch()} and ends the batch, so that the changes and their undoing
+     * are reported together, if at all.
+     */
+    public void rollbackBatch() {
+        restore(internalList.getAddedInBatch(), internalList.getRemovedInBatch());
+        internalList.endBatch();
+    }
+
     @Override
     public Iterator<Lesson> iterator() {
         return internalList.iterator();
@@ -163,16 +266,39 @@ public class UniqueLessonList implements Iterable<Lesson> {
     }
 
     /**
-     * Returns true if {@code lessons} contains only unique lessons.
+     * Returns the lesson in the list that is equivalent to {@code lesson}, or null if there is none.
      */
-    private boolean lessonsAreUnique(List<? extends Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).equals(lessons.get(j))) {
-                    return false;
-                }
+    private Lesson getStoredLesson(Lesson lesson) {
+        List<Lesson> sameKeyLessons = lessonsByKey.get(lesson.getIdentityKey());
+        if (sameKeyLessons == null) {
+            return null;
+        }
+        for (Lesson sameKeyLesson : sameKeyLessons) {
+            if (sameKeyLesson.equals(lesson)) {
+                return sameKeyLesson;
             }
         }
-        return true;
+        return null;
+    }
+
+    private static void addToKeyIndex(Map<LessonKey, List<Lesson>> lessonsByKey, Lesson lesson) {
+        lessonsByKey.computeIfAbsent(lesson.getIdentityKey(), key -> new ArrayList<>(1)).add(lesson);
+    }
+
+    /**
+     * Removes {@code lesson} from the index, or an equivalent lesson if {@code lesson} itself is not in it.
+     */
+    private void removeFromKeyIndex(Lesson lesson) {
+        List<Lesson> sameKeyLessons = lessonsByKey.get(lesson.getIdentityKey());
+        if (sameKeyLessons == null) {
+            return;
+        }
+        boolean isRemoved = sameKeyLessons.removeIf(sameKeyLesson -> sameKeyLesson == lesson);
+        if (!isRemoved) {
+            sameKeyLessons.remove(lesson);
+        }
+        if (sameKeyLessons.isEmpty()) {
+            lessonsByKey.remove(lesson.getIdentityKey());
+        }
     }
 }
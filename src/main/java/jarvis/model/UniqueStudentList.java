@@ -3,9 +3,21 @@ package jarvis.model;
 import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
+import jarvis.commons.util.BatchObservableList;
+import jarvis.commons.util.SortedListUtil;
 import jarvis.model.exceptions.DuplicateStudentException;
 import jarvis.model.exceptions.StudentNotFoundException;
 import javafx.collections.FXCollections;
@@ -17,6 +29,10 @@ import javafx.collections.ObservableList;
  * As such, adding and updating of students uses Student#equals(Object) for equality to ensure that the
  * student being added or updated is unique in terms of identity in the UniqueStudentList.The removal of a
  * student also uses Student#equals(Object).
+ * Since students are identified by their matric number, the list also keeps an index of its students by matric
+ * number, which answers containment checks and lookups in constant time, and an index of its students by the
+ * lower-cased words in their names, which answers name searches without testing every student.
+ * The list is kept sorted as it is modified, by inserting, removing and moving only the affected students.
  *
  * Supports a minimal set of list operations.
  *
@@ -24,16 +40,49 @@ import javafx.collections.ObservableList;
  */
 public class UniqueStudentList implements Iterable<Student> {
 
-    private final ObservableList<Student> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Student> internalList = new BatchObservableList<>();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<MatricNum, Student> studentsByMatricNum = new HashMap<>();
+    private final NavigableMap<String, Set<Student>> studentsByNameWord = new TreeMap<>();
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return studentsByMatricNum.containsKey(toCheck.getMatricNum());
+    }
+
+    /**
+     * Returns the student in the list with the given matric number, if any.
+     */
+    public Optional<Student> get(MatricNum matricNum) {
+        requireNonNull(matricNum);
+        return Optional.ofNullable(studentsByMatricNum.get(matricNum));
+    }
+
+    /**
+     * Returns the students in the list with a word in their name that is one of {@code words} or starts with one of
+     * {@code prefixes}. All words and prefixes must be in lower case.
+     * The students are found from the name index, by taking the union of the students of each word, and of each
+     * word in the index that starts with a prefix.
+     */
+    public Set<Student> findByName(Collection<String> words, Collection<String> prefixes) {
+        requireAllNonNull(words, prefixes);
+        Set<Student> matches = new HashSet<>();
+        for (String word : words) {
+            matches.addAll(studentsByNameWord.getOrDefault(word, Collections.emptySet()));
+        }
+        for (String prefix : prefixes) {
+            for (Map.Entry<String, Set<Student>> entry : studentsByNameWord.tailMap(prefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                matches.addAll(entry.getValue());
+            }
+        }
+        return matches;
     }
 
     /**
@@ -45,8 +94,9 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
-        internalList.add(toAdd);
-        FXCollections.sort(internalList);
+        studentsByMatricNum.put(toAdd.getMatricNum(), toAdd);
+        addToNameIndex(toAdd);
+        SortedListUtil.insert(internalList, toAdd);
     }
 
     /**
@@ -57,8 +107,8 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Student storedTarget = studentsByMatricNum.get(target.getMatricNum());
+        if (storedTarget == null) {
             throw new StudentNotFoundException();
         }
 
@@ -66,8 +116,60 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
-        internalList.set(index, editedStudent);
-        FXCollections.sort(internalList);
+        studentsByMatricNum.remove(storedTarget.getMatricNum());
+        studentsByMatricNum.put(editedStudent.getMatricNum(), editedStudent);
+        removeFromNameIndex(storedTarget);
+        addToNameIndex(editedStudent);
+        SortedListUtil.replace(internalList, indexOf(storedTarget), editedStudent);
+    }
+
+    /**
+     * Replaces each student in the keys of {@code editedStudents} with its value, as a single change to the list.
+     * Every key must exist in the list.
+     * The student identity of every edited student must not be the same as another student in the list after
+     * the replacement. If any of them is, the list is left unchanged.
+     */
+    public void setStudents(Map<Student, Student> editedStudents) {
+        requireNonNull(editedStudents);
+        if (editedStudents.isEmpty()) {
+            return;
+        }
+
+        List<Student> storedTargets = new ArrayList<>(editedStudents.size());
+        Set<MatricNum> targetMatricNums = new HashSet<>();
+        for (Student target : editedStudents.keySet()) {
+            Student storedTarget = studentsByMatricNum.get(target.getMatricNum());
+            if (storedTarget == null) {
+                throw new StudentNotFoundException();
+            }
+            storedTargets.add(storedTarget);
+            targetMatricNums.add(storedTarget.getMatricNum());
+        }
+        Set<MatricNum> editedMatricNums = new HashSet<>();
+        for (Student editedStudent : editedStudents.values()) {
+            MatricNum matricNum = editedStudent.getMatricNum();
+            if (!editedMatricNums.add(matricNum)
+                    || (studentsByMatricNum.containsKey(matricNum) && !targetMatricNums.contains(matricNum))) {
+                throw new DuplicateStudentException();
+            }
+        }
+
+        for (Student storedTarget : storedTargets) {
+            studentsByMatricNum.remove(storedTarget.getMatricNum());
+            removeFromNameIndex(storedTarget);
+        }
+        for (Student editedStudent : editedStudents.values()) {
+            studentsByMatricNum.put(editedStudent.getMatricNum(), editedStudent);
+            addToNameIndex(editedStudent);
+        }
+        boolean isOwnBatch = !internalList.isInBatch();
+        if (isOwnBatch) {
+            internalList.beginBatch();
+        }
+        SortedListUtil.removeAndInsertAll(internalList, storedTargets, editedStudents.values());
+        if (isOwnBatch) {
+            internalList.endBatch();
+        }
     }
 
     /**
@@ -76,16 +178,41 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Student storedStudent = studentsByMatricNum.remove(toRemove.getMatricNum());
+        if (storedStudent == null) {
             throw new StudentNotFoundException();
         }
-        FXCollections.sort(internalList);
+        removeFromNameIndex(storedStudent);
+        internalList.remove(indexOf(storedStudent));
+    }
+
+    /**
+     * Removes the students in {@code toRemove} from the list and adds the students in {@code toAdd}, to bring the
+     * list back to a version that it had before.
+     * Every student in {@code toRemove} must be in the list, and the students in {@code toAdd} must not have the
+     * same identity as any student left in the list.
+     */
+    public void restore(Collection<Student> toRemove, Collection<Student> toAdd) {
+        requireAllNonNull(toRemove, toAdd);
+        for (Student student : toRemove) {
+            studentsByMatricNum.remove(student.getMatricNum());
+            removeFromNameIndex(student);
+        }
+        for (Student student : toAdd) {
+            studentsByMatricNum.put(student.getMatricNum(), student);
+            addToNameIndex(student);
+        }
+        SortedListUtil.removeAndInsertAll(internalList, toRemove, toAdd);
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
+        studentsByMatricNum.clear();
+        studentsByMatricNum.putAll(replacement.studentsByMatricNum);
+        studentsByNameWord.clear();
+        replacement.studentsByNameWord.forEach((word, students) ->
+                studentsByNameWord.put(word, new HashSet<>(students)));
         internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
     }
 
     /**
@@ -94,22 +221,49 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
+        Map<MatricNum, Student> replacementIndex = indexByMatricNum(students);
+        if (replacementIndex == null) {
             throw new DuplicateStudentException();
         }
 
-        internalList.setAll(students);
-        FXCollections.sort(internalList);
+        studentsByMatricNum.clear();
+        studentsByMatricNum.putAll(replacementIndex);
+        studentsByNameWord.clear();
+        students.forEach(this::addToNameIndex);
+        internalList.setAll(SortedListUtil.sortedCopy(students));
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Student> asUnmodifiableObservableList() {
-        FXCollections.sort(internalList);
         return internalUnmodifiableList;
     }
 
+    /**
+     * Starts a batch of changes to the list, which are reported to the listeners of the list as a single change
+     * when {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch of changes started by {@link #beginBatch()}, and reports them.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Undoes the changes made since {@link #beginBatch()} and ends the batch, so that the changes and their undoing
+     * are reported together, if at all.
+     */
+    public void rollbackBatch() {
+        restore(internalList.getAddedInBatch(), internalList.getRemovedInBatch());
+        internalList.endBatch();
+    }
+
     public int getNumStudents() {
         return internalList.size();
     }
@@ -132,16 +286,40 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the position of {@code storedStudent}, which must be in the list.
+     * The list is kept sorted, so the student can be found by binary search.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).equals(students.get(j))) {
-                    return false;
-                }
+    private int indexOf(Student storedStudent) {
+        int index = Collections.binarySearch(internalList, storedStudent);
+        assert index >= 0 && internalList.get(index) == storedStudent;
+        return index;
+    }
+
+    private void addToNameIndex(Student student) {
+        for (String word : student.getName().getLowerCaseWords()) {
+            studentsByNameWord.computeIfAbsent(word, unused -> new HashSet<>()).add(student);
+        }
+    }
+
+    private void removeFromNameIndex(Student student) {
+        for (String word : student.getName().getLowerCaseWords()) {
+            Set<Student> students = studentsByNameWord.get(word);
+            if (students != null && students.remove(student) && students.isEmpty()) {
+                studentsByNameWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code students} indexed by matric number, or null if {@code students} contains duplicate students.
+     */
+    private static Map<MatricNum, Student> indexByMatricNum(List<Student> students) {
+        Map<MatricNum, Student> index = new HashMap<>();
+        for (Student student : students) {
+            if (index.putIfAbsent(student.getMatricNum(), student) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
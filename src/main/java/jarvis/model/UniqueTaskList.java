@@ -3,9 +3,14 @@ package jarvis.model;
 import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
+import jarvis.commons.util.BatchObservableList;
+import jarvis.commons.util.SortedListUtil;
 import jarvis.model.exceptions.DuplicateTaskException;
 import jarvis.model.exceptions.TaskNotFoundException;
 import javafx.collections.FXCollections;
@@ -17,6 +22,10 @@ import javafx.collections.ObservableList;
  * As such, adding and updating of tasks uses Task#equals(Object) for equality so as to ensure that the
  * task being added or updated is unique in terms of identity in the UniqueTaskList. The removal of a
  * task also uses Task#equals(Object).
+ * The list also keeps an index of its tasks by equality, which answers containment checks in constant time and
+ * finds the stored instance of a task, whose position is then found by binary search.
+ * The list is kept sorted as it is modified, by inserting, removing and moving only the affected tasks.
+ * Tasks must not be modified in place once they are in the list.
  *
  * Supports a minimal set of list operations.
  *
@@ -24,16 +33,18 @@ import javafx.collections.ObservableList;
  */
 public class UniqueTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Task> internalList = new BatchObservableList<>();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // every task in the list, mapped to itself so that the stored instance of an equal task can be found
+    private final Map<Task, Task> storedTasks = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return storedTasks.containsKey(toCheck);
     }
 
     /**
@@ -45,8 +56,8 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
-        FXCollections.sort(internalList);
+        SortedListUtil.insert(internalList, toAdd);
+        storedTasks.put(toAdd, toAdd);
     }
 
     /**
@@ -56,9 +67,8 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
-
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Task storedTarget = storedTasks.get(target);
+        if (storedTarget == null) {
             throw new TaskNotFoundException();
         }
 
@@ -66,8 +76,9 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
-        FXCollections.sort(internalList);
+        SortedListUtil.replace(internalList, indexOf(storedTarget), editedTask);
+        storedTasks.remove(storedTarget);
+        storedTasks.put(editedTask, editedTask);
     }
 
     /**
@@ -76,16 +87,35 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Task storedTask = storedTasks.remove(toRemove);
+        if (storedTask == null) {
             throw new TaskNotFoundException();
         }
-        FXCollections.sort(internalList);
+        internalList.remove(indexOf(storedTask));
+    }
+
+    /**
+     * Removes the tasks in {@code toRemove} from the list and adds the tasks in {@code toAdd}, to bring the list
+     * back to a version that it had before.
+     * Every task in {@code toRemove} must be in the list, and the tasks in {@code toAdd} must not have the same
+     * identity as any task left in the list.
+     */
+    public void restore(Collection<Task> toRemove, Collection<Task> toAdd) {
+        requireAllNonNull(toRemove, toAdd);
+        for (Task task : toRemove) {
+            storedTasks.remove(task);
+        }
+        for (Task task : toAdd) {
+            storedTasks.put(task, task);
+        }
+        SortedListUtil.removeAndInsertAll(internalList, toRemove, toAdd);
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
+        storedTasks.clear();
+        storedTasks.putAll(replacement.storedTasks);
     }
 
     /**
@@ -94,22 +124,49 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void setTasks(List<Task> tasks) {
         requireAllNonNull(tasks);
-        if (!tasksAreUnique(tasks)) {
-            throw new DuplicateTaskException();
+        Map<Task, Task> replacementStoredTasks = new HashMap<>();
+        for (Task task : tasks) {
+            if (replacementStoredTasks.putIfAbsent(task, task) != null) {
+                throw new DuplicateTaskException();
+            }
         }
 
-        internalList.setAll(tasks);
-        FXCollections.sort(internalList);
+        internalList.setAll(SortedListUtil.sortedCopy(tasks));
+        storedTasks.clear();
+        storedTasks.putAll(replacementStoredTasks);
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Task> asUnmodifiableObservableList() {
-        FXCollections.sort(internalList);
         return internalUnmodifiableList;
     }
 
+    /**
+     * Starts a batch of changes to the list, which are reported to the listeners of the list as a single change
+     * when {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch of changes started by {@link #beginBatch()}, and reports them.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Undoes the changes made since {@link #beginBatch()} and ends the batch, so that the changes and their undoing
+     * are reported together, if at all.
+     */
+    public void rollbackBatch() {
+        restore(internalList.getAddedInBatch(), internalList.getRemovedInBatch());
+        internalList.endBatch();
+    }
+
     @Override
     public Iterator<Task> iterator() {
         return internalList.iterator();
@@ -128,16 +185,10 @@ public class UniqueTaskList implements Iterable<Task> {
     }
 
     /**
-     * Returns true if {@code tasks} contains only unique tasks.
+     * Returns the position of {@code storedTask}, which must be in the list.
+     * The list is kept sorted, so the task can be found by binary search.
      */
-    private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).equals(tasks.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private int indexOf(Task storedTask) {
+        return SortedListUtil.indexOfInstance(internalList, storedTask);
     }
 }
@@ -0,0 +1,338 @@
+package jarvis.model.util;
+
+import static jarvis.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import jarvis.model.Assessment;
+import jarvis.model.Consult;
+import jarvis.model.GradeProfile;
+import jarvis.model.Lesson;
+import jarvis.model.LessonBook;
+import jarvis.model.LessonDesc;
+import jarvis.model.LessonType;
+import jarvis.model.MasteryCheck;
+import jarvis.model.MatricNum;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.Student;
+import jarvis.model.StudentBook;
+import jarvis.model.StudentName;
+import jarvis.model.Studio;
+import jarvis.model.Task;
+import jarvis.model.TaskBook;
+import jarvis.model.TaskDeadline;
+import jarvis.model.TaskDesc;
+import jarvis.model.TimePeriod;
+
+/**
+ * Generates student, task and lesson books of any size with realistic names, grades, attendance and notes.
+ * The data generated only depends on the seed and the sizes given, so the same data can be generated again
+ * wherever it is needed instead of being shared.
+ * Studios are attended by fixed groups of students, and no two lessons clash.
+ */
+public class SampleDataGenerator {
+
+    public static final int DEFAULT_STUDENT_COUNT = 5000;
+    public static final int DEFAULT_TASK_COUNT = 500;
+    public static final int DEFAULT_STUDIO_COUNT = 2000;
+    public static final int DEFAULT_CONSULT_COUNT = 300;
+    public static final int DEFAULT_MASTERY_CHECK_COUNT = 200;
+    public static final int DEFAULT_MIN_STUDENTS_PER_STUDIO = 8;
+    public static final int DEFAULT_MAX_STUDENTS_PER_STUDIO = 12;
+
+    public static final LocalDate SEMESTER_START = LocalDate.of(2022, 8, 8);
+
+    private static final LocalTime FIRST_LESSON_START = LocalTime.of(8, 0);
+    private static final LocalTime LAST_LESSON_END = LocalTime.of(20, 0);
+    private static final int SEMESTER_DAYS = 120;
+
+    // Different streams of random numbers for each book, so that each book does not depend on the others' sizes
+    private static final long STUDENT_STREAM = 0x53545544454e54L;
+    private static final long TASK_STREAM = 0x5441534bL;
+    private static final long LESSON_STREAM = 0x4c4553534f4eL;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ming", "Hui Min", "Siti", "Arjun",
+        "Priya", "Jun Jie", "Xin Yi", "Muhammad", "Nurul", "Ethan", "Chloe", "Darren", "Rachel", "Kumar",
+        "Jia Hui", "Zhi Hao", "Aisyah", "Ryan", "Sarah", "Kai Xuan", "Natalie", "Vignesh", "Farhan", "Grace"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Tay",
+        "Ho", "Low", "Toh", "Sim", "Chong", "Yeoh", "Li", "Ibrahim", "Balakrishnan", "Oliveiro", "Rahman",
+        "Singh", "Kaur", "Pillai", "Hassan", "Fernandez"
+    };
+    private static final String MATRIC_NUM_CHECK_LETTERS = "ABEHJLMNRUWXY";
+
+    private static final String[] TASK_DESCRIPTIONS = {
+        "Mark mission %d", "Mark quest %d", "Prepare studio %d slides", "Reply forum posts for week %d",
+        "Upload recording of studio %d", "Grade reading assessment %d", "Prepare mastery check %d",
+        "Review path %d submissions"
+    };
+    private static final String[] GENERAL_NOTES = {
+        "Covered recursion and iterative processes",
+        "Went through the mission briefing",
+        "Students struggled with higher order functions",
+        "Ran out of time for the last question",
+        "Recap of environment model diagrams",
+        "Remind students about the upcoming deadline",
+        "Live coding session on streams went well"
+    };
+    private static final String[] STUDENT_NOTES = {
+        "Asked good questions about scoping",
+        "Needs help with box and pointer diagrams",
+        "Came late",
+        "Very active in discussion",
+        "Follow up on mission submission",
+        "Struggling with recursion"
+    };
+
+    private final long seed;
+    private int studentCount = DEFAULT_STUDENT_COUNT;
+    private int taskCount = DEFAULT_TASK_COUNT;
+    private int studioCount = DEFAULT_STUDIO_COUNT;
+    private int consultCount = DEFAULT_CONSULT_COUNT;
+    private int masteryCheckCount = DEFAULT_MASTERY_CHECK_COUNT;
+    private int minStudentsPerStudio = DEFAULT_MIN_STUDENTS_PER_STUDIO;
+    private int maxStudentsPerStudio = DEFAULT_MAX_STUDENTS_PER_STUDIO;
+
+    /**
+     * Creates a {@code SampleDataGenerator} with the default sizes, which generates data based on {@code seed}.
+     */
+    public SampleDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of students generated.
+     */
+    public SampleDataGenerator withStudents(int studentCount) {
+        checkArgument(studentCount >= 0, "Number of students cannot be negative");
+        this.studentCount = studentCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of tasks generated.
+     */
+    public SampleDataGenerator withTasks(int taskCount) {
+        checkArgument(taskCount >= 0, "Number of tasks cannot be negative");
+        this.taskCount = taskCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of studios, consults and mastery checks generated.
+     */
+    public SampleDataGenerator withLessons(int studioCount, int consultCount, int masteryCheckCount) {
+        checkArgument(studioCount >= 0 && consultCount >= 0 && masteryCheckCount >= 0,
+                "Number of lessons cannot be negative");
+        this.studioCount = studioCount;
+        this.consultCount = consultCount;
+        this.masteryCheckCount = masteryCheckCount;
+        return this;
+    }
+
+    /**
+     * Sets the range of the number of students in each studio group.
+     */
+    public SampleDataGenerator withStudentsPerStudio(int min, int max) {
+        checkArgument(0 < min && min <= max, "Number of students per studio must be a positive range");
+        this.minStudentsPerStudio = min;
+        this.maxStudentsPerStudio = max;
+        return this;
+    }
+
+    /**
+     * Returns a student book of students with distinct matric numbers, some of whom have been graded.
+     * The student book can have more than {@link StudentBook#MAX_STUDENTS} students.
+     */
+    public StudentBook generateStudentBook() {
+        Random random = new Random(seed ^ STUDENT_STREAM);
+        Set<String> matricNums = new HashSet<>();
+        List<Student> students = new ArrayList<>(studentCount);
+        while (students.size() < studentCount) {
+            String matricNum = String.format("A%07d%c", random.nextInt(10_000_000),
+                    MATRIC_NUM_CHECK_LETTERS.charAt(random.nextInt(MATRIC_NUM_CHECK_LETTERS.length())));
+            if (!matricNums.add(matricNum)) {
+                continue;
+            }
+            String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+            students.add(new Student(new StudentName(name), new MatricNum(matricNum), generateGrades(random)));
+        }
+
+        StudentBook studentBook = new StudentBook();
+        studentBook.setStudents(students);
+        return studentBook;
+    }
+
+    /**
+     * Returns grades for the assessments a student has taken so far, with marks around 70% of the total marks.
+     */
+    private static GradeProfile generateGrades(Random random) {
+        GradeProfile gradeProfile = new GradeProfile();
+        // students are at different points of the semester, and later assessments are graded less often
+        int gradedCount = random.nextInt(Assessment.values().length + 1);
+        for (Assessment assessment : Assessment.values()) {
+            if (assessment.ordinal() >= gradedCount) {
+                break;
+            }
+            int totalMarks = assessment.getTotalMarks();
+            double marks = totalMarks * (0.7 + 0.15 * random.nextGaussian());
+            marks = Math.round(Math.max(0, Math.min(totalMarks, marks)) * 2) / 2.0;
+            gradeProfile.grade(assessment, marks);
+        }
+        return gradeProfile;
+    }
+
+    /**
+     * Returns a task book of tasks due over the semester, where tasks due in the first half of the semester
+     * are mostly done.
+     */
+    public TaskBook generateTaskBook() {
+        Random random = new Random(seed ^ TASK_STREAM);
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            String desc = String.format(TASK_DESCRIPTIONS[i % TASK_DESCRIPTIONS.length],
+                    i / TASK_DESCRIPTIONS.length + 1);
+            TaskDeadline deadline = random.nextInt(10) == 0
+                    ? null
+                    : new TaskDeadline(SEMESTER_START.plusDays(random.nextInt(SEMESTER_DAYS)));
+            Task task = new Task(new TaskDesc(desc), deadline);
+            boolean isPastTask = deadline != null && deadline.deadline.isBefore(SEMESTER_START.plusDays(
+                    SEMESTER_DAYS / 2));
+            if (random.nextInt(10) < (isPastTask ? 9 : 2)) {
+                task.markAsDone();
+            }
+            tasks.add(task);
+        }
+
+        TaskBook taskBook = new TaskBook();
+        taskBook.setTasks(tasks);
+        return taskBook;
+    }
+
+    /**
+     * Returns a lesson book of studios, consults and mastery checks of the students in {@code studentBook}.
+     * The lessons are scheduled one after another in random order, and the first half of them have been
+     * completed, with attendance, participation and notes recorded.
+     */
+    public LessonBook generateLessonBook(ReadOnlyStudentBook studentBook) {
+        Random random = new Random(seed ^ LESSON_STREAM);
+        List<Student> students = new ArrayList<>(studentBook.getStudentList());
+        checkArgument(!students.isEmpty() || studioCount + consultCount + masteryCheckCount == 0,
+                "Lessons cannot be generated without students");
+        List<List<Student>> studioGroups = generateStudioGroups(random, students);
+
+        List<LessonType> lessonTypes = new ArrayList<>();
+        lessonTypes.addAll(Collections.nCopies(studioCount, LessonType.STUDIO));
+        lessonTypes.addAll(Collections.nCopies(consultCount, LessonType.CONSULT));
+        lessonTypes.addAll(Collections.nCopies(masteryCheckCount, LessonType.MASTERY_CHECK));
+        Collections.shuffle(lessonTypes, random);
+
+        List<Lesson> lessons = new ArrayList<>(lessonTypes.size());
+        LocalDateTime nextStart = SEMESTER_START.atTime(FIRST_LESSON_START);
+        int studioNumber = 0;
+        for (int i = 0; i < lessonTypes.size(); i++) {
+            LessonType lessonType = lessonTypes.get(i);
+            int hours = lessonType == LessonType.STUDIO ? 2 : 1;
+            LocalDateTime start = nextStart.plusMinutes(30L * random.nextInt(4));
+            if (start.plusHours(hours).toLocalTime().isAfter(LAST_LESSON_END)
+                    || !start.toLocalDate().equals(start.plusHours(hours).toLocalDate())) {
+                start = start.toLocalDate().plusDays(1).atTime(FIRST_LESSON_START);
+            }
+            TimePeriod timePeriod = new TimePeriod(start, start.plusHours(hours));
+            nextStart = timePeriod.getEnd();
+
+            Lesson lesson;
+            switch (lessonType) {
+            case STUDIO:
+                int group = studioNumber % studioGroups.size();
+                int week = studioNumber / studioGroups.size() + 1;
+                lesson = new Studio(new LessonDesc("Studio G" + (group + 1) + " Week " + week), timePeriod,
+                        studioGroups.get(group));
+                studioNumber++;
+                break;
+            case CONSULT:
+                lesson = new Consult(new LessonDesc("Consult on " + pick(random, "recursion", "streams",
+                        "environment model", "mission", "midterms")), timePeriod,
+                        pickStudents(random, students, 1 + random.nextInt(3)));
+                break;
+            default:
+                lesson = new MasteryCheck(new LessonDesc("Mastery Check " + (1 + random.nextInt(2))), timePeriod,
+                        pickStudents(random, students, 2));
+                break;
+            }
+            if (i < lessonTypes.size() / 2) {
+                completeLesson(random, lesson);
+            }
+            lessons.add(lesson);
+        }
+
+        LessonBook lessonBook = new LessonBook();
+        lessonBook.setLessons(lessons);
+        return lessonBook;
+    }
+
+    /**
+     * Splits {@code students} into groups of between the minimum and maximum number of students per studio.
+     * The last group may be smaller if there are not enough students left.
+     */
+    private List<List<Student>> generateStudioGroups(Random random, List<Student> students) {
+        List<Student> shuffledStudents = new ArrayList<>(students);
+        Collections.shuffle(shuffledStudents, random);
+        List<List<Student>> groups = new ArrayList<>();
+        int from = 0;
+        while (from < shuffledStudents.size()) {
+            int size = minStudentsPerStudio + random.nextInt(maxStudentsPerStudio - minStudentsPerStudio + 1);
+            int to = Math.min(from + size, shuffledStudents.size());
+            groups.add(new ArrayList<>(shuffledStudents.subList(from, to)));
+            from = to;
+        }
+        return groups;
+    }
+
+    /**
+     * Marks {@code lesson} as completed, with most students present and some notes taken.
+     */
+    private static void completeLesson(Random random, Lesson lesson) {
+        lesson.markAsCompleted();
+        for (Student student : lesson.getStudentList()) {
+            if (random.nextInt(10) < 9) {
+                lesson.markAsPresent(student);
+                if (lesson instanceof Studio) {
+                    ((Studio) lesson).setParticipationForStudent(student, random.nextInt(501));
+                }
+            }
+            if (random.nextInt(5) == 0) {
+                lesson.addStudentNote(pick(random, STUDENT_NOTES), student);
+            }
+        }
+        for (int i = random.nextInt(3); i > 0; i--) {
+            lesson.addOverallNote(pick(random, GENERAL_NOTES));
+        }
+    }
+
+    private static List<Student> pickStudents(Random random, List<Student> students, int count) {
+        Set<Student> picked = new HashSet<>();
+        List<Student> pickedStudents = new ArrayList<>();
+        while (pickedStudents.size() < Math.min(count, students.size())) {
+            Student student = students.get(random.nextInt(students.size()));
+            if (picked.add(student)) {
+                pickedStudents.add(student);
+            }
+        }
+        return pickedStudents;
+    }
+
+    private static String pick(Random random, String... choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+}
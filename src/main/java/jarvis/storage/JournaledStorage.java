@@ -0,0 +1,808 @@
+package jarvis.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.FileUtil;
+import jarvis.commons.util.JsonUtil;
+import jarvis.model.Lesson;
+import jarvis.model.LessonBook;
+import jarvis.model.MatricNum;
+import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.ReadOnlyTaskBook;
+import jarvis.model.ReadOnlyUserPrefs;
+import jarvis.model.Student;
+import jarvis.model.StudentBook;
+import jarvis.model.Task;
+import jarvis.model.TaskBook;
+import jarvis.model.UserPrefs;
+import jarvis.model.exceptions.DuplicateLessonException;
+import jarvis.model.exceptions.DuplicateStudentException;
+import jarvis.model.exceptions.DuplicateTaskException;
+import jarvis.storage.JsonAdaptedJournalRecord.BookType;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A {@code Storage} decorator that saves the student, task and lesson books by appending their changes to a journal,
+ * rather than writing the whole book after every command.
+ * <p>
+ * The first save of a book writes the whole book to its data file as a snapshot and starts listening to changes to
+ * its list of students, tasks or lessons. Every later save of the same book only appends the changes made since the
+ * previous save to the journal, so the cost of a save depends on the size of the change rather than the size of the
+ * book. The journal is written on a single background thread, which appends all the changes waiting to be written at
+ * once and syncs them to disk together. Once the journal grows beyond the compaction threshold, the background thread
+ * folds the changes into new snapshots of the books and starts an empty journal.
+ * <p>
+ * Reading a book from its data file replays the changes in the journal on top of it, if the journal was written for
+ * that version of the file. A change that was only partly written when the app stopped is ignored.
+ * Errors from background writes are passed to the handler set with {@link #setAsyncErrorHandler(Consumer)}, and the
+ * books are written as snapshots again on their next save. User prefs and file paths are handled by the wrapped
+ * {@code Storage}, which must store the books as JSON files at the paths it reports.
+ */
+public class JournaledStorage implements Storage {
+
+    public static final String JOURNAL_FILE_NAME = "journal.jsonl";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledStorage.class);
+
+    private final Storage storage;
+    private final Path journalFilePath;
+    private final long compactionThreshold;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jarvis-journal-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Records and snapshots waiting to be written, in the order they were made
+    private final List<PendingWrite> pendingWrites = new ArrayList<>();
+    // Books that must be saved as snapshots again, as some of their changes could not be written
+    private final Set<BookType> booksToSnapshot = ConcurrentHashMap.newKeySet();
+
+    private volatile Consumer<IOException> asyncErrorHandler = ioe -> { };
+
+    // Only accessed on the thread that saves the books
+    private final List<PendingWrite> unsavedRecords = new ArrayList<>();
+    private final BookJournal<Student> studentBookJournal =
+            new BookJournal<Student>(BookType.STUDENT_BOOK, JsonAdaptedJournalRecord::ofStudents);
+    private final BookJournal<Task> taskBookJournal =
+            new BookJournal<Task>(BookType.TASK_BOOK, JsonAdaptedJournalRecord::ofTasks);
+    private final BookJournal<Lesson> lessonBookJournal =
+            new BookJournal<Lesson>(BookType.LESSON_BOOK, JsonAdaptedJournalRecord::ofLessons);
+
+    // Only accessed on the writer thread: the content of the journal, which is loaded from the file on first use
+    private boolean isJournalLoaded;
+    private boolean isJournalRewriteNeeded;
+    private long journalSize;
+    private final Map<BookType, Long> snapshotChecksums = new EnumMap<>(BookType.class);
+    private final Map<BookType, List<String>> recordLines = new EnumMap<>(BookType.class);
+    private final Set<BookType> invalidBooks = EnumSet.noneOf(BookType.class);
+
+    /**
+     * Creates a {@code JournaledStorage} that saves books to the file paths of the given {@code storage}, with the
+     * journal in the same folder as the student book and the default compaction threshold.
+     */
+    public JournaledStorage(Storage storage) {
+        this(storage, storage.getStudentBookFilePath().resolveSibling(JOURNAL_FILE_NAME),
+                DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledStorage} that saves books to the file paths of the given {@code storage} and their
+     * changes to {@code journalFilePath}.
+     *
+     * @param compactionThreshold The size in bytes that the journal may grow to before it is compacted.
+     */
+    public JournaledStorage(Storage storage, Path journalFilePath, long compactionThreshold) {
+        requireNonNull(storage);
+        requireNonNull(journalFilePath);
+        this.storage = storage;
+        this.journalFilePath = journalFilePath;
+        this.compactionThreshold = compactionThreshold;
+        for (BookType book : BookType.values()) {
+            recordLines.put(book, new ArrayList<>());
+        }
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public void setAsyncErrorHandler(Consumer<IOException> asyncErrorHandler) {
+        requireNonNull(asyncErrorHandler);
+        this.asyncErrorHandler = asyncErrorHandler;
+    }
+
+    /**
+     * Blocks until every save requested so far has been written to disk.
+     */
+    @Override
+    public void flush() {
+        try {
+            // the writer runs tasks in order, so this completes after all earlier writes
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task should not fail", ee);
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written to disk, and folds the journal into new snapshots
+     * of the books, so that the data files can be read without the journal.
+     */
+    @Override
+    public void compact() throws IOException {
+        callOnWriter(() -> {
+            loadJournal();
+            compactJournal();
+            return null;
+        });
+    }
+
+    // ================ Saving ==============================
+
+    /**
+     * Saves the unsaved changes to {@code items} through {@code bookJournal}, or a snapshot of the whole book from
+     * {@code snapshotSupplier} if the journal is not already recording the changes to those items.
+     */
+    private <T> void save(BookJournal<T> bookJournal, ObservableList<T> items, Supplier<Object> snapshotSupplier) {
+        if (booksToSnapshot.remove(bookJournal.book)) {
+            bookJournal.stop();
+        }
+        if (!bookJournal.isJournaling(items)) {
+            bookJournal.start(items);
+            // the snapshot already contains the changes that have not been saved yet
+            unsavedRecords.removeIf(record -> record.book == bookJournal.book);
+            unsavedRecords.add(new PendingWrite(bookJournal.book, null, snapshotSupplier.get(),
+                    getFilePath(bookJournal.book)));
+        }
+        scheduleWrites(unsavedRecords);
+        unsavedRecords.clear();
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written to {@code filePath}, which is not the data file of any book.
+     */
+    private void scheduleSnapshot(Object snapshot, Path filePath) {
+        scheduleWrites(List.of(new PendingWrite(null, null, snapshot, filePath)));
+    }
+
+    /**
+     * Queues {@code writes} to be written after all the writes queued before them.
+     */
+    private void scheduleWrites(List<PendingWrite> writes) {
+        if (writes.isEmpty()) {
+            return;
+        }
+        synchronized (pendingWrites) {
+            boolean isWriteScheduled = !pendingWrites.isEmpty();
+            pendingWrites.addAll(writes);
+            if (isWriteScheduled) {
+                return;
+            }
+        }
+        writer.execute(this::writePending);
+    }
+
+    /**
+     * Writes all the queued writes, appending their records to the journal and syncing it once for all of them.
+     */
+    private void writePending() {
+        List<PendingWrite> writes;
+        synchronized (pendingWrites) {
+            writes = new ArrayList<>(pendingWrites);
+            pendingWrites.clear();
+        }
+
+        try {
+            loadJournal();
+            List<String> appendedLines = new ArrayList<>();
+            for (PendingWrite write : writes) {
+                if (write.snapshot == null) {
+                    if (!invalidBooks.contains(write.book)) {
+                        recordLines.get(write.book).add(write.line);
+                        appendedLines.add(write.line);
+                    }
+                } else if (write.book == null) {
+                    writeSnapshot(write.snapshot, write.filePath);
+                } else {
+                    appendedLines.add(startSnapshot(write.book, writeSnapshot(write.snapshot, write.filePath)));
+                }
+            }
+            if (isJournalRewriteNeeded) {
+                rewriteJournal();
+            } else {
+                appendToJournal(appendedLines);
+            }
+            if (journalSize > compactionThreshold) {
+                compactJournal();
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to write to journal " + journalFilePath + ": " + ioe);
+            // the changes after the failed write are lost, so the books must be saved as snapshots again
+            invalidBooks.addAll(EnumSet.allOf(BookType.class));
+            booksToSnapshot.addAll(EnumSet.allOf(BookType.class));
+            isJournalRewriteNeeded = true;
+            asyncErrorHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} to {@code filePath} and returns the checksum of the written file.
+     */
+    private long writeSnapshot(Object snapshot, Path filePath) throws IOException {
+        logger.fine("Attempting to write to data file: " + filePath);
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(snapshot, filePath, FileUtil.DATA_FILE_BACKUP_COUNT);
+        return getChecksum(filePath);
+    }
+
+    /**
+     * Discards the records of {@code book} in the journal, as its data file with the given {@code checksum} now
+     * contains them, and returns the line marking the new snapshot.
+     */
+    private String startSnapshot(BookType book, long checksum) throws JsonProcessingException {
+        snapshotChecksums.put(book, checksum);
+        recordLines.get(book).clear();
+        invalidBooks.remove(book);
+        return JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.ofSnapshot(book, checksum));
+    }
+
+    private void appendToJournal(List<String> lines) throws IOException {
+        if (lines.isEmpty()) {
+            return;
+        }
+        byte[] bytes = (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8);
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        journalSize += bytes.length;
+    }
+
+    /**
+     * Replaces the journal file with the snapshot marks and records that are still needed.
+     */
+    private void rewriteJournal() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (BookType book : BookType.values()) {
+            if (!snapshotChecksums.containsKey(book)) {
+                continue;
+            }
+            content.append(JsonUtil.toCompactJsonString(
+                    JsonAdaptedJournalRecord.ofSnapshot(book, snapshotChecksums.get(book)))).append('\n');
+            for (String line : recordLines.get(book)) {
+                content.append(line).append('\n');
+            }
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        FileUtil.writeToFile(journalFilePath, out -> out.write(bytes), 0);
+        journalSize = bytes.length;
+        isJournalRewriteNeeded = false;
+    }
+
+    /**
+     * Folds the records in the journal into new snapshots of their books, and starts an empty journal.
+     */
+    private void compactJournal() throws IOException {
+        logger.info("Compacting journal " + journalFilePath + " of " + journalSize + " bytes");
+        try {
+            boolean hasStudentRecords = hasRecords(BookType.STUDENT_BOOK);
+            boolean hasLessonRecords = hasRecords(BookType.LESSON_BOOK);
+            ReadOnlyStudentBook studentBook = null;
+            if (hasStudentRecords || hasLessonRecords) {
+                studentBook = replayStudentBook(storage.readStudentBook(getFilePath(BookType.STUDENT_BOOK))
+                        .orElseGet(StudentBook::new), parseRecords(BookType.STUDENT_BOOK));
+            }
+            if (hasStudentRecords) {
+                Path filePath = getFilePath(BookType.STUDENT_BOOK);
+                startSnapshot(BookType.STUDENT_BOOK,
+                        writeSnapshot(new JsonSerializableStudentBook(studentBook), filePath));
+            }
+            if (hasRecords(BookType.TASK_BOOK)) {
+                Path filePath = getFilePath(BookType.TASK_BOOK);
+                TaskBook taskBook = replayTaskBook(storage.readTaskBook(filePath).orElseGet(TaskBook::new),
+                        parseRecords(BookType.TASK_BOOK));
+                startSnapshot(BookType.TASK_BOOK, writeSnapshot(new JsonSerializableTaskBook(taskBook), filePath));
+            }
+            if (hasLessonRecords) {
+                Path filePath = getFilePath(BookType.LESSON_BOOK);
+                LessonBook lessonBook = replayLessonBook(storage.readLessonBook(filePath, studentBook)
+                        .orElseGet(LessonBook::new), studentBook, parseRecords(BookType.LESSON_BOOK));
+                startSnapshot(BookType.LESSON_BOOK,
+                        writeSnapshot(new JsonSerializableLessonBook(lessonBook), filePath));
+            }
+        } catch (DataConversionException dce) {
+            throw new IOException("Could not compact journal: " + dce.getMessage(), dce);
+        }
+        rewriteJournal();
+    }
+
+    /**
+     * Returns true if the journal has records of {@code book} for its current data file.
+     * The records of a data file that has been replaced by other means are discarded.
+     */
+    private boolean hasRecords(BookType book) throws IOException {
+        if (recordLines.get(book).isEmpty()) {
+            return false;
+        }
+        if (isSnapshotInJournal(book, getFilePath(book))) {
+            return true;
+        }
+        logger.warning("Discarding journal records of " + book + " as its data file has changed");
+        snapshotChecksums.remove(book);
+        recordLines.get(book).clear();
+        isJournalRewriteNeeded = true;
+        return false;
+    }
+
+    // ================ Reading ==============================
+
+    /**
+     * Loads the content of the journal file, if it has not been loaded yet.
+     * Reading stops at the first line that is not a valid record, which can only be a record that was partly
+     * written when the app stopped.
+     */
+    private void loadJournal() throws IOException {
+        if (isJournalLoaded) {
+            return;
+        }
+        isJournalLoaded = true;
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return;
+        }
+
+        String content = FileUtil.readFromFile(journalFilePath);
+        int lineStart = 0;
+        while (lineStart < content.length()) {
+            int lineEnd = content.indexOf('\n', lineStart);
+            JsonAdaptedJournalRecord record = lineEnd == -1 ? null
+                    : parseRecord(content.substring(lineStart, lineEnd));
+            if (record == null) {
+                logger.warning("Ignoring incomplete record at the end of journal " + journalFilePath);
+                isJournalRewriteNeeded = true;
+                break;
+            }
+            if (record.isSnapshot()) {
+                snapshotChecksums.put(record.getBook(), record.getChecksum());
+                recordLines.get(record.getBook()).clear();
+            } else if (snapshotChecksums.containsKey(record.getBook())) {
+                recordLines.get(record.getBook()).add(content.substring(lineStart, lineEnd));
+            }
+            lineStart = lineEnd + 1;
+        }
+        journalSize = content.substring(0, lineStart).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static JsonAdaptedJournalRecord parseRecord(String line) {
+        try {
+            JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            return record.getBook() == null ? null : record;
+        } catch (IOException ioe) {
+            return null;
+        }
+    }
+
+    private List<JsonAdaptedJournalRecord> parseRecords(BookType book) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (String line : recordLines.get(book)) {
+            records.add(parseRecord(line));
+        }
+        return records;
+    }
+
+    /**
+     * Returns true if the journal continues from the data file of {@code book} at {@code filePath}.
+     */
+    private boolean isSnapshotInJournal(BookType book, Path filePath) throws IOException {
+        return snapshotChecksums.containsKey(book) && FileUtil.isFileExists(filePath)
+                && snapshotChecksums.get(book) == getChecksum(filePath);
+    }
+
+    /**
+     * Returns the records of {@code book} in the journal that apply to its data file at {@code filePath}.
+     */
+    private List<JsonAdaptedJournalRecord> getRecords(BookType book, Path filePath) throws IOException {
+        return callOnWriter(() -> {
+            loadJournal();
+            return isSnapshotInJournal(book, filePath) ? parseRecords(book) : new ArrayList<>();
+        });
+    }
+
+    private static StudentBook replayStudentBook(ReadOnlyStudentBook snapshot,
+                                                 List<JsonAdaptedJournalRecord> records)
+            throws DataConversionException {
+        try {
+            List<Student> students = new ArrayList<>(snapshot.getStudentList());
+            for (JsonAdaptedJournalRecord record : records) {
+                record.applyTo(students, record.getAddedStudents());
+            }
+            StudentBook studentBook = new StudentBook();
+            studentBook.setStudents(students);
+            return studentBook;
+        } catch (IllegalArgumentException | DuplicateStudentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static TaskBook replayTaskBook(ReadOnlyTaskBook snapshot, List<JsonAdaptedJournalRecord> records)
+            throws DataConversionException {
+        try {
+            List<Task> tasks = new ArrayList<>(snapshot.getTaskList());
+            for (JsonAdaptedJournalRecord record : records) {
+                record.applyTo(tasks, record.getAddedTasks());
+            }
+            TaskBook taskBook = new TaskBook();
+            taskBook.setTasks(tasks);
+            return taskBook;
+        } catch (IllegalArgumentException | DuplicateTaskException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the lesson book from replaying {@code records} on {@code snapshot}, with the students of every lesson
+     * being the students with the same matric number in {@code studentBook}.
+     */
+    private static LessonBook replayLessonBook(ReadOnlyLessonBook snapshot, ReadOnlyStudentBook studentBook,
+                                               List<JsonAdaptedJournalRecord> records)
+            throws DataConversionException {
+        try {
+            Map<MatricNum, Student> students = new HashMap<>();
+            for (Student student : studentBook.getStudentList()) {
+                students.put(student.getMatricNum(), student);
+            }
+            List<Lesson> lessons = new ArrayList<>(snapshot.getLessonList());
+            for (JsonAdaptedJournalRecord record : records) {
+                record.applyTo(lessons, record.getAddedLessons(students));
+            }
+            LessonBook lessonBook = new LessonBook();
+            lessonBook.setLessons(lessons);
+            return lessonBook;
+        } catch (IllegalArgumentException | DuplicateLessonException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Runs {@code task} on the writer thread after all earlier writes, and returns its result.
+     */
+    private <T> T callOnWriter(Callable<T> task) throws IOException {
+        try {
+            return writer.submit(task).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while accessing journal " + journalFilePath, ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    private Path getFilePath(BookType book) {
+        switch (book) {
+        case STUDENT_BOOK:
+            return storage.getStudentBookFilePath();
+        case TASK_BOOK:
+            return storage.getTaskBookFilePath();
+        case LESSON_BOOK:
+            return storage.getLessonBookFilePath();
+        default:
+            throw new AssertionError("Unknown book type: " + book);
+        }
+    }
+
+    private static long getChecksum(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = FileUtil.openBufferedInputStream(filePath)) {
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, length);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ StudentBook methods ==============================
+
+    @Override
+    public Path getStudentBookFilePath() {
+        return storage.getStudentBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyStudentBook> readStudentBook() throws DataConversionException, IOException {
+        return readStudentBook(storage.getStudentBookFilePath());
+    }
+
+    /**
+     * Reads the student book at {@code filePath}, replaying the changes in the journal that apply to it.
+     * If the changes cannot be replayed, the student book in the file is returned as it is.
+     */
+    @Override
+    public Optional<ReadOnlyStudentBook> readStudentBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        Optional<ReadOnlyStudentBook> studentBook = storage.readStudentBook(filePath);
+        List<JsonAdaptedJournalRecord> records = getRecords(BookType.STUDENT_BOOK, filePath);
+        if (!studentBook.isPresent() || records.isEmpty()) {
+            return studentBook;
+        }
+        try {
+            return Optional.of(replayStudentBook(studentBook.get(), records));
+        } catch (DataConversionException dce) {
+            logger.warning("Could not replay journal on student book " + filePath + ": " + dce);
+            return studentBook;
+        }
+    }
+
+    /**
+     * Saves the changes to {@code studentBook} since it was last saved to the journal, or a snapshot of it if it
+     * was not the book that was last saved.
+     */
+    @Override
+    public void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException {
+        saveStudentBook(studentBook, storage.getStudentBookFilePath());
+    }
+
+    @Override
+    public void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        requireNonNull(studentBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(storage.getStudentBookFilePath())) {
+            scheduleSnapshot(new JsonSerializableStudentBook(studentBook), filePath);
+            return;
+        }
+        save(studentBookJournal, studentBook.getStudentList(), () -> new JsonSerializableStudentBook(studentBook));
+    }
+
+    // ================ TaskBook methods ==============================
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return storage.getTaskBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(storage.getTaskBookFilePath());
+    }
+
+    /**
+     * Reads the task book at {@code filePath}, replaying the changes in the journal that apply to it.
+     * If the changes cannot be replayed, the task book in the file is returned as it is.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        Optional<ReadOnlyTaskBook> taskBook = storage.readTaskBook(filePath);
+        List<JsonAdaptedJournalRecord> records = getRecords(BookType.TASK_BOOK, filePath);
+        if (!taskBook.isPresent() || records.isEmpty()) {
+            return taskBook;
+        }
+        try {
+            return Optional.of(replayTaskBook(taskBook.get(), records));
+        } catch (DataConversionException dce) {
+            logger.warning("Could not replay journal on task book " + filePath + ": " + dce);
+            return taskBook;
+        }
+    }
+
+    /**
+     * Saves the changes to {@code taskBook} since it was last saved to the journal, or a snapshot of it if it
+     * was not the book that was last saved.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, storage.getTaskBookFilePath());
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(storage.getTaskBookFilePath())) {
+            scheduleSnapshot(new JsonSerializableTaskBook(taskBook), filePath);
+            return;
+        }
+        save(taskBookJournal, taskBook.getTaskList(), () -> new JsonSerializableTaskBook(taskBook));
+    }
+
+    // ================ LessonBook methods ==============================
+
+    @Override
+    public Path getLessonBookFilePath() {
+        return storage.getLessonBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException {
+        return readLessonBook(storage.getLessonBookFilePath(), studentBook);
+    }
+
+    /**
+     * Reads the lesson book at {@code filePath}, replaying the changes in the journal that apply to it.
+     * If the changes cannot be replayed, the lesson book in the file is returned as it is.
+     */
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException {
+        flush();
+        Optional<ReadOnlyLessonBook> lessonBook = storage.readLessonBook(filePath, studentBook);
+        List<JsonAdaptedJournalRecord> records = getRecords(BookType.LESSON_BOOK, filePath);
+        if (!lessonBook.isPresent() || records.isEmpty()) {
+            return lessonBook;
+        }
+        try {
+            return Optional.of(replayLessonBook(lessonBook.get(), studentBook, records));
+        } catch (DataConversionException dce) {
+            logger.warning("Could not replay journal on lesson book " + filePath + ": " + dce);
+            return lessonBook;
+        }
+    }
+
+    /**
+     * Saves the changes to {@code lessonBook} since it was last saved to the journal, or a snapshot of it if it
+     * was not the book that was last saved.
+     */
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException {
+        saveLessonBook(lessonBook, storage.getLessonBookFilePath());
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+        requireNonNull(lessonBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(storage.getLessonBookFilePath())) {
+            scheduleSnapshot(new JsonSerializableLessonBook(lessonBook), filePath);
+            return;
+        }
+        save(lessonBookJournal, lessonBook.getLessonList(), () -> new JsonSerializableLessonBook(lessonBook));
+    }
+
+    /**
+     * A record or snapshot waiting to be written by the writer thread.
+     * A record has a {@code line} of the journal, while a snapshot has the JSON-serializable form of a whole book
+     * and the data file to write it to.
+     */
+    private static class PendingWrite {
+        private final BookType book;
+        private final String line;
+        private final Object snapshot;
+        private final Path filePath;
+
+        PendingWrite(BookType book, String line, Object snapshot, Path filePath) {
+            this.book = book;
+            this.line = line;
+            this.snapshot = snapshot;
+            this.filePath = filePath;
+        }
+    }
+
+    /**
+     * Creates the journal record of a change that replaces {@code removedCount} items from index {@code from}
+     * with {@code addedItems}.
+     */
+    @FunctionalInterface
+    private interface RecordFactory<T> {
+        JsonAdaptedJournalRecord create(int from, int removedCount, List<? extends T> addedItems);
+    }
+
+    /**
+     * Records the changes to the list of items of a book as unsaved records of the journal.
+     */
+    private class BookJournal<T> implements ListChangeListener<T> {
+        private final BookType book;
+        private final RecordFactory<T> recordFactory;
+        private ObservableList<T> journaledItems;
+
+        BookJournal(BookType book, RecordFactory<T> recordFactory) {
+            this.book = book;
+            this.recordFactory = recordFactory;
+        }
+
+        boolean isJournaling(ObservableList<T> items) {
+            return journaledItems == items;
+        }
+
+        void start(ObservableList<T> items) {
+            stop();
+            journaledItems = items;
+            items.addListener(this);
+        }
+
+        void stop() {
+            if (journaledItems != null) {
+                journaledItems.removeListener(this);
+                journaledItems = null;
+            }
+        }
+
+        @Override
+        public void onChanged(Change<? extends T> change) {
+            try {
+                while (change.next()) {
+                    JsonAdaptedJournalRecord record;
+                    if (change.wasPermutated()) {
+                        List<Integer> permutation = new ArrayList<>();
+                        for (int i = change.getFrom(); i < change.getTo(); i++) {
+                            permutation.add(change.getPermutation(i));
+                        }
+                        record = JsonAdaptedJournalRecord.ofPermutation(book, change.getFrom(), permutation);
+                    } else if (change.wasAdded() || change.wasRemoved()) {
+                        record = recordFactory.create(change.getFrom(), change.getRemovedSize(),
+                                change.getAddedSubList());
+                    } else {
+                        // updated items are still the same items
+                        continue;
+                    }
+                    unsavedRecords.add(new PendingWrite(book, JsonUtil.toCompactJsonString(record), null, null));
+                }
+            } catch (JsonProcessingException jpe) {
+                logger.warning("Could not record change to " + book + ", it will be saved as a snapshot: " + jpe);
+                stop();
+            }
+        }
+    }
+}
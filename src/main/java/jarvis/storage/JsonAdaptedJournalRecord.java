@@ -0,0 +1,231 @@
+package jarvis.storage;
+
+import static jarvis.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jarvis.model.GradeProfile;
+import jarvis.model.Lesson;
+import jarvis.model.MatricNum;
+import jarvis.model.Student;
+import jarvis.model.Task;
+
+/**
+ * Jackson-friendly version of a record in the journal of {@link JournaledStorage}.
+ * A record either marks the snapshot of a book that the records after it apply to, or describes one change to
+ * the list of students, tasks or lessons of a book, in the same form as a {@code ListChangeListener.Change}:
+ * <ul>
+ *     <li>a snapshot record identifies the data file of the book by its {@code checksum};</li>
+ *     <li>a permutation record moves the items from index {@code from} to the indices in {@code permutation};</li>
+ *     <li>any other record replaces the {@code removedCount} items from index {@code from} with its added
+ *     students, tasks or lessons.</li>
+ * </ul>
+ * Lessons refer to their students by matric number, so the names of those students are kept as well, in the same
+ * way as in {@link JsonSerializableLessonBook}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Journal record does not fit the %s of %d items.";
+
+    /**
+     * The books whose changes are journaled.
+     */
+    enum BookType {
+        STUDENT_BOOK, TASK_BOOK, LESSON_BOOK
+    }
+
+    private final BookType book;
+    private final Long checksum;
+    private final Integer from;
+    private final Integer removedCount;
+    private final List<Integer> permutation;
+    private final List<JsonAdaptedStudent> students;
+    private final List<JsonAdaptedTask> tasks;
+    private final List<JsonAdaptedLesson> lessons;
+    private final Map<String, String> studentNames;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("book") BookType book, @JsonProperty("checksum") Long checksum,
+                                    @JsonProperty("from") Integer from,
+                                    @JsonProperty("removedCount") Integer removedCount,
+                                    @JsonProperty("permutation") List<Integer> permutation,
+                                    @JsonProperty("students") List<JsonAdaptedStudent> students,
+                                    @JsonProperty("tasks") List<JsonAdaptedTask> tasks,
+                                    @JsonProperty("lessons") List<JsonAdaptedLesson> lessons,
+                                    @JsonProperty("studentNames") Map<String, String> studentNames) {
+        this.book = book;
+        this.checksum = checksum;
+        this.from = from;
+        this.removedCount = removedCount;
+        this.permutation = permutation;
+        this.students = students;
+        this.tasks = tasks;
+        this.lessons = lessons;
+        this.studentNames = studentNames;
+    }
+
+    /**
+     * Returns a record marking the data file of {@code book} with the given {@code checksum} as the snapshot that
+     * the records after it apply to.
+     */
+    public static JsonAdaptedJournalRecord ofSnapshot(BookType book, long checksum) {
+        requireNonNull(book);
+        return new JsonAdaptedJournalRecord(book, checksum, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns a record of the items of {@code book} from index {@code from} being moved to the indices in
+     * {@code permutation}.
+     */
+    public static JsonAdaptedJournalRecord ofPermutation(BookType book, int from, List<Integer> permutation) {
+        requireNonNull(book);
+        return new JsonAdaptedJournalRecord(book, null, from, null, new ArrayList<>(permutation),
+                null, null, null, null);
+    }
+
+    /**
+     * Returns a record of {@code removedCount} students from index {@code from} being replaced with
+     * {@code addedStudents}.
+     */
+    public static JsonAdaptedJournalRecord ofStudents(int from, int removedCount,
+                                                      List<? extends Student> addedStudents) {
+        List<JsonAdaptedStudent> students = new ArrayList<>();
+        for (Student student : addedStudents) {
+            students.add(new JsonAdaptedStudent(student));
+        }
+        return new JsonAdaptedJournalRecord(BookType.STUDENT_BOOK, null, from, removedCount, null,
+                students, null, null, null);
+    }
+
+    /**
+     * Returns a record of {@code removedCount} tasks from index {@code from} being replaced with
+     * {@code addedTasks}.
+     */
+    public static JsonAdaptedJournalRecord ofTasks(int from, int removedCount, List<? extends Task> addedTasks) {
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        for (Task task : addedTasks) {
+            tasks.add(new JsonAdaptedTask(task));
+        }
+        return new JsonAdaptedJournalRecord(BookType.TASK_BOOK, null, from, removedCount, null,
+                null, tasks, null, null);
+    }
+
+    /**
+     * Returns a record of {@code removedCount} lessons from index {@code from} being replaced with
+     * {@code addedLessons}.
+     */
+    public static JsonAdaptedJournalRecord ofLessons(int from, int removedCount,
+                                                     List<? extends Lesson> addedLessons) {
+        List<JsonAdaptedLesson> lessons = new ArrayList<>();
+        Map<String, String> studentNames = new TreeMap<>();
+        for (Lesson lesson : addedLessons) {
+            lessons.add(JsonAdaptedLesson.createLesson(lesson));
+            for (Student student : lesson.getStudentList()) {
+                studentNames.put(student.getMatricNum().value, student.getName().fullName);
+            }
+        }
+        return new JsonAdaptedJournalRecord(BookType.LESSON_BOOK, null, from, removedCount, null,
+                null, null, lessons, studentNames);
+    }
+
+    public BookType getBook() {
+        return book;
+    }
+
+    public boolean isSnapshot() {
+        return checksum != null;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Returns the students added by this record.
+     *
+     * @throws IllegalArgumentException if there were any data constraints violated in the added students.
+     */
+    public List<Student> getAddedStudents() throws IllegalArgumentException {
+        return students == null ? new ArrayList<>() : JsonAdaptedStudent.toModelList(students);
+    }
+
+    /**
+     * Returns the tasks added by this record.
+     *
+     * @throws IllegalArgumentException if there were any data constraints violated in the added tasks.
+     */
+    public List<Task> getAddedTasks() throws IllegalArgumentException {
+        List<Task> addedTasks = new ArrayList<>();
+        if (tasks != null) {
+            for (JsonAdaptedTask task : tasks) {
+                addedTasks.add(task.toModelType());
+            }
+        }
+        return addedTasks;
+    }
+
+    /**
+     * Returns the lessons added by this record, with the students of every lesson being the students with the same
+     * matric number in {@code students}. Students that are not in {@code students} are created from the names
+     * kept in this record and added to {@code students}.
+     *
+     * @throws IllegalArgumentException if there were any data constraints violated in the added lessons.
+     */
+    public List<Lesson> getAddedLessons(Map<MatricNum, Student> students) throws IllegalArgumentException {
+        if (studentNames != null) {
+            for (Map.Entry<String, String> entry : studentNames.entrySet()) {
+                Student student = new JsonAdaptedStudent(entry.getValue(), entry.getKey(), new GradeProfile())
+                        .toModelType();
+                students.putIfAbsent(student.getMatricNum(), student);
+            }
+        }
+        List<Lesson> addedLessons = new ArrayList<>();
+        if (lessons != null) {
+            for (JsonAdaptedLesson lesson : lessons) {
+                addedLessons.add(lesson.toModelType(students));
+            }
+        }
+        return addedLessons;
+    }
+
+    /**
+     * Applies the change described by this record to {@code items}, which must be the items of the book before
+     * the change.
+     *
+     * @param addedItems The items added by this record, as returned by {@link #getAddedStudents()},
+     *     {@link #getAddedTasks()} or {@link #getAddedLessons(Map)}.
+     * @throws IllegalArgumentException if the change does not fit {@code items}.
+     */
+    public <T> void applyTo(List<T> items, List<? extends T> addedItems) throws IllegalArgumentException {
+        assert !isSnapshot();
+        String invalidChangeMessage = String.format(MESSAGE_INVALID_CHANGE, book, items.size());
+        checkArgument(from != null && from >= 0, invalidChangeMessage);
+        if (permutation != null) {
+            checkArgument(from + permutation.size() <= items.size(), invalidChangeMessage);
+            List<T> movedItems = new ArrayList<>(items.subList(from, from + permutation.size()));
+            for (int i = 0; i < movedItems.size(); i++) {
+                int newIndex = permutation.get(i);
+                checkArgument(newIndex >= from && newIndex < from + movedItems.size(), invalidChangeMessage);
+                items.set(newIndex, movedItems.get(i));
+            }
+            return;
+        }
+
+        int removed = removedCount == null ? 0 : removedCount;
+        checkArgument(removed >= 0 && from + removed <= items.size(), invalidChangeMessage);
+        items.subList(from, from + removed).clear();
+        items.addAll(from, addedItems);
+    }
+}
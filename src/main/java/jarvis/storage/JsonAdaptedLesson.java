@@ -6,8 +6,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -19,6 +21,7 @@ import jarvis.model.LessonAttendance;
 import jarvis.model.LessonDesc;
 import jarvis.model.LessonNotes;
 import jarvis.model.MasteryCheck;
+import jarvis.model.MatricNum;
 import jarvis.model.Student;
 import jarvis.model.Studio;
 import jarvis.model.TimePeriod;
@@ -33,10 +36,15 @@ import jarvis.model.TimePeriod;
     @JsonSubTypes.Type(value = JsonAdaptedStudio.class, name = "studio")
 })
 public abstract class JsonAdaptedLesson {
+    public static final String MESSAGE_UNKNOWN_STUDENT = "Lesson refers to unknown student %s!";
+
     // Identity fields
     private final String lessonDesc;
     private final LocalDateTime startDateTime;
     private final LocalDateTime endDateTime;
+    private final List<String> studentMatricNums;
+    // Full copies of the students, only present in lessons saved in the legacy format
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final List<JsonAdaptedStudent> studentList;
 
     // Data fields
@@ -52,6 +60,7 @@ public abstract class JsonAdaptedLesson {
     public JsonAdaptedLesson(@JsonProperty("lessonDesc") String lessonDesc,
                              @JsonProperty("startDateTime") LocalDateTime startDateTime,
                              @JsonProperty("endDateTime") LocalDateTime endDateTime,
+                             @JsonProperty("studentMatricNums") List<String> studentMatricNums,
                              @JsonProperty("studentList") List<JsonAdaptedStudent> studentList,
                              @JsonProperty("attendance") Map<Integer, Boolean> attendance,
                              @JsonProperty("generalNotes") ArrayList<String> generalNotes,
@@ -60,6 +69,7 @@ public abstract class JsonAdaptedLesson {
         this.lessonDesc = lessonDesc;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
+        this.studentMatricNums = studentMatricNums;
         this.studentList = studentList;
         this.attendance = attendance;
         this.generalNotes = generalNotes;
@@ -76,14 +86,17 @@ public abstract class JsonAdaptedLesson {
         this.lessonDesc = lessonDesc == null ? null : lessonDesc.lessonDesc;
         this.startDateTime = timePeriod.getStart();
         this.endDateTime = timePeriod.getEnd();
-        List<JsonAdaptedStudent> jsonAdaptedStudentList = new ArrayList<>();
+        this.studentMatricNums = new ArrayList<>();
         for (Student student : studentList) {
-            jsonAdaptedStudentList.add(new JsonAdaptedStudent(student));
+            this.studentMatricNums.add(student.getMatricNum().value);
         }
-        this.studentList = jsonAdaptedStudentList;
+        this.studentList = null;
         this.attendance = attendance;
-        this.generalNotes = generalNotes;
-        this.studentNotes = studentNotes;
+        this.generalNotes = new ArrayList<>(generalNotes);
+        this.studentNotes = new TreeMap<>();
+        for (Map.Entry<Integer, ArrayList<String>> entry : studentNotes.entrySet()) {
+            this.studentNotes.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
         this.isCompleted = isCompleted;
     }
 
@@ -123,6 +136,10 @@ public abstract class JsonAdaptedLesson {
         return endDateTime;
     }
 
+    protected List<String> getStudentMatricNums() {
+        return studentMatricNums;
+    }
+
     protected List<JsonAdaptedStudent> getStudentList() {
         return studentList;
     }
@@ -146,9 +163,10 @@ public abstract class JsonAdaptedLesson {
     /**
      * Converts this Jackson-friendly adapted lesson object into the model's {@code Lesson} object.
      *
+     * @param students The students that the lesson may refer to, mapped by their matric number.
      * @throws IllegalArgumentException if there were any data constraints violated in the adapted lesson.
      */
-    public abstract Lesson toModelType() throws IllegalArgumentException;
+    public abstract Lesson toModelType(Map<MatricNum, Student> students) throws IllegalArgumentException;
 
     /**
      * Creates an {@code LessonDesc} object with the given description.
@@ -178,17 +196,39 @@ public abstract class JsonAdaptedLesson {
     }
 
     /**
-     * Creates an {@code List<Student>} object.
+     * Creates the {@code List<Student>} of the lesson by looking up the students it refers to in {@code students}.
+     * A lesson saved in the legacy format embeds full copies of its students instead, each of which is replaced
+     * by the student with the same matric number in {@code students} if there is one.
      *
      * @param missingFieldMsg The error message to be shown if any of the fields are missing.
-     * @param jsonAdaptedStudentList The list of students in its Jackson adapted form.
+     * @param students The students that the lesson may refer to, mapped by their matric number.
      * @return The created object.
+     * @throws IllegalArgumentException if the lesson refers to a student that is not in {@code students}.
      */
-    public static List<Student> createModelStudentList(String missingFieldMsg,
-                                                       List<JsonAdaptedStudent> jsonAdaptedStudentList) {
-        checkNullArgument(Student.class, missingFieldMsg, jsonAdaptedStudentList);
+    public List<Student> createModelStudentList(String missingFieldMsg, Map<MatricNum, Student> students)
+            throws IllegalArgumentException {
+        if (studentMatricNums == null) {
+            checkNullArgument(Student.class, missingFieldMsg, studentList);
+            List<Student> modelStudentList = new ArrayList<>();
+            for (Student embeddedStudent : JsonAdaptedStudent.toModelList(studentList)) {
+                modelStudentList.add(students.getOrDefault(embeddedStudent.getMatricNum(), embeddedStudent));
+            }
+            return modelStudentList;
+        }
 
-        return JsonAdaptedStudent.toModelList(jsonAdaptedStudentList);
+        List<Student> modelStudentList = new ArrayList<>();
+        for (String matricNum : studentMatricNums) {
+            checkNullArgument(MatricNum.class, missingFieldMsg, matricNum);
+            if (!MatricNum.isValidMatricNum(matricNum)) {
+                throw new IllegalArgumentException(MatricNum.MESSAGE_CONSTRAINTS);
+            }
+            Student student = students.get(new MatricNum(matricNum));
+            if (student == null) {
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_STUDENT, matricNum));
+            }
+            modelStudentList.add(student);
+        }
+        return modelStudentList;
     }
 
     /**
@@ -12,6 +12,7 @@ import jarvis.model.LessonAttendance;
 import jarvis.model.LessonDesc;
 import jarvis.model.LessonNotes;
 import jarvis.model.MasteryCheck;
+import jarvis.model.MatricNum;
 import jarvis.model.Student;
 import jarvis.model.TimePeriod;
 
@@ -28,14 +29,15 @@ public class JsonAdaptedMasteryCheck extends JsonAdaptedLesson {
     public JsonAdaptedMasteryCheck(@JsonProperty("lessonDesc") String lessonDesc,
                                    @JsonProperty("startDateTime") LocalDateTime startDateTime,
                                    @JsonProperty("endDateTime") LocalDateTime endDateTime,
+                                   @JsonProperty("studentMatricNums") List<String> studentMatricNums,
                                    @JsonProperty("studentList") List<JsonAdaptedStudent> studentList,
                                    @JsonProperty("attendance") Map<Integer, Boolean> attendance,
                                    @JsonProperty("generalNotes") ArrayList<String> generalNotes,
                                    @JsonProperty("studentNotes") Map<Integer,
                                            ArrayList<String>> studentNotes,
                                    @JsonProperty("isCompleted") boolean isCompleted) {
-        super(lessonDesc, startDateTime, endDateTime, studentList, attendance, generalNotes, studentNotes,
-                isCompleted);
+        super(lessonDesc, startDateTime, endDateTime, studentMatricNums, studentList, attendance, generalNotes,
+                studentNotes, isCompleted);
     }
 
     /**
@@ -50,7 +52,7 @@ public class JsonAdaptedMasteryCheck extends JsonAdaptedLesson {
      * {@inheritDoc}
      */
     @Override
-    public MasteryCheck toModelType() throws IllegalArgumentException {
+    public MasteryCheck toModelType(Map<MatricNum, Student> students) throws IllegalArgumentException {
         // LessonDesc
         final LessonDesc modelLessonDesc = createModelLessonDesc(getLessonDesc());
 
@@ -59,7 +61,7 @@ public class JsonAdaptedMasteryCheck extends JsonAdaptedLesson {
                 getStartDateTime(), getEndDateTime());
 
         // Student list for lesson
-        List<Student> modelStudentList = createModelStudentList(MISSING_FIELD_MESSAGE_FORMAT, getStudentList());
+        List<Student> modelStudentList = createModelStudentList(MISSING_FIELD_MESSAGE_FORMAT, students);
 
         // LessonAttendance
         LessonAttendance modelAttendance = createModelLessonAttendance(MISSING_FIELD_MESSAGE_FORMAT,
@@ -41,7 +41,8 @@ public class JsonAdaptedStudent {
     public JsonAdaptedStudent(Student source) {
         name = source.getName().fullName;
         matricNum = source.getMatricNum().value;
-        gradeProfile = source.getGradeProfile();
+        gradeProfile = new GradeProfile();
+        gradeProfile.updateGrades(source.getGradeProfile());
     }
 
     /**
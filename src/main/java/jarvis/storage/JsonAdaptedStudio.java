@@ -13,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jarvis.model.LessonAttendance;
 import jarvis.model.LessonDesc;
 import jarvis.model.LessonNotes;
+import jarvis.model.MatricNum;
 import jarvis.model.Student;
 import jarvis.model.Studio;
 import jarvis.model.StudioParticipation;
@@ -33,14 +34,15 @@ public class JsonAdaptedStudio extends JsonAdaptedLesson {
     public JsonAdaptedStudio(@JsonProperty("lessonDesc") String lessonDesc,
                              @JsonProperty("startDateTime") LocalDateTime startDateTime,
                              @JsonProperty("endDateTime") LocalDateTime endDateTime,
+                             @JsonProperty("studentMatricNums") List<String> studentMatricNums,
                              @JsonProperty("studentList") List<JsonAdaptedStudent> studentList,
                              @JsonProperty("attendance") Map<Integer, Boolean> attendance,
                              @JsonProperty("generalNotes") ArrayList<String> generalNotes,
                              @JsonProperty("studentNotes") Map<Integer, ArrayList<String>> studentNotes,
                              @JsonProperty("isCompleted") boolean isCompleted,
                              @JsonProperty("studioParticipation") Map<Integer, Integer> studioParticipation) {
-        super(lessonDesc, startDateTime, endDateTime, studentList, attendance, generalNotes, studentNotes,
-                isCompleted);
+        super(lessonDesc, startDateTime, endDateTime, studentMatricNums, studentList, attendance, generalNotes,
+                studentNotes, isCompleted);
         this.studioParticipation = studioParticipation;
     }
 
@@ -57,7 +59,7 @@ public class JsonAdaptedStudio extends JsonAdaptedLesson {
      * {@inheritDoc}
      */
     @Override
-    public Studio toModelType() throws IllegalArgumentException {
+    public Studio toModelType(Map<MatricNum, Student> students) throws IllegalArgumentException {
         // LessonDesc
         final LessonDesc modelLessonDesc = createModelLessonDesc(getLessonDesc());
 
@@ -66,7 +68,7 @@ public class JsonAdaptedStudio extends JsonAdaptedLesson {
                 getStartDateTime(), getEndDateTime());
 
         // Student list for lesson
-        List<Student> modelStudentList = createModelStudentList(MISSING_FIELD_MESSAGE_FORMAT, getStudentList());
+        List<Student> modelStudentList = createModelStudentList(MISSING_FIELD_MESSAGE_FORMAT, students);
 
         // LessonAttendance
         LessonAttendance modelAttendance = createModelLessonAttendance(MISSING_FIELD_MESSAGE_FORMAT,
@@ -1,7 +1,6 @@
 package jarvis.storage;
 
 import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
-import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -13,6 +12,7 @@ import jarvis.commons.exceptions.DataConversionException;
 import jarvis.commons.util.FileUtil;
 import jarvis.commons.util.JsonUtil;
 import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
 
 /**
  * A class to access LessonBook data stored as a json file on the hard disk.
@@ -32,18 +32,20 @@ public class JsonLessonBookStorage implements LessonBookStorage {
     }
 
     @Override
-    public Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException {
-        return readLessonBook(filePath);
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException {
+        return readLessonBook(filePath, studentBook);
     }
 
     /**
-     * Similar to {@link #readLessonBook()}.
+     * Similar to {@link #readLessonBook(ReadOnlyStudentBook)}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException {
-        requireNonNull(filePath);
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyStudentBook studentBook)
+            throws DataConversionException {
+        requireAllNonNull(filePath, studentBook);
 
         Optional<JsonSerializableLessonBook> jsonLessonBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableLessonBook.class);
@@ -52,7 +54,7 @@ public class JsonLessonBookStorage implements LessonBookStorage {
         }
 
         try {
-            return Optional.of(jsonLessonBook.get().toModelType());
+            return Optional.of(jsonLessonBook.get().toModelType(studentBook));
         } catch (IllegalArgumentException iae) {
             logger.info("Illegal values found in " + filePath + ": " + iae.getMessage());
             throw new DataConversionException(iae);
@@ -76,7 +78,7 @@ public class JsonLessonBookStorage implements LessonBookStorage {
         requireAllNonNull(lessonBook, filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableLessonBook(lessonBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableLessonBook(lessonBook), filePath, FileUtil.DATA_FILE_BACKUP_COUNT);
     }
 
 }
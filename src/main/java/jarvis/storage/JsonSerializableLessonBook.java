@@ -2,33 +2,56 @@ package jarvis.storage;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import jarvis.model.GradeProfile;
 import jarvis.model.Lesson;
 import jarvis.model.LessonBook;
+import jarvis.model.MatricNum;
 import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.Student;
 
 
 /**
  * An Immutable LessonBook that is serializable to JSON format.
+ * Lessons refer to their students by matric number, which are resolved against the student book when the
+ * lesson book is loaded. The names of the referenced students are also kept, so that lessons of students who
+ * are no longer in the student book can still be loaded.
+ * Files saved before format version 2 embed full copies of the students in every lesson instead, and are
+ * migrated to the current format the next time the lesson book is saved.
  */
 @JsonRootName(value = "lessonbook")
 public class JsonSerializableLessonBook {
 
+    public static final int FORMAT_VERSION = 2;
     public static final String MESSAGE_DUPLICATE_LESSONS = "Lessons list contains duplicate Lesson(s).";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Lesson book format version %d is not supported.";
 
+    private final int formatVersion;
+    private final Map<String, String> studentNames = new TreeMap<>();
     private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableLessonBook} with the given Lessons.
+     * Files without a format version are in the legacy format, version 1.
      */
     @JsonCreator
-    public JsonSerializableLessonBook(@JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+    public JsonSerializableLessonBook(@JsonProperty("formatVersion") Integer formatVersion,
+                                      @JsonProperty("studentNames") Map<String, String> studentNames,
+                                      @JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+        this.formatVersion = formatVersion == null ? 1 : formatVersion;
+        if (studentNames != null) {
+            this.studentNames.putAll(studentNames);
+        }
         this.lessons.addAll(lessons);
     }
 
@@ -38,6 +61,12 @@ public class JsonSerializableLessonBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableLessonBook}.
      */
     public JsonSerializableLessonBook(ReadOnlyLessonBook source) {
+        formatVersion = FORMAT_VERSION;
+        for (Lesson lesson : source.getLessonList()) {
+            for (Student student : lesson.getStudentList()) {
+                studentNames.put(student.getMatricNum().value, student.getName().fullName);
+            }
+        }
         lessons.addAll(source.getLessonList().stream()
                 .map(x -> JsonAdaptedLesson.createLesson(x))
                 .collect(Collectors.toList()));
@@ -52,14 +81,29 @@ public class JsonSerializableLessonBook {
     }
 
     /**
-     * Converts this Lesson book into the model's {@code LessonBook} object.
+     * Converts this Lesson book into the model's {@code LessonBook} object, with the students of every lesson
+     * being the students with the same matric number in {@code studentBook}.
      *
      * @throws IllegalArgumentException if there were any data constraints violated.
      */
-    public LessonBook toModelType() throws IllegalArgumentException, IOException {
+    public LessonBook toModelType(ReadOnlyStudentBook studentBook) throws IllegalArgumentException, IOException {
+        if (formatVersion > FORMAT_VERSION) {
+            throw new IllegalArgumentException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+        }
+
+        Map<MatricNum, Student> students = new HashMap<>();
+        for (Student student : studentBook.getStudentList()) {
+            students.put(student.getMatricNum(), student);
+        }
+        for (Map.Entry<String, String> entry : studentNames.entrySet()) {
+            Student student = new JsonAdaptedStudent(entry.getValue(), entry.getKey(), new GradeProfile())
+                    .toModelType();
+            students.putIfAbsent(student.getMatricNum(), student);
+        }
+
         LessonBook lessonBook = new LessonBook();
         for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
-            Lesson lesson = jsonAdaptedLesson.toModelType();
+            Lesson lesson = jsonAdaptedLesson.toModelType(students);
             if (lessonBook.hasLesson(lesson)) {
                 throw new IllegalArgumentException(MESSAGE_DUPLICATE_LESSONS);
             }
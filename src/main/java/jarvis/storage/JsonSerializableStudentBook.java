@@ -1,7 +1,9 @@
 package jarvis.storage;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -43,18 +45,21 @@ public class JsonSerializableStudentBook {
 
     /**
      * Converts this student book into the model's {@code StudentBook} object.
+     * {@link StudentBook#MAX_STUDENTS} only limits the students added by the user, so a student book with more
+     * students can still be loaded.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public StudentBook toModelType() throws IllegalValueException {
-        StudentBook studentBook = new StudentBook();
+        Set<Student> modelStudents = new LinkedHashSet<>();
         for (JsonAdaptedStudent jsonAdaptedStudent : students) {
             Student student = jsonAdaptedStudent.toModelType();
-            if (studentBook.hasStudent(student)) {
+            if (!modelStudents.add(student)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
             }
-            studentBook.addStudent(student);
         }
+        StudentBook studentBook = new StudentBook();
+        studentBook.setStudents(new ArrayList<>(modelStudents));
         return studentBook;
     }
 
@@ -74,7 +74,7 @@ public class JsonStudentBookStorage implements StudentBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableStudentBook(studentBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableStudentBook(studentBook), filePath, FileUtil.DATA_FILE_BACKUP_COUNT);
     }
 
 }
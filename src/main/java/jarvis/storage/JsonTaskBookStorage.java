@@ -74,7 +74,7 @@ public class JsonTaskBookStorage implements TaskBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskBook(taskBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableTaskBook(taskBook), filePath, FileUtil.DATA_FILE_BACKUP_COUNT);
     }
 
 }
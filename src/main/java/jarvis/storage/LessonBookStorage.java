@@ -7,6 +7,7 @@ import java.util.Optional;
 import jarvis.commons.exceptions.DataConversionException;
 import jarvis.model.LessonBook;
 import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
 
 /**
  * Represents a storage for {@link LessonBook}.
@@ -21,15 +22,18 @@ public interface LessonBookStorage {
     /**
      * Returns LessonBook data as a {@link ReadOnlyLessonBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
+     * @param studentBook the student book that the students of the lessons are taken from.
      * @throws DataConversionException if the data in storage is not in the expected format.
      * @throws IOException if there was any problem when reading from the storage.
      */
-    Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException, IOException;
+    Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException;
 
     /**
      * @see #getLessonBookFilePath()
      */
-    Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException, IOException;
+    Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException;
 
     /**
      * Saves the given {@link ReadOnlyLessonBook} to the storage.
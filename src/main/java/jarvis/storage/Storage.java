@@ -3,6 +3,7 @@ package jarvis.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import jarvis.commons.exceptions.DataConversionException;
 import jarvis.model.ReadOnlyLessonBook;
@@ -44,8 +45,29 @@ public interface Storage extends StudentBookStorage, TaskBookStorage, LessonBook
     Path getLessonBookFilePath();
 
     @Override
-    Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException, IOException;
+    Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException;
 
     @Override
     void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException;
+
+    /**
+     * Blocks until all saves requested so far have been written.
+     * Storages that write synchronously have nothing to flush.
+     */
+    default void flush() {}
+
+    /**
+     * Blocks until all saves requested so far have been written and the data files contain all of them.
+     * Storages that always write whole data files have nothing to compact.
+     *
+     * @throws IOException if the data files cannot be written.
+     */
+    default void compact() throws IOException {}
+
+    /**
+     * Sets the handler to be notified of errors from saves that are written after the save call has returned.
+     * Storages that write synchronously report errors by throwing from the save call instead.
+     */
+    default void setAsyncErrorHandler(Consumer<IOException> asyncErrorHandler) {}
 }
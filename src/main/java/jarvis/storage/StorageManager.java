@@ -24,6 +24,14 @@ public class StorageManager implements Storage {
     private LessonBookStorage lessonBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // The last book saved to each default file path and its modification count at that time
+    private ReadOnlyStudentBook lastSavedStudentBook;
+    private long lastSavedStudentBookCount;
+    private ReadOnlyTaskBook lastSavedTaskBook;
+    private long lastSavedTaskBookCount;
+    private ReadOnlyLessonBook lastSavedLessonBook;
+    private long lastSavedLessonBookCount;
+
     /**
      * Creates a {@code StorageManager} with the given {@code StudentBookStorage}, {@code TaskBookStorage}
      * {@code LessonBookStorage}, and {@code UserPrefStorage}.
@@ -72,9 +80,20 @@ public class StorageManager implements Storage {
         return studentBookStorage.readStudentBook(filePath);
     }
 
+    /**
+     * Saves {@code studentBook} to the default file path, unless it is the same book that was last saved there
+     * and it has not been modified since.
+     */
     @Override
     public void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException {
+        if (studentBook == lastSavedStudentBook && studentBook.getModificationCount() == lastSavedStudentBookCount) {
+            logger.fine("Student book unchanged since last save, skipping write");
+            return;
+        }
+        long modificationCount = studentBook.getModificationCount();
         saveStudentBook(studentBook, studentBookStorage.getStudentBookFilePath());
+        lastSavedStudentBook = studentBook;
+        lastSavedStudentBookCount = modificationCount;
     }
 
     @Override
@@ -101,9 +120,20 @@ public class StorageManager implements Storage {
         return taskBookStorage.readTaskBook(filePath);
     }
 
+    /**
+     * Saves {@code taskBook} to the default file path, unless it is the same book that was last saved there
+     * and it has not been modified since.
+     */
     @Override
     public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        if (taskBook == lastSavedTaskBook && taskBook.getModificationCount() == lastSavedTaskBookCount) {
+            logger.fine("Task book unchanged since last save, skipping write");
+            return;
+        }
+        long modificationCount = taskBook.getModificationCount();
         saveTaskBook(taskBook, taskBookStorage.getTaskBookFilePath());
+        lastSavedTaskBook = taskBook;
+        lastSavedTaskBookCount = modificationCount;
     }
 
     @Override
@@ -120,19 +150,32 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException, IOException {
-        return readLessonBook(lessonBookStorage.getLessonBookFilePath());
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException {
+        return readLessonBook(lessonBookStorage.getLessonBookFilePath(), studentBook);
     }
 
     @Override
-    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException, IOException {
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return lessonBookStorage.readLessonBook(filePath);
+        return lessonBookStorage.readLessonBook(filePath, studentBook);
     }
 
+    /**
+     * Saves {@code lessonBook} to the default file path, unless it is the same book that was last saved there
+     * and it has not been modified since.
+     */
     @Override
     public void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException {
+        if (lessonBook == lastSavedLessonBook && lessonBook.getModificationCount() == lastSavedLessonBookCount) {
+            logger.fine("Lesson book unchanged since last save, skipping write");
+            return;
+        }
+        long modificationCount = lessonBook.getModificationCount();
         saveLessonBook(lessonBook, lessonBookStorage.getLessonBookFilePath());
+        lastSavedLessonBook = lessonBook;
+        lastSavedLessonBookCount = modificationCount;
     }
 
     @Override
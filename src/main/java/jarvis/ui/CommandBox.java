@@ -6,6 +6,8 @@ import jarvis.logic.parser.exceptions.ParseException;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 
 /**
@@ -22,13 +24,17 @@ public class CommandBox extends UiPart<Region> {
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandPreviewer}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // calls #setStyleToDefault() and previews the command whenever there is a change to the text of the
+        // command box.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            commandPreviewer.preview(newText);
+        });
     }
 
     /**
@@ -49,6 +55,18 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Handles the Escape button pressed event by clearing the command box, which also ends any preview of the
+     * command that was being typed.
+     */
+    @FXML
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.ESCAPE) {
+            commandTextField.setText("");
+            event.consume();
+        }
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -81,4 +99,17 @@ public class CommandBox extends UiPart<Region> {
          */
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
+
+    /**
+     * Represents a function that can preview commands as they are typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Shows the results of the command that is still being typed.
+         *
+         * @see jarvis.logic.Logic#previewCommand(String)
+         */
+        void preview(String partialCommandText);
+    }
 }
@@ -1,28 +1,34 @@
 package jarvis.ui;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import jarvis.model.Lesson;
 import jarvis.model.LessonType;
 import jarvis.model.Student;
-import jarvis.model.Studio;
 import javafx.beans.property.ReadOnlyObjectWrapper;
-import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
  * An UI component that displays the full information of a {@code Lesson}.
+ * A card is created once and can then display different lessons, so that list cells can reuse it.
  */
 public class ExpandedLessonCard extends UiPart<Region> {
 
     public static final double LESSON_CARD_BASE_HEIGHT = 100;
     public static final double TABLE_VIEW_ROW_HEIGHT = 48;
+    public static final int MAX_VISIBLE_ROSTER_ROWS = 8;
 
     private static final String FXML = "ExpandedLessonCard.fxml";
 
@@ -35,7 +41,7 @@ public class ExpandedLessonCard extends UiPart<Region> {
      */
 
 
-    public final Lesson lesson;
+    private Lesson lesson;
 
     @FXML
     private HBox cardPane;
@@ -52,39 +58,54 @@ public class ExpandedLessonCard extends UiPart<Region> {
     @FXML
     private Label generalNotes;
     @FXML
-    private TableView<Student> tableView;
+    private TableView<RosterRow> tableView;
     @FXML
-    private TableColumn<Student, Integer> studentIndex;
+    private TableColumn<RosterRow, Integer> studentIndex;
     @FXML
-    private TableColumn<Student, String> studentNames;
+    private TableColumn<RosterRow, String> studentNames;
     @FXML
-    private TableColumn<Student, String> studentAttendance;
+    private TableColumn<RosterRow, String> studentAttendance;
     @FXML
-    private TableColumn<Student, Integer> studentParticipation;
+    private TableColumn<RosterRow, Integer> studentParticipation;
     @FXML
-    private TableColumn<Student, String> studentNotes;
+    private TableColumn<RosterRow, RosterRow> studentNotes;
 
-    private Image tick = new Image(getClass().getResourceAsStream("/images/tick.png"));
-    private Image cross = new Image(getClass().getResourceAsStream("/images/cross.png"));
+    private final ObservableList<RosterRow> rosterRows = FXCollections.observableArrayList();
+    private Map<Student, RosterRow> rosterRowsByStudent = new HashMap<>();
+
+    /**
+     * Creates an {@code ExpandedLessonCard} that does not display any lesson yet.
+     */
+    public ExpandedLessonCard() {
+        super(FXML);
+        setTableColumns();
+    }
 
     /**
      * Creates an {@code ExpandedLessonCard} with the given {@code Lesson} and index to display.
      */
     public ExpandedLessonCard(Lesson lesson, int displayedIndex) {
-        super(FXML);
+        this();
+        setLesson(lesson, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Lesson} and index in this card instead.
+     */
+    public void setLesson(Lesson lesson, int displayedIndex) {
         this.lesson = lesson;
         setTextUi(displayedIndex);
         setTableUi();
     }
 
+    public Lesson getLesson() {
+        return lesson;
+    }
+
     private void setTextUi(int displayedIndex) {
         id.setText(displayedIndex + ". ");
 
-        if (lesson.isCompleted()) {
-            checkbox.setImage(tick);
-        } else {
-            checkbox.setImage(cross);
-        }
+        checkbox.setImage(UiResources.getCheckboxImage(lesson.isCompleted()));
 
         if (lesson.hasDesc()) {
             lessonDesc.setText("Description: " + lesson.getDesc().lessonDesc);
@@ -110,22 +131,42 @@ public class ExpandedLessonCard extends UiPart<Region> {
         generalNotes.setText(lesson.getGeneralNotesString());
     }
 
+    /**
+     * Sets the columns to read the rows of the roster, which do not change when another lesson is displayed.
+     */
+    private void setTableColumns() {
+        studentIndex.setCellValueFactory(row -> new ReadOnlyObjectWrapper<>(row.getValue().getIndex()));
+        studentNames.setCellValueFactory(row -> new ReadOnlyObjectWrapper<>(row.getValue().getName()));
+        studentAttendance.setCellValueFactory(row -> new ReadOnlyObjectWrapper<>(row.getValue().getAttendance()));
+        studentParticipation.setCellValueFactory(row -> new ReadOnlyObjectWrapper<>(
+                row.getValue().getParticipation()));
+        studentNotes.setCellValueFactory(row -> new ReadOnlyObjectWrapper<>(row.getValue()));
+        studentNotes.setCellFactory(column -> new NotesCell());
+        tableView.setItems(rosterRows);
+    }
+
+    /**
+     * Shows the roster of the lesson displayed. The rows of students whose details are unchanged since the last
+     * lesson displayed are reused. The table only grows to show a few rows, and only creates cells for the rows
+     * scrolled into view.
+     */
     private void setTableUi() {
-        ObservableList<Student> list = lesson.getObservableStudentList();
-        tableView.setPrefHeight(LESSON_CARD_BASE_HEIGHT + list.size() * TABLE_VIEW_ROW_HEIGHT);
-        // Set participation column for studio
-        if (lesson.getLessonType() == LessonType.STUDIO) {
-            studentParticipation.setVisible(true);
-            studentParticipation.setCellValueFactory(s -> new ReadOnlyObjectWrapper<>((
-                    (Studio) lesson).getParticipationForStudent(s.getValue())));
+        List<Student> students = lesson.getStudentList();
+        Map<Student, RosterRow> previousRowsByStudent = rosterRowsByStudent;
+        rosterRowsByStudent = new HashMap<>();
+        List<RosterRow> rows = new ArrayList<>(students.size());
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            RosterRow row = RosterRow.of(lesson, student, i + 1, previousRowsByStudent.get(student));
+            rows.add(row);
+            rosterRowsByStudent.put(student, row);
         }
-        studentIndex.setCellValueFactory(s -> new ReadOnlyObjectWrapper<>(
-                tableView.getItems().indexOf(s.getValue()) + 1));
-        studentNames.setCellValueFactory(s -> new ReadOnlyStringWrapper(s.getValue().getName().toString()));
-        studentAttendance.setCellValueFactory(s -> new ReadOnlyStringWrapper(lesson.isPresent(s.getValue())));
-        studentNotes.setCellValueFactory(s -> new ReadOnlyStringWrapper(
-                lesson.getStudentNotesString(s.getValue())));
-        tableView.setItems(list);
+
+        tableView.setPrefHeight(LESSON_CARD_BASE_HEIGHT
+                + Math.min(rows.size(), MAX_VISIBLE_ROSTER_ROWS) * TABLE_VIEW_ROW_HEIGHT);
+        // Only studios have participation
+        studentParticipation.setVisible(lesson.getLessonType() == LessonType.STUDIO);
+        rosterRows.setAll(rows);
     }
 
     @Override
@@ -146,4 +187,26 @@ public class ExpandedLessonCard extends UiPart<Region> {
                 && lesson.equals(card.lesson);
     }
 
+    /**
+     * A cell that shows the notes of a row, which expand or collapse when the cell is clicked.
+     */
+    private static class NotesCell extends TableCell<RosterRow, RosterRow> {
+        NotesCell() {
+            setWrapText(true);
+            setOnMouseClicked(event -> {
+                RosterRow row = getItem();
+                if (row != null && row.hasMoreNotes()) {
+                    row.toggleNotesExpanded();
+                    setText(row.getNotesText());
+                    getTableView().requestLayout();
+                }
+            });
+        }
+
+        @Override
+        protected void updateItem(RosterRow row, boolean empty) {
+            super.updateItem(row, empty);
+            setText(empty || row == null ? null : row.getNotesText());
+        }
+    }
 }
@@ -33,8 +33,11 @@ public class ExpandedLessonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Lesson} using a {@code ExpandedLessonCard}.
+     * The card is created once for each cell and reused for every lesson the cell displays.
      */
     class LessonListViewCell extends ListCell<Lesson> {
+        private ExpandedLessonCard card;
+
         @Override
         protected void updateItem(Lesson lesson, boolean empty) {
             super.updateItem(lesson, empty);
@@ -43,7 +46,11 @@ public class ExpandedLessonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ExpandedLessonCard(lesson, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ExpandedLessonCard();
+                }
+                card.setLesson(lesson, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
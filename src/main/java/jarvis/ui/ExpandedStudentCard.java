@@ -14,6 +14,7 @@ import javafx.scene.layout.Region;
 
 /**
  * An UI component that displays the full information of a {@code Student}.
+ * A card is created once and can then display different students, so that list cells can reuse it.
  */
 public class ExpandedStudentCard extends UiPart<Region> {
 
@@ -27,7 +28,7 @@ public class ExpandedStudentCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Student student;
+    private Student student;
 
     @FXML
     private HBox cardPane;
@@ -58,17 +59,13 @@ public class ExpandedStudentCard extends UiPart<Region> {
     @FXML
     private TableColumn<GradeProfile, String> studioAttendance;
 
+    private final ObservableList<GradeProfile> gradeProfiles = FXCollections.observableArrayList();
+
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates an {@code ExpandedStudentCard} that does not display any student yet.
      */
-    public ExpandedStudentCard(Student student, int displayedIndex) {
+    public ExpandedStudentCard() {
         super(FXML);
-        this.student = student;
-        id.setText(displayedIndex + ". ");
-        studentName.setText(student.getName().fullName);
-        matricNum.setText(student.getMatricNum().value);
-
-        ObservableList<GradeProfile> list = FXCollections.observableArrayList(student.getGradeProfile());
         mc1.setCellValueFactory(new PropertyValueFactory<GradeProfile, String>("mc1"));
         mc2.setCellValueFactory(new PropertyValueFactory<GradeProfile, String>("mc2"));
         ra1.setCellValueFactory(new PropertyValueFactory<GradeProfile, String>("ra1"));
@@ -78,7 +75,30 @@ public class ExpandedStudentCard extends UiPart<Region> {
         finalAssessment.setCellValueFactory(new PropertyValueFactory<GradeProfile, String>("finalAssessment"));
         studioAttendance.setCellValueFactory(new PropertyValueFactory<GradeProfile, String>("studioAttendance"));
 
-        gradeProfile.setItems(list);
+        gradeProfile.setItems(gradeProfiles);
+    }
+
+    /**
+     * Creates an {@code ExpandedStudentCard} with the given {@code Student} and index to display.
+     */
+    public ExpandedStudentCard(Student student, int displayedIndex) {
+        this();
+        setStudent(student, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Student} and index in this card instead.
+     */
+    public void setStudent(Student student, int displayedIndex) {
+        this.student = student;
+        id.setText(displayedIndex + ". ");
+        studentName.setText(student.getName().fullName);
+        matricNum.setText(student.getMatricNum().value);
+        gradeProfiles.setAll(student.getGradeProfile());
+    }
+
+    public Student getStudent() {
+        return student;
     }
 
     @Override
@@ -32,8 +32,11 @@ public class ExpandedStudentListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Student} using an {@code ExpandedStudentCard}.
+     * The card is created once for each cell and reused for every student the cell displays.
      */
     class StudentListViewCell extends ListCell<Student> {
+        private ExpandedStudentCard card;
+
         @Override
         protected void updateItem(Student student, boolean empty) {
             super.updateItem(student, empty);
@@ -42,7 +45,11 @@ public class ExpandedStudentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ExpandedStudentCard(student, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ExpandedStudentCard();
+                }
+                card.setStudent(student, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -2,15 +2,16 @@ package jarvis.ui;
 
 
 import jarvis.model.Lesson;
+import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
  * An UI component that displays the basic information of a {@code Lesson}.
+ * A card is created once and can then display different lessons, so that list cells can reuse it.
  */
 public class LessonCard extends UiPart<Region> {
 
@@ -25,7 +26,7 @@ public class LessonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Lesson lesson;
+    private Lesson lesson;
 
     @FXML
     private HBox cardPane;
@@ -44,27 +45,39 @@ public class LessonCard extends UiPart<Region> {
     @FXML
     private Label hasClash;
 
-    private Image tick = new Image(getClass().getResourceAsStream("/images/tick.png"));
-    private Image cross = new Image(getClass().getResourceAsStream("/images/cross.png"));
+    /**
+     * Creates a {@code LessonCard} that does not display any lesson yet.
+     */
+    public LessonCard() {
+        super(FXML);
+        hasClash.textProperty().addListener((unused1, unused2, unused3) -> setStyleForClash());
+    }
 
     /**
      * Creates a {@code LessonCard} with the given {@code Lesson} and index to display.
      */
     public LessonCard(Lesson lesson, int displayedIndex) {
-        super(FXML);
+        this();
+        setLesson(lesson, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Lesson} and index in this card instead.
+     */
+    public void setLesson(Lesson lesson, int displayedIndex) {
         this.lesson = lesson;
-        hasClash.textProperty().addListener((unused1, unused2, unused3) -> setStyleForClash());
         setTextUi(displayedIndex);
     }
 
+    public Lesson getLesson() {
+        return lesson;
+    }
+
     private void setTextUi(int displayedIndex) {
         id.setText(displayedIndex + ". ");
 
-        if (lesson.isCompleted()) {
-            checkbox.setImage(tick);
-        } else {
-            checkbox.setImage(cross);
-        }
+        checkbox.setImage(UiResources.getCheckboxImage(lesson.isCompleted()));
+        lessonAttendance.setVisible(true);
 
         switch(lesson.getLessonType()) {
         case MASTERY_CHECK:
@@ -90,7 +103,7 @@ public class LessonCard extends UiPart<Region> {
         }
 
         timePeriod.setText(lesson.getTimePeriod().toString());
-        hasClash.setText(lesson.hasTimingConflict() ? "Clash" : "");
+        hasClash.textProperty().bind(Bindings.when(lesson.clashProperty()).then("Clash").otherwise(""));
     }
 
     private void setStyleForClash() {
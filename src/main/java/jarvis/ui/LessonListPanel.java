@@ -31,8 +31,11 @@ public class LessonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Lesson} using a {@code LessonCard}.
+     * The card is created once for each cell and reused for every lesson the cell displays.
      */
     class LessonListViewCell extends ListCell<Lesson> {
+        private LessonCard card;
+
         @Override
         protected void updateItem(Lesson lesson, boolean empty) {
             super.updateItem(lesson, empty);
@@ -41,7 +44,11 @@ public class LessonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new LessonCard(lesson, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new LessonCard();
+                }
+                card.setLesson(lesson, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
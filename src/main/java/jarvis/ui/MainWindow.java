@@ -12,6 +12,7 @@ import jarvis.logic.parser.exceptions.ParseException;
 import jarvis.model.Lesson;
 import jarvis.model.Student;
 import jarvis.model.Task;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -174,6 +175,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         String studentBookPath = Paths.get(".").resolve(logic.getStudentBookFilePath()).toString();
         String taskBookPath = Paths.get(".").resolve(logic.getTaskBookFilePath()).toString();
@@ -182,7 +184,7 @@ public class MainWindow extends UiPart<Stage> {
                 + " and " + lessonBookPath);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::previewCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
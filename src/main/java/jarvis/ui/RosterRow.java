@@ -0,0 +1,118 @@
+package jarvis.ui;
+
+import java.util.List;
+import java.util.Objects;
+
+import jarvis.model.Lesson;
+import jarvis.model.LessonNotes;
+import jarvis.model.LessonType;
+import jarvis.model.Student;
+import jarvis.model.Studio;
+
+/**
+ * A row of the roster of a lesson, with the attendance, participation and notes of one of its students.
+ * The text of the notes is only formatted when it is first displayed, and the full text only when the row is
+ * expanded. A row is reused for the next copy of the lesson unless the details of its student have changed, so
+ * its text is not formatted again.
+ */
+public class RosterRow {
+
+    private final Student student;
+    private final String attendance;
+    private final Integer participation;
+    private final List<String> notes;
+
+    private int index;
+    private boolean isNotesExpanded = false;
+    private String collapsedNotesText;
+    private String expandedNotesText;
+
+    private RosterRow(Student student, String attendance, Integer participation, List<String> notes, int index) {
+        this.student = student;
+        this.attendance = attendance;
+        this.participation = participation;
+        this.notes = notes;
+        this.index = index;
+    }
+
+    /**
+     * Returns the row of {@code student} in {@code lesson} at the given one-based {@code index}.
+     * {@code previousRow} is returned instead if it shows the same details of the same student.
+     */
+    public static RosterRow of(Lesson lesson, Student student, int index, RosterRow previousRow) {
+        String attendance = lesson.isPresent(student);
+        Integer participation = lesson.getLessonType() == LessonType.STUDIO
+                ? ((Studio) lesson).getParticipationForStudent(student)
+                : null;
+        List<String> notes = lesson.getLessonNotes().getStudentNotes(student);
+
+        if (previousRow != null && previousRow.student == student && previousRow.attendance.equals(attendance)
+                && Objects.equals(previousRow.participation, participation) && previousRow.notes.equals(notes)) {
+            previousRow.index = index;
+            return previousRow;
+        }
+        return new RosterRow(student, attendance, participation, List.copyOf(notes), index);
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return student.getName().fullName;
+    }
+
+    public String getAttendance() {
+        return attendance;
+    }
+
+    /**
+     * Returns the participation of the student, or null if the lesson is not a studio.
+     */
+    public Integer getParticipation() {
+        return participation;
+    }
+
+    /**
+     * Returns true if the notes have more text than is shown while they are collapsed.
+     */
+    public boolean hasMoreNotes() {
+        return notes.size() > 1;
+    }
+
+    public boolean isNotesExpanded() {
+        return isNotesExpanded;
+    }
+
+    /**
+     * Expands the notes if they are collapsed, or collapses them if they are expanded.
+     */
+    public void toggleNotesExpanded() {
+        isNotesExpanded = !isNotesExpanded && hasMoreNotes();
+    }
+
+    /**
+     * Returns the text of the notes as they are currently shown: all of them if they are expanded, or only the
+     * first note and the number of notes after it if they are collapsed.
+     */
+    public String getNotesText() {
+        if (isNotesExpanded) {
+            if (expandedNotesText == null) {
+                expandedNotesText = LessonNotes.formatNotes("", notes);
+            }
+            return expandedNotesText;
+        }
+
+        if (collapsedNotesText == null) {
+            collapsedNotesText = notes.isEmpty() ? "" : LessonNotes.formatNotes("", notes.subList(0, 1)).strip();
+            if (hasMoreNotes()) {
+                collapsedNotesText += " (+" + (notes.size() - 1) + " more)";
+            }
+        }
+        return collapsedNotesText;
+    }
+}
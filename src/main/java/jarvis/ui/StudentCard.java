@@ -8,6 +8,7 @@ import javafx.scene.layout.Region;
 
 /**
  * An UI component that displays the basic information of a {@code Student}.
+ * A card is created once and can then display different students, so that list cells can reuse it.
  */
 public class StudentCard extends UiPart<Region> {
 
@@ -21,7 +22,7 @@ public class StudentCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Student student;
+    private Student student;
 
     @FXML
     private HBox cardPane;
@@ -32,17 +33,35 @@ public class StudentCard extends UiPart<Region> {
     @FXML
     private Label matricNum;
 
+    /**
+     * Creates a {@code StudentCard} that does not display any student yet.
+     */
+    public StudentCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code StudentCard} with the given {@code Student} and index to display.
      */
     public StudentCard(Student student, int displayedIndex) {
-        super(FXML);
+        this();
+        setStudent(student, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Student} and index in this card instead.
+     */
+    public void setStudent(Student student, int displayedIndex) {
         this.student = student;
         id.setText(displayedIndex + ". ");
         studentName.setText(student.getName().fullName);
         matricNum.setText(student.getMatricNum().value);
     }
 
+    public Student getStudent() {
+        return student;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
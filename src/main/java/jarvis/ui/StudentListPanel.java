@@ -32,8 +32,11 @@ public class StudentListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Student} using a {@code StudentCard}.
+     * The card is created once for each cell and reused for every student the cell displays.
      */
     class StudentListViewCell extends ListCell<Student> {
+        private StudentCard card;
+
         @Override
         protected void updateItem(Student student, boolean empty) {
             super.updateItem(student, empty);
@@ -42,7 +45,11 @@ public class StudentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new StudentCard(student, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new StudentCard();
+                }
+                card.setStudent(student, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
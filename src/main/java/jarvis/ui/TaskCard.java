@@ -3,13 +3,13 @@ package jarvis.ui;
 import jarvis.model.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
  * An UI component that displays the basic information of a {@code Task}.
+ * A card is created once and can then display different tasks, so that list cells can reuse it.
  */
 public class TaskCard extends UiPart<Region> {
 
@@ -23,7 +23,7 @@ public class TaskCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Task task;
+    private Task task;
 
     @FXML
     private HBox cardPane;
@@ -36,25 +36,36 @@ public class TaskCard extends UiPart<Region> {
     @FXML
     private Label taskDeadline;
 
-    private Image tick = new Image(getClass().getResourceAsStream("/images/tick.png"));
-    private Image cross = new Image(getClass().getResourceAsStream("/images/cross.png"));
+    /**
+     * Creates a {@code TaskCard} that does not display any task yet.
+     */
+    public TaskCard() {
+        super(FXML);
+    }
 
     /**
      * Creates a {@code TaskCard} with the given {@code Task} and index to display.
      */
     public TaskCard(Task task, int displayedIndex) {
-        super(FXML);
+        this();
+        setTask(task, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Task} and index in this card instead.
+     */
+    public void setTask(Task task, int displayedIndex) {
         this.task = task;
         id.setText(displayedIndex + ". ");
-        if (task.isDone()) {
-            checkbox.setImage(tick);
-        } else {
-            checkbox.setImage(cross);
-        }
+        checkbox.setImage(UiResources.getCheckboxImage(task.isDone()));
         taskDesc.setText(task.getDesc().taskDesc);
         taskDeadline.setText(task.getDeadlineString());
     }
 
+    public Task getTask() {
+        return task;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
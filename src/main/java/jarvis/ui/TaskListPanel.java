@@ -32,8 +32,11 @@ public class TaskListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code TaskCard}.
+     * The card is created once for each cell and reused for every task the cell displays.
      */
     class TaskListViewCell extends ListCell<Task> {
+        private TaskCard card;
+
         @Override
         protected void updateItem(Task task, boolean empty) {
             super.updateItem(task, empty);
@@ -42,7 +45,11 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new TaskCard();
+                }
+                card.setTask(task, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,35 @@
+package jarvis.ui;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jarvis.commons.util.AppUtil;
+import javafx.scene.image.Image;
+
+/**
+ * A cache of the resources shared by UI components, so that each resource is only loaded once however many
+ * components show it. Resources are only loaded on the JavaFX application thread, so the cache is not synchronized.
+ */
+public class UiResources {
+
+    public static final String IMAGE_TICK = "/images/tick.png";
+    public static final String IMAGE_CROSS = "/images/cross.png";
+
+    private static final Map<String, Image> IMAGES = new HashMap<>();
+
+    private UiResources() {}
+
+    /**
+     * Returns the {@code Image} at the specified path, decoding it if it has not been decoded before.
+     */
+    public static Image getImage(String imagePath) {
+        return IMAGES.computeIfAbsent(imagePath, AppUtil::getImage);
+    }
+
+    /**
+     * Returns the image of a tick if {@code isDone} is true, or of a cross otherwise.
+     */
+    public static Image getCheckboxImage(boolean isDone) {
+        return getImage(isDone ? IMAGE_TICK : IMAGE_CROSS);
+    }
+}
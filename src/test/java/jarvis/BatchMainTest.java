@@ -0,0 +1,84 @@
+package jarvis;
+
+import static jarvis.testutil.TypicalStudents.AMY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.commons.core.Config;
+import jarvis.commons.util.ConfigUtil;
+import jarvis.model.UserPrefs;
+import jarvis.storage.JsonStudentBookStorage;
+import jarvis.storage.JsonUserPrefsStorage;
+import jarvis.testutil.StudentUtil;
+
+public class BatchMainTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path configFile;
+    private Path studentBookFile;
+    private Path scriptFile;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        configFile = testFolder.resolve("config.json");
+        studentBookFile = testFolder.resolve("studentbook.json");
+        scriptFile = testFolder.resolve("script.txt");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(testFolder.resolve("preferences.json"));
+        ConfigUtil.saveConfig(config, configFile);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStudentBookFilePath(studentBookFile);
+        userPrefs.setTaskBookFilePath(testFolder.resolve("taskbook.json"));
+        userPrefs.setLessonBookFilePath(testFolder.resolve("lessonbook.json"));
+        new JsonUserPrefsStorage(config.getUserPrefsFilePath()).saveUserPrefs(userPrefs);
+    }
+
+    @Test
+    public void run_validScript_dataSaved() throws Exception {
+        Files.writeString(scriptFile, StudentUtil.getAddStudentCommand(AMY) + "\n");
+
+        assertEquals(BatchMain.EXIT_SUCCESS, BatchMain.run("--config=" + configFile, scriptFile.toString()));
+
+        assertEquals(AMY, new JsonStudentBookStorage(studentBookFile).readStudentBook().get().getStudentList().get(0));
+    }
+
+    @Test
+    public void run_invalidCommand_commandFailedStatus() throws Exception {
+        Files.writeString(scriptFile, "unknowncommand\n");
+        assertEquals(BatchMain.EXIT_COMMAND_FAILED, BatchMain.run("--config=" + configFile, scriptFile.toString()));
+    }
+
+    @Test
+    public void run_invalidOptions_usageErrorStatus() {
+        assertEquals(BatchMain.EXIT_USAGE_ERROR, BatchMain.run("--unknown"));
+        assertEquals(BatchMain.EXIT_USAGE_ERROR, BatchMain.run("--save-every=0"));
+        assertEquals(BatchMain.EXIT_USAGE_ERROR, BatchMain.run("--save-every=often"));
+    }
+
+    @Test
+    public void run_invalidDataFile_dataErrorStatusAndFileUnchanged() throws Exception {
+        String invalidData = "not json";
+        Files.writeString(studentBookFile, invalidData);
+        Files.writeString(scriptFile, StudentUtil.getAddStudentCommand(AMY) + "\n");
+
+        assertEquals(BatchMain.EXIT_DATA_ERROR, BatchMain.run("--config=" + configFile, scriptFile.toString()));
+
+        assertEquals(invalidData, Files.readString(studentBookFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_missingScript_dataErrorStatus() {
+        assertEquals(BatchMain.EXIT_DATA_ERROR,
+                BatchMain.run("--config=" + configFile, testFolder.resolve("missing.txt").toString()));
+    }
+}
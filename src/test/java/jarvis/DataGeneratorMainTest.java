@@ -0,0 +1,64 @@
+package jarvis;
+
+import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.storage.JournaledStorage;
+import jarvis.storage.JsonLessonBookStorage;
+import jarvis.storage.JsonStudentBookStorage;
+import jarvis.storage.JsonTaskBookStorage;
+
+public class DataGeneratorMainTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_validOptions_writesLoadableDataFiles() throws Exception {
+        Path outputFolder = DataGeneratorMain.generate("--seed=7", "--students=50", "--tasks=20", "--studios=12",
+                "--consults=3", "--mastery-checks=2", "--students-per-studio=8-12",
+                "--output=" + testFolder);
+        assertEquals(testFolder, outputFolder);
+
+        ReadOnlyStudentBook studentBook = new JsonStudentBookStorage(testFolder.resolve("studentbook.json"))
+                .readStudentBook().get();
+        assertEquals(50, studentBook.getStudentList().size());
+        assertEquals(20, new JsonTaskBookStorage(testFolder.resolve("taskbook.json"))
+                .readTaskBook().get().getTaskList().size());
+        assertEquals(17, new JsonLessonBookStorage(testFolder.resolve("lessonbook.json"))
+                .readLessonBook(studentBook).get().getLessonList().size());
+    }
+
+    @Test
+    public void generate_existingDataFiles_replacedOnlyWithForce() throws Exception {
+        DataGeneratorMain.generate("--students=5", "--output=" + testFolder);
+        Path journalFilePath = Files.writeString(testFolder.resolve(JournaledStorage.JOURNAL_FILE_NAME), "");
+        assertThrows(IllegalArgumentException.class, () -> DataGeneratorMain.generate("--students=10",
+                "--output=" + testFolder));
+        assertEquals(5, new JsonStudentBookStorage(testFolder.resolve("studentbook.json"))
+                .readStudentBook().get().getStudentList().size());
+
+        DataGeneratorMain.generate("--students=10", "--output=" + testFolder, "--force");
+        assertEquals(10, new JsonStudentBookStorage(testFolder.resolve("studentbook.json"))
+                .readStudentBook().get().getStudentList().size());
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void generate_invalidOptions_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> DataGeneratorMain.generate("--unknown=1"));
+        assertThrows(IllegalArgumentException.class, () -> DataGeneratorMain.generate("--force=yes"));
+        assertThrows(IllegalArgumentException.class, () -> DataGeneratorMain.generate("students=5"));
+        assertThrows(IllegalArgumentException.class, () -> DataGeneratorMain.generate("--students=-1"));
+        assertThrows(IllegalArgumentException.class, () -> DataGeneratorMain.generate("--students=many"));
+        assertThrows(IllegalArgumentException.class, () -> DataGeneratorMain.generate("--students-per-studio=12-8"));
+    }
+}
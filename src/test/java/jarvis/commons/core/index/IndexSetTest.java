@@ -0,0 +1,80 @@
+package jarvis.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSetTest {
+
+    private static final Index FIRST = Index.fromOneBased(1);
+    private static final Index SECOND = Index.fromOneBased(2);
+    private static final Index THIRD = Index.fromOneBased(3);
+    private static final Index FIFTH = Index.fromOneBased(5);
+
+    @Test
+    public void union_overlappingAndAdjacentRanges_merged() {
+        IndexSet firstToThird = IndexSet.range(FIRST, THIRD);
+
+        // overlapping ranges
+        assertEquals(firstToThird, IndexSet.range(FIRST, SECOND).union(IndexSet.range(SECOND, THIRD)));
+
+        // adjacent ranges, in either order
+        assertEquals(firstToThird, IndexSet.of(FIRST).union(IndexSet.range(SECOND, THIRD)));
+        assertEquals(firstToThird, IndexSet.of(THIRD).union(IndexSet.of(SECOND)).union(IndexSet.of(FIRST)));
+
+        // separate ranges are kept apart
+        assertEquals("1,3,5", IndexSet.of(FIFTH).union(IndexSet.of(FIRST)).union(IndexSet.of(THIRD)).toString());
+
+        // all absorbs every other range
+        assertTrue(IndexSet.of(FIRST).union(IndexSet.all()).isAll());
+    }
+
+    @Test
+    public void isValidFor() {
+        // every index in the list -> returns true
+        assertTrue(IndexSet.range(FIRST, THIRD).isValidFor(3));
+        assertTrue(IndexSet.all().isValidFor(1));
+
+        // last index beyond the list -> returns false
+        assertFalse(IndexSet.of(FIRST).union(IndexSet.of(FIFTH)).isValidFor(4));
+
+        // all of an empty list -> returns false
+        assertFalse(IndexSet.all().isValidFor(0));
+    }
+
+    @Test
+    public void select_returnsElementsInOrderOfIndexes() {
+        List<String> list = List.of("a", "b", "c", "d", "e");
+
+        assertEquals(List.of("a", "c", "d", "e"),
+                IndexSet.range(THIRD, FIFTH).union(IndexSet.of(FIRST)).select(list));
+        assertEquals(list, IndexSet.all().select(list));
+    }
+
+    @Test
+    public void equals() {
+        IndexSet firstAndThird = IndexSet.of(FIRST).union(IndexSet.of(THIRD));
+
+        // same values -> returns true
+        assertTrue(firstAndThird.equals(IndexSet.of(THIRD).union(IndexSet.of(FIRST))));
+
+        // same object -> returns true
+        assertTrue(firstAndThird.equals(firstAndThird));
+        assertTrue(IndexSet.all().equals(IndexSet.all()));
+
+        // null -> returns false
+        assertFalse(firstAndThird.equals(null));
+
+        // different types -> returns false
+        assertFalse(firstAndThird.equals(FIRST));
+
+        // different indexes -> returns false
+        assertFalse(firstAndThird.equals(IndexSet.range(FIRST, THIRD)));
+        assertFalse(firstAndThird.equals(IndexSet.all()));
+        assertFalse(IndexSet.all().equals(firstAndThird));
+    }
+}
@@ -0,0 +1,74 @@
+package jarvis.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchObservableListTest {
+
+    private final BatchObservableList<String> list = new BatchObservableList<>();
+    private final List<String> removed = new ArrayList<>();
+    private final List<String> added = new ArrayList<>();
+    private int changeCount = 0;
+
+    public BatchObservableListTest() {
+        list.addAll(List.of("a", "b"));
+        list.addListener((ListChangeListener<String>) change -> {
+            changeCount++;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void add_notInBatch_reportedAtOnce() {
+        list.add("c");
+        assertEquals(1, changeCount);
+        assertTrue(added.contains("c"));
+    }
+
+    @Test
+    public void endBatch_severalChanges_reportedAsOneChange() {
+        list.beginBatch();
+        list.add("c");
+        list.remove("a");
+        list.set(0, "d");
+        assertEquals(List.of("d", "c"), list);
+        assertEquals(0, changeCount);
+
+        list.endBatch();
+        assertEquals(1, changeCount);
+        // the change may also report unchanged elements as both removed and added
+        Set<String> netRemoved = new HashSet<>(removed);
+        netRemoved.removeAll(added);
+        Set<String> netAdded = new HashSet<>(added);
+        netAdded.removeAll(removed);
+        assertEquals(Set.of("a", "b"), netRemoved);
+        assertEquals(Set.of("c", "d"), netAdded);
+    }
+
+    @Test
+    public void getAddedInBatch_changesInBatch_netChangesReturned() {
+        list.beginBatch();
+        list.add("c");
+        list.add("d");
+        list.remove("d");
+        list.set(0, "e");
+        list.set(0, "a");
+        list.remove("b");
+
+        assertEquals(List.of("c"), list.getAddedInBatch());
+        assertEquals(List.of("b"), list.getRemovedInBatch());
+        list.endBatch();
+    }
+}
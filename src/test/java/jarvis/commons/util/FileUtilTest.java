@@ -1,13 +1,23 @@
 package jarvis.commons.util;
 
 import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,42 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_contentReplacedWithoutLeftoverFiles() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_withBackups_keepsLatestGenerations() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        for (int version = 1; version <= 5; version++) {
+            FileUtil.writeToFile(file, "v" + version, 3);
+        }
+
+        assertEquals("v5", FileUtil.readFromFile(file));
+        assertEquals(Arrays.asList(FileUtil.getBackupFile(file, 1), FileUtil.getBackupFile(file, 2),
+                FileUtil.getBackupFile(file, 3)), FileUtil.getBackupFiles(file));
+        assertEquals("v4", FileUtil.readFromFile(FileUtil.getBackupFile(file, 1)));
+        assertEquals("v3", FileUtil.readFromFile(FileUtil.getBackupFile(file, 2)));
+        assertEquals("v2", FileUtil.readFromFile(FileUtil.getBackupFile(file, 3)));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFile(file, 4)));
+    }
+
+    @Test
+    public void writeToFile_emptyExistingFile_notBackedUp() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.createFile(file);
+        FileUtil.writeToFile(file, "content", 3);
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertTrue(FileUtil.getBackupFiles(file).isEmpty());
+    }
+
 }
@@ -1,8 +1,11 @@
 package jarvis.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
@@ -39,6 +42,46 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void serializeObjectToJsonFile_prettyPrintingDisabled_compactFileReadBack() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.setPrettyPrinting(false);
+        try {
+            JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass);
+        } finally {
+            JsonUtil.setPrettyPrinting(true);
+        }
+
+        assertFalse(FileUtil.readFromFile(SERIALIZATION_FILE).contains("\n"));
+        SerializableTestClass readBack = JsonUtil
+                .deserializeObjectFromJsonFile(SERIALIZATION_FILE, SerializableTestClass.class);
+        assertEquals(readBack.getName(), SerializableTestClass.getNameTestValue());
+        assertEquals(readBack.getListOfLocalDateTimes(), SerializableTestClass.getListTestValues());
+        assertEquals(readBack.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
+    }
+
+    @Test
+    public void saveJsonFile_unreadableExistingFile_notBackedUp() throws IOException {
+        Path file = TestUtil.getFilePathInSandboxFolder("backedUp.json");
+        Files.deleteIfExists(file);
+        for (Path backupFile : FileUtil.getBackupFiles(file)) {
+            Files.delete(backupFile);
+        }
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, file, 1);
+        JsonUtil.saveJsonFile(serializableTestClass, file, 1);
+
+        // a partly written file does not replace the readable backup
+        FileUtil.writeToFile(file, "{\"name\": ");
+        JsonUtil.saveJsonFile(serializableTestClass, file, 1);
+
+        assertTrue(JsonUtil.isValidJsonFile(FileUtil.getBackupFile(file, 1)));
+        assertTrue(JsonUtil.isValidJsonFile(file));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,130 @@
+package jarvis.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SortedListUtilTest {
+
+    @Test
+    public void insert_equalElements_insertedAfterEqualElements() {
+        Item first = new Item(1, "first");
+        Item second = new Item(1, "second");
+        List<Item> list = new ArrayList<>(Arrays.asList(new Item(0, "a"), first, new Item(2, "b")));
+
+        SortedListUtil.insert(list, second);
+
+        assertEquals(Arrays.asList(0, 1, 1, 2), keys(list));
+        assertEquals(first, list.get(1));
+        assertEquals(second, list.get(2));
+    }
+
+    @Test
+    public void replace_elementStillInOrder_replacedInPlace() {
+        List<Item> list = items(1, 3, 5);
+        Item replacement = new Item(4, "replacement");
+
+        SortedListUtil.replace(list, 1, replacement);
+
+        assertEquals(Arrays.asList(1, 4, 5), keys(list));
+        assertEquals(replacement, list.get(1));
+    }
+
+    @Test
+    public void replace_elementOutOfOrder_movedToSortedPosition() {
+        List<Item> list = items(1, 3, 5, 7);
+
+        SortedListUtil.replace(list, 0, new Item(6, "right"));
+        assertEquals(Arrays.asList(3, 5, 6, 7), keys(list));
+
+        SortedListUtil.replace(list, 3, new Item(0, "left"));
+        assertEquals(Arrays.asList(0, 3, 5, 6), keys(list));
+    }
+
+    @Test
+    public void insertAndReplace_randomOperations_sameOrderAsStableSort() {
+        Random random = new Random(42);
+        List<Item> list = new ArrayList<>();
+        List<Item> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Item item = new Item(random.nextInt(10), "item" + i);
+            if (list.isEmpty() || random.nextBoolean()) {
+                SortedListUtil.insert(list, item);
+                expected.add(item);
+            } else {
+                int index = random.nextInt(list.size());
+                expected.set(expected.indexOf(list.get(index)), item);
+                SortedListUtil.replace(list, index, item);
+            }
+            Collections.sort(expected);
+            assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    public void indexOfInstance_equalElements_instanceFound() {
+        Item first = new Item(1, "first");
+        Item second = new Item(1, "second");
+        List<Item> list = new ArrayList<>(Arrays.asList(new Item(0, "a"), first, second, new Item(2, "b")));
+
+        assertEquals(1, SortedListUtil.indexOfInstance(list, first));
+        assertEquals(2, SortedListUtil.indexOfInstance(list, second));
+        assertEquals(3, SortedListUtil.indexOfInstance(list, list.get(3)));
+    }
+
+    @Test
+    public void isSorted() {
+        assertTrue(SortedListUtil.isSorted(items()));
+        assertTrue(SortedListUtil.isSorted(items(1, 1, 2)));
+        assertFalse(SortedListUtil.isSorted(items(1, 3, 2)));
+    }
+
+    @Test
+    public void sortedCopy() {
+        List<Item> elements = items(3, 1, 2);
+        assertEquals(Arrays.asList(1, 2, 3), keys(SortedListUtil.sortedCopy(elements)));
+        assertEquals(Arrays.asList(3, 1, 2), keys(elements));
+    }
+
+    private static List<Item> items(int... keys) {
+        List<Item> items = new ArrayList<>();
+        for (int key : keys) {
+            items.add(new Item(key, String.valueOf(key)));
+        }
+        return items;
+    }
+
+    private static List<Integer> keys(List<Item> items) {
+        List<Integer> keys = new ArrayList<>();
+        for (Item item : items) {
+            keys.add(item.key);
+        }
+        return keys;
+    }
+
+    /**
+     * An element whose order only depends on its key, so that equal elements can be told apart by name.
+     */
+    private static class Item implements Comparable<Item> {
+        private final int key;
+        private final String name;
+
+        Item(int key, String name) {
+            this.key = key;
+            this.name = name;
+        }
+
+        @Override
+        public int compareTo(Item other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package jarvis.logic;
+
+import static jarvis.testutil.Assert.assertThrows;
+import static jarvis.testutil.TypicalStudents.AMY;
+import static jarvis.testutil.TypicalStudents.BOB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.logic.commands.AddStudentCommand;
+import jarvis.logic.commands.ExitCommand;
+import jarvis.model.Model;
+import jarvis.model.ModelManager;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.storage.JsonLessonBookStorage;
+import jarvis.storage.JsonStudentBookStorage;
+import jarvis.storage.JsonTaskBookStorage;
+import jarvis.storage.JsonUserPrefsStorage;
+import jarvis.storage.StorageManager;
+import jarvis.testutil.StudentUtil;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private CountingStorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorageManager(temporaryFolder);
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createBatchRunner(-1, false));
+    }
+
+    @Test
+    public void run_validCommands_executedAndSavedOnce() throws Exception {
+        String script = "# add two students\n"
+                + StudentUtil.getAddStudentCommand(AMY) + "\n"
+                + "\n"
+                + StudentUtil.getAddStudentCommand(BOB) + "\n";
+
+        assertEquals(0, createBatchRunner(0, false).run(reader(script)));
+
+        assertEquals(2, model.getStudentBook().getStudentList().size());
+        assertEquals(1, storage.saveCount);
+        ReadOnlyStudentBook savedStudentBook = storage.readStudentBook().get();
+        assertEquals(model.getStudentBook().getStudentList(), savedStudentBook.getStudentList());
+        assertTrue(output(out).contains(String.format(AddStudentCommand.MESSAGE_SUCCESS, AMY)));
+        assertTrue(output(out).contains(String.format(BatchRunner.MESSAGE_SUMMARY, 2, 0)));
+    }
+
+    @Test
+    public void run_saveInterval_savedEveryIntervalAndAtEnd() throws Exception {
+        String script = "liststudent\nliststudent\nliststudent\nliststudent\nliststudent\n";
+
+        createBatchRunner(2, false).run(reader(script));
+
+        // after the second and fourth commands, and after the last command
+        assertEquals(3, storage.saveCount);
+    }
+
+    @Test
+    public void run_invalidCommand_errorReportedAndRestExecuted() throws Exception {
+        String script = StudentUtil.getAddStudentCommand(AMY) + "\n"
+                + "# comment\n"
+                + "unknowncommand\n"
+                + StudentUtil.getAddStudentCommand(BOB) + "\n";
+
+        assertEquals(1, createBatchRunner(0, false).run(reader(script)));
+
+        assertEquals(2, model.getStudentBook().getStudentList().size());
+        assertTrue(output(err).startsWith(String.format(BatchRunner.MESSAGE_INVALID_COMMAND, 3, "")));
+        assertTrue(output(out).contains(String.format(BatchRunner.MESSAGE_SUMMARY, 3, 1)));
+    }
+
+    @Test
+    public void run_invalidCommandStoppingOnError_restNotExecuted() throws Exception {
+        String script = StudentUtil.getAddStudentCommand(AMY) + "\n"
+                + "unknowncommand\n"
+                + StudentUtil.getAddStudentCommand(BOB) + "\n";
+
+        assertEquals(1, createBatchRunner(0, true).run(reader(script)));
+
+        // the commands before the invalid command are still saved
+        assertEquals(1, storage.readStudentBook().get().getStudentList().size());
+    }
+
+    @Test
+    public void run_exitCommand_restNotExecuted() throws Exception {
+        String script = StudentUtil.getAddStudentCommand(AMY) + "\n"
+                + ExitCommand.COMMAND_WORD + "\n"
+                + StudentUtil.getAddStudentCommand(BOB) + "\n";
+
+        assertEquals(0, createBatchRunner(0, false).run(reader(script)));
+
+        assertEquals(1, model.getStudentBook().getStudentList().size());
+        assertFalse(output(out).contains(String.format(AddStudentCommand.MESSAGE_SUCCESS, BOB)));
+    }
+
+    private BatchRunner createBatchRunner(int saveInterval, boolean isStoppingOnError) {
+        return new BatchRunner(model, storage, saveInterval, isStoppingOnError,
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private static BufferedReader reader(String script) {
+        return new BufferedReader(new StringReader(script));
+    }
+
+    private static String output(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A {@code StorageManager} that counts the number of times the student book is saved.
+     */
+    private static class CountingStorageManager extends StorageManager {
+        private int saveCount = 0;
+
+        CountingStorageManager(Path folder) {
+            super(new JsonStudentBookStorage(folder.resolve("studentBook.json")),
+                    new JsonTaskBookStorage(folder.resolve("taskBook.json")),
+                    new JsonLessonBookStorage(folder.resolve("lessonBook.json")),
+                    new JsonUserPrefsStorage(folder.resolve("userPrefs.json")));
+        }
+
+        @Override
+        public void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException {
+            saveCount++;
+            super.saveStudentBook(studentBook);
+        }
+    }
+}
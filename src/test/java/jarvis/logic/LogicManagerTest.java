@@ -6,10 +6,12 @@ import static jarvis.logic.commands.CommandTestUtil.MATRIC_NUM_DESC_AMY;
 import static jarvis.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static jarvis.testutil.Assert.assertThrows;
 import static jarvis.testutil.TypicalStudents.AMY;
+import static jarvis.testutil.TypicalStudents.BOB;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import jarvis.logic.commands.CommandResult;
 import jarvis.logic.commands.ListStudentCommand;
 import jarvis.logic.commands.exceptions.CommandException;
 import jarvis.logic.parser.exceptions.ParseException;
+import jarvis.model.Lesson;
 import jarvis.model.Model;
 import jarvis.model.ModelManager;
 import jarvis.model.ReadOnlyStudentBook;
@@ -97,6 +100,60 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void previewCommand_findStudentBeingTyped_studentsFiltered() {
+        model.addStudent(AMY);
+        model.addStudent(BOB);
+
+        logic.previewCommand("finds am");
+        assertEquals(List.of(AMY), logic.getFilteredStudentList());
+
+        logic.previewCommand("findstudent ");
+        assertEquals(2, logic.getFilteredStudentList().size());
+
+        // commands that do not only filter are not previewed
+        logic.previewCommand("deletestudent 1");
+        assertEquals(2, model.getStudentBook().getStudentList().size());
+    }
+
+    @Test
+    public void execute_addStudioAfterFindStudent_allStudentsInStudio() throws Exception {
+        model.addStudent(AMY);
+        model.addStudent(BOB);
+        logic.execute("findstudent bob");
+
+        logic.execute("addstudio l/Studio 3 sd/2022-10-12 st/14:00 et/16:00");
+
+        Lesson studio = model.getLessonBook().getLessonList().get(0);
+        assertEquals(List.of(AMY, BOB), studio.getStudentList());
+        assertEquals(List.of(AMY, BOB), logic.getFilteredStudentList());
+    }
+
+    @Test
+    public void previewCommand_findStudentNoLongerTyped_filterRestored() throws Exception {
+        model.addStudent(AMY);
+        model.addStudent(BOB);
+        logic.execute("findstudent bob");
+
+        logic.previewCommand("findstudent am");
+        assertEquals(List.of(AMY), logic.getFilteredStudentList());
+
+        // the command box is cleared
+        logic.previewCommand("");
+        assertEquals(List.of(BOB), logic.getFilteredStudentList());
+
+        // another command is typed instead
+        logic.previewCommand("findstudent am");
+        logic.previewCommand("deletestudent 1");
+        assertEquals(List.of(BOB), logic.getFilteredStudentList());
+
+        // the find command is executed, so its filter is kept
+        logic.previewCommand("findstudent amy");
+        logic.execute("findstudent amy");
+        logic.previewCommand("");
+        assertEquals(List.of(AMY), logic.getFilteredStudentList());
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredStudentList().remove(0));
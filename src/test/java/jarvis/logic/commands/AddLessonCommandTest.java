@@ -7,6 +7,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -14,7 +16,9 @@ import jarvis.commons.core.GuiSettings;
 import jarvis.commons.core.index.Index;
 import jarvis.model.Lesson;
 import jarvis.model.LessonBook;
+import jarvis.model.MatricNum;
 import jarvis.model.Model;
+import jarvis.model.NameContainsKeywordsPredicate;
 import jarvis.model.ReadOnlyLessonBook;
 import jarvis.model.ReadOnlyStudentBook;
 import jarvis.model.ReadOnlyTaskBook;
@@ -102,7 +106,7 @@ public abstract class AddLessonCommandTest {
         }
 
         @Override
-        public void deleteStudent(Student target) {
+        public List<Lesson> deleteStudent(Student target) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -111,6 +115,16 @@ public abstract class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setStudents(Map<Student, Student> editedStudents) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Student> getStudent(MatricNum matricNum) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Student> getFilteredStudentList() {
             throw new AssertionError("This method should not be called.");
@@ -121,6 +135,21 @@ public abstract class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int findStudents(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void previewStudents(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endStudentPreview() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getTaskBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -225,6 +254,56 @@ public abstract class AddLessonCommandTest {
         public boolean hasPeriodClash(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Lesson> getClashingLessons(Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markClashingLessons(List<Lesson> lessons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unmarkClashingLessons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String redo() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -246,6 +325,11 @@ public abstract class AddLessonCommandTest {
             return this.lesson.equals(lesson);
         }
 
+        @Override
+        public ReadOnlyStudentBook getStudentBook() {
+            return studentBook;
+        }
+
         @Override
         public ObservableList<Student> getFilteredStudentList() {
             return filteredStudents;
@@ -260,7 +344,7 @@ public abstract class AddLessonCommandTest {
 
         // used in add lesson command to highlight lessons in Ui that have conflict in schedule, not used for test
         @Override
-        public void setLesson(Lesson targetLesson, Lesson editedLesson) {
+        public void markClashingLessons(List<Lesson> lessons) {
             return;
         }
 
@@ -270,7 +354,7 @@ public abstract class AddLessonCommandTest {
             return;
         }
 
-        // used in AddStudioCommand to get all students in student list, not needed in test as student list unfiltered
+        // used in AddStudioCommand to show all students after adding the studio, not needed in test
         @Override
         public void updateFilteredStudentList(Predicate<Student> predicate) {
             return;
@@ -280,6 +364,15 @@ public abstract class AddLessonCommandTest {
         public boolean hasPeriodClash(Lesson lessonToAdd) {
             return lesson.hasTimingConflict(lessonToAdd);
         }
+
+        @Override
+        public List<Lesson> getClashingLessons(Lesson lessonToAdd) {
+            List<Lesson> clashingLessons = new ArrayList<>();
+            if (lesson.hasTimingConflict(lessonToAdd)) {
+                clashingLessons.add(lesson);
+            }
+            return clashingLessons;
+        }
     }
 
     /**
@@ -307,6 +400,11 @@ public abstract class AddLessonCommandTest {
             return new LessonBook();
         }
 
+        @Override
+        public ReadOnlyStudentBook getStudentBook() {
+            return studentBook;
+        }
+
         @Override
         public ObservableList<Student> getFilteredStudentList() {
             return filteredStudents;
@@ -317,7 +415,7 @@ public abstract class AddLessonCommandTest {
             return null;
         }
 
-        // used in AddStudioCommand to get all students in student list, not needed in test as student list unfiltered
+        // used in AddStudioCommand to show all students after adding the studio, not needed in test
         @Override
         public void updateFilteredStudentList(Predicate<Student> predicate) {
             return;
@@ -339,5 +437,10 @@ public abstract class AddLessonCommandTest {
         public boolean hasPeriodClash(Lesson lesson) {
             return false;
         }
+
+        @Override
+        public List<Lesson> getClashingLessons(Lesson lesson) {
+            return new ArrayList<>();
+        }
     }
 }
@@ -63,7 +63,8 @@ public class AddParticipationCommandTest {
 
         assertEquals(String.format(AddParticipationCommand.MESSAGE_ADD_PARTICIPATION_SUCCESS, studentToAdd, studioToAdd,
                 participation), commandResult.getFeedbackToUser());
-        assertEquals(participation, studioToAdd.getParticipationForStudent(studentToAdd));
+        Studio editedStudio = (Studio) model.getFilteredLessonList().get(studioIndex.getZeroBased());
+        assertEquals(participation, editedStudio.getParticipationForStudent(studentToAdd));
     }
 
     @Test
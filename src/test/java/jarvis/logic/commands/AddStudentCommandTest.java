@@ -9,6 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -16,7 +19,9 @@ import org.junit.jupiter.api.Test;
 import jarvis.commons.core.GuiSettings;
 import jarvis.logic.commands.exceptions.CommandException;
 import jarvis.model.Lesson;
+import jarvis.model.MatricNum;
 import jarvis.model.Model;
+import jarvis.model.NameContainsKeywordsPredicate;
 import jarvis.model.ReadOnlyLessonBook;
 import jarvis.model.ReadOnlyStudentBook;
 import jarvis.model.ReadOnlyTaskBook;
@@ -139,7 +144,7 @@ public class AddStudentCommandTest {
         }
 
         @Override
-        public void deleteStudent(Student target) {
+        public List<Lesson> deleteStudent(Student target) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -148,6 +153,16 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setStudents(Map<Student, Student> editedStudents) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Student> getStudent(MatricNum matricNum) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Student> getFilteredStudentList() {
             throw new AssertionError("This method should not be called.");
@@ -158,6 +173,21 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int findStudents(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void previewStudents(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endStudentPreview() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getTaskBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -262,6 +292,56 @@ public class AddStudentCommandTest {
         public boolean hasPeriodClash(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Lesson> getClashingLessons(Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markClashingLessons(List<Lesson> lessons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unmarkClashingLessons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String redo() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -44,7 +44,8 @@ public class DeleteNoteCommandTest {
         CommandResult commandResult = new DeleteNoteCommand(noteIndex, lessonIndex, null).execute(model);
         assertEquals(String.format(DeleteNoteCommand.MESSAGE_DELETE_OVERALL_NOTE_SUCCESS, lessonToDelete, VALID_NOTE),
                 commandResult.getFeedbackToUser());
-        assertEquals(expectedNotes.getGeneralNotes(), lessonToDelete.getLessonNotes().getGeneralNotes());
+        assertEquals(expectedNotes.getGeneralNotes(),
+                model.getFilteredLessonList().get(lessonInt).getLessonNotes().getGeneralNotes());
     }
 
     @Test
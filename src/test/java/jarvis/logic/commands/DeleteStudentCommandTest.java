@@ -5,18 +5,26 @@ import static jarvis.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static jarvis.logic.commands.CommandTestUtil.showStudentAtIndex;
 import static jarvis.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static jarvis.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+import static jarvis.testutil.TypicalIndexes.INDEX_THIRD_STUDENT;
+import static jarvis.testutil.TypicalLessons.TP3;
 import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
+import jarvis.model.Lesson;
 import jarvis.model.Model;
 import jarvis.model.ModelManager;
 import jarvis.model.Student;
 import jarvis.model.UserPrefs;
+import jarvis.testutil.LessonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -39,6 +47,55 @@ public class DeleteStudentCommandTest {
         assertCommandSuccess(deleteStudentCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_validIndexesUnfilteredList_success() {
+        Student firstStudent = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        Student thirdStudent = model.getFilteredStudentList().get(INDEX_THIRD_STUDENT.getZeroBased());
+        DeleteStudentCommand deleteStudentCommand = new DeleteStudentCommand(
+                IndexSet.of(INDEX_THIRD_STUDENT).union(IndexSet.of(INDEX_FIRST_STUDENT)));
+
+        String expectedMessage = String.format(DeleteStudentCommand.MESSAGE_DELETE_STUDENT_SUCCESS, firstStudent)
+                + "\n" + String.format(DeleteStudentCommand.MESSAGE_DELETE_STUDENT_SUCCESS, thirdStudent);
+
+        ModelManager expectedModel = new ModelManager(model.getStudentBook(), new UserPrefs());
+        expectedModel.deleteStudent(firstStudent);
+        expectedModel.deleteStudent(thirdStudent);
+
+        assertCommandSuccess(deleteStudentCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_onlyStudentOfLesson_lessonDeleted() {
+        Student studentToDelete = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        Student otherStudent = model.getFilteredStudentList().get(INDEX_SECOND_STUDENT.getZeroBased());
+        Lesson soloLesson = new LessonBuilder().withStudents(List.of(studentToDelete)).buildConsult();
+        Lesson sharedLesson = new LessonBuilder().withStudents(List.of(studentToDelete, otherStudent))
+                .withTimePeriod(TP3).buildStudio();
+        model.addLesson(soloLesson);
+        model.addLesson(sharedLesson);
+        DeleteStudentCommand deleteStudentCommand = new DeleteStudentCommand(INDEX_FIRST_STUDENT);
+
+        String expectedMessage = String.format(DeleteStudentCommand.MESSAGE_DELETE_STUDENT_SUCCESS, studentToDelete)
+                + "\n" + String.format(DeleteStudentCommand.MESSAGE_DELETE_LESSON_SUCCESS, soloLesson);
+
+        ModelManager expectedModel = new ModelManager(model.getStudentBook(), model.getTaskBook(),
+                model.getLessonBook(), new UserPrefs());
+        expectedModel.deleteStudent(studentToDelete);
+
+        assertCommandSuccess(deleteStudentCommand, model, expectedMessage, expectedModel);
+        assertEquals(1, model.getLessonBook().getLessonList().size());
+    }
+
+    @Test
+    public void execute_indexesPartlyOutOfBounds_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
+        DeleteStudentCommand deleteStudentCommand = new DeleteStudentCommand(
+                IndexSet.range(INDEX_FIRST_STUDENT, outOfBoundIndex));
+
+        // no student is deleted if any index is invalid
+        assertCommandFailure(deleteStudentCommand, model, Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
@@ -5,19 +5,25 @@ import static jarvis.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static jarvis.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static jarvis.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
 import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.model.Assessment;
 import jarvis.model.GradeProfile;
 import jarvis.model.Model;
 import jarvis.model.ModelManager;
 import jarvis.model.Student;
 import jarvis.model.UserPrefs;
+import javafx.collections.ListChangeListener;
 
 class GradeCommandTest {
 
@@ -36,6 +42,43 @@ class GradeCommandTest {
         assertCommandSuccess(gradeCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_validIndex_onlyGradedStudentReplaced() throws Exception {
+        GradeProfile validGradeProfile = new GradeProfile();
+        validGradeProfile.grade(Assessment.RA1, 16);
+        Student studentToGrade = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        model.getStudentBook().getStudentList().addListener(changes::add);
+
+        new GradeCommand(INDEX_FIRST_STUDENT, validGradeProfile).execute(model);
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Student> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertTrue(change.wasReplaced());
+        assertEquals(List.of(studentToGrade), change.getRemoved());
+        assertEquals(1, change.getAddedSize());
+        assertFalse(change.next()); // the rest of the list is not replaced
+    }
+
+    @Test
+    public void execute_validIndexesValidGradeProfile_success() {
+        Model expectedModel = new ModelManager(getTypicalStudentBook(), new UserPrefs());
+        GradeProfile validGradeProfile = new GradeProfile();
+        validGradeProfile.grade(Assessment.RA1, 16);
+        Student firstStudent = expectedModel.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        Student secondStudent = expectedModel.getFilteredStudentList().get(INDEX_SECOND_STUDENT.getZeroBased());
+        firstStudent.updateGrades(validGradeProfile);
+        secondStudent.updateGrades(validGradeProfile);
+        GradeCommand gradeCommand = new GradeCommand(IndexSet.range(INDEX_FIRST_STUDENT, INDEX_SECOND_STUDENT),
+                validGradeProfile);
+        String expectedMessage = String.format(GradeCommand.MESSAGE_SUCCESS, firstStudent) + "\n"
+                + String.format(GradeCommand.MESSAGE_SUCCESS, secondStudent);
+
+        assertCommandSuccess(gradeCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidIndexValidGradeProfile_failure() {
         Index outOfBoundsIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
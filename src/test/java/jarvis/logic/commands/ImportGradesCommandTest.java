@@ -0,0 +1,172 @@
+package jarvis.logic.commands;
+
+import static jarvis.logic.commands.CommandTestUtil.assertCommandFailure;
+import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.logic.parser.ParserUtil;
+import jarvis.model.Assessment;
+import jarvis.model.MatricNum;
+import jarvis.model.Model;
+import jarvis.model.ModelManager;
+import jarvis.model.Student;
+import jarvis.model.UserPrefs;
+import jarvis.testutil.StudentBookBuilder;
+import jarvis.testutil.StudentBuilder;
+
+public class ImportGradesCommandTest {
+
+    private static final String MATRIC_NUM_AMY = "A0344534D";
+    private static final String MATRIC_NUM_BOB = "A3533843G";
+
+    @TempDir
+    public Path testFolder;
+
+    private Student amy;
+    private Student bob;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        // students are built here as the tests modify their grades
+        amy = new StudentBuilder().withName("Amy Bee").withMatricNum(MATRIC_NUM_AMY).build();
+        bob = new StudentBuilder().withName("Bob Choo").withMatricNum(MATRIC_NUM_BOB).build();
+        model = new ModelManager(new StudentBookBuilder().withPerson(amy).withPerson(bob).build(), new UserPrefs());
+    }
+
+    private Path writeCsv(String... lines) throws Exception {
+        Path filePath = testFolder.resolve("grades.csv");
+        Files.write(filePath, Stream.of(lines).collect(Collectors.toList()));
+        return filePath;
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportGradesCommand(null));
+    }
+
+    @Test
+    public void execute_validFile_gradesRecorded() throws Exception {
+        bob.getGradeProfile().grade(Assessment.RA2, 10);
+        Path filePath = writeCsv("matric,midterm,RA2", MATRIC_NUM_AMY + ",55,17", "", MATRIC_NUM_BOB + ", 40 ,");
+        long modificationCount = model.getStudentBook().getModificationCount();
+
+        CommandResult result = new ImportGradesCommand(filePath).execute(model);
+
+        assertEquals(String.format(ImportGradesCommand.MESSAGE_SUCCESS, 2, filePath), result.getFeedbackToUser());
+        Student gradedAmy = model.getStudent(amy.getMatricNum()).get();
+        Student gradedBob = model.getStudent(bob.getMatricNum()).get();
+        assertEquals(55, gradedAmy.getGradeProfile().getMarks(Assessment.MIDTERM));
+        assertEquals(17, gradedAmy.getGradeProfile().getMarks(Assessment.RA2));
+        assertEquals(40, gradedBob.getGradeProfile().getMarks(Assessment.MIDTERM));
+        // empty marks leave the current grade unchanged
+        assertEquals(10, gradedBob.getGradeProfile().getMarks(Assessment.RA2));
+        // all students are updated at once
+        assertEquals(modificationCount + 1, model.getStudentBook().getModificationCount());
+    }
+
+    @Test
+    public void execute_invalidRows_noGradesRecorded() throws Exception {
+        Path filePath = writeCsv("matric,midterm,ra1",
+                MATRIC_NUM_AMY + ",55,17",
+                MATRIC_NUM_BOB + ",70,1",
+                "A1111111A,1,1",
+                MATRIC_NUM_AMY + ",1,1",
+                "B1234567A,1,1",
+                MATRIC_NUM_BOB + ",1");
+        String expectedErrors = String.join("\n",
+                String.format(ImportGradesCommand.MESSAGE_INVALID_ROW, 3, ParserUtil.MESSAGE_INVALID_MARK_VALUE),
+                String.format(ImportGradesCommand.MESSAGE_INVALID_ROW, 4,
+                        String.format(ImportGradesCommand.MESSAGE_UNKNOWN_STUDENT, "A1111111A")),
+                String.format(ImportGradesCommand.MESSAGE_INVALID_ROW, 5,
+                        String.format(ImportGradesCommand.MESSAGE_DUPLICATE_STUDENT, MATRIC_NUM_AMY, 2)),
+                String.format(ImportGradesCommand.MESSAGE_INVALID_ROW, 6,
+                        MatricNum.MESSAGE_CONSTRAINTS),
+                String.format(ImportGradesCommand.MESSAGE_INVALID_ROW, 7,
+                        String.format(ImportGradesCommand.MESSAGE_WRONG_VALUE_COUNT, 3, 2)));
+
+        assertCommandFailure(new ImportGradesCommand(filePath), model,
+                String.format(ImportGradesCommand.MESSAGE_INVALID_ROWS, expectedErrors));
+        assertFalse(amy.getGradeProfile().getGradeMap().get(Assessment.MIDTERM).isGraded());
+    }
+
+    @Test
+    public void execute_masteryCheckResults_gradesRecorded() throws Exception {
+        // the header starts with the byte order mark that Excel writes
+        Path filePath = writeCsv("\uFEFFmatric,mc1,mc2", MATRIC_NUM_AMY + ",PASS,0", MATRIC_NUM_BOB + ",fail,1");
+
+        new ImportGradesCommand(filePath).execute(model);
+
+        Student gradedAmy = model.getStudent(amy.getMatricNum()).get();
+        Student gradedBob = model.getStudent(bob.getMatricNum()).get();
+        assertEquals(1, gradedAmy.getGradeProfile().getMarks(Assessment.MC1));
+        assertEquals(0, gradedAmy.getGradeProfile().getMarks(Assessment.MC2));
+        assertEquals(0, gradedBob.getGradeProfile().getMarks(Assessment.MC1));
+        assertEquals(1, gradedBob.getGradeProfile().getMarks(Assessment.MC2));
+    }
+
+    @Test
+    public void execute_invalidMasteryCheckResults_noGradesRecorded() throws Exception {
+        Path filePath = writeCsv("matric,mc1", MATRIC_NUM_AMY + ",0.5", MATRIC_NUM_BOB + ",NaN");
+        String expectedErrors = String.join("\n",
+                String.format(ImportGradesCommand.MESSAGE_INVALID_ROW, 2,
+                        ImportGradesCommand.MESSAGE_INVALID_MC_RESULT),
+                String.format(ImportGradesCommand.MESSAGE_INVALID_ROW, 3,
+                        ImportGradesCommand.MESSAGE_INVALID_MC_RESULT));
+
+        assertCommandFailure(new ImportGradesCommand(filePath), model,
+                String.format(ImportGradesCommand.MESSAGE_INVALID_ROWS, expectedErrors));
+    }
+
+    @Test
+    public void execute_invalidHeader_throwsCommandException() throws Exception {
+        String expectedMessage = String.format(ImportGradesCommand.MESSAGE_INVALID_HEADER,
+                "mc1, mc2, ra1, ra2, midterm, pa, final, sa");
+        String[] invalidHeaders = {"matric", "name,midterm", "matric,quiz", "matric,midterm,midterm"};
+        for (String header : invalidHeaders) {
+            Path filePath = writeCsv(header, MATRIC_NUM_AMY + ",1");
+            assertCommandFailure(new ImportGradesCommand(filePath), model, expectedMessage);
+        }
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        String expectedMessage = String.format(ImportGradesCommand.MESSAGE_FILE_ERROR, filePath,
+                new NoSuchFileException(filePath.toString()));
+        assertCommandFailure(new ImportGradesCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        ImportGradesCommand importFirstCommand = new ImportGradesCommand(Path.of("first.csv"));
+        ImportGradesCommand importSecondCommand = new ImportGradesCommand(Path.of("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportGradesCommand(Path.of("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file path -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+}
@@ -48,12 +48,14 @@ public class MarkStudentCommandTest {
         CommandResult commandResult = markStudentCommand.execute(model);
         assertEquals(String.format(MarkStudentCommand.MESSAGE_MARK_STUDENT_SUCCESS, studentToMark, lessonToMark),
                 commandResult.getFeedbackToUser());
-        assertEquals(lessonToMark.isPresent(studentToMark), "Present"); // student should be marked Present
+        // student should be marked Present
+        assertEquals(model.getFilteredLessonList().get(lessonInt).isPresent(studentToMark), "Present");
 
         commandResult = markStudentCommand.execute(model);
         assertEquals(String.format(MarkStudentCommand.MESSAGE_MARK_STUDENT_SUCCESS, studentToMark, lessonToMark),
                 commandResult.getFeedbackToUser());
-        assertEquals(lessonToMark.isPresent(studentToMark), "Present"); // student should remain Present
+        // student should remain Present
+        assertEquals(model.getFilteredLessonList().get(lessonInt).isPresent(studentToMark), "Present");
     }
 
     @Test
@@ -6,7 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.List;
+import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,10 +32,7 @@ public class MarkTaskCommandTest {
 
     @BeforeEach
     public void setUp() {
-        List<Task> taskList = model.getFilteredTaskList();
-        for (Task t: taskList) {
-            t.markAsNotDone();
-        }
+        markAllTasks(false);
     }
 
     @Test
@@ -46,13 +43,10 @@ public class MarkTaskCommandTest {
         CommandResult commandResult = markTaskCommand.execute(model);
         assertEquals(String.format(MarkTaskCommand.MESSAGE_MARK_TASK_SUCCESS, taskToMark),
                 commandResult.getFeedbackToUser());
-        assertTrue(taskToMark.isDone()); // task should be marked completed
+        assertTrue(getTaskInModel(taskToMark).isDone()); // task should be marked completed
 
         // mark everything as completed, to ensure task at index 0 is marked completed
-        List<Task> taskList = model.getFilteredTaskList();
-        for (Task t: taskList) {
-            t.markAsDone();
-        }
+        markAllTasks(true);
         taskToMark = model.getFilteredTaskList().get(taskInt);
         commandResult = markTaskCommand.execute(model);
         assertEquals(String.format(MarkTaskCommand.MESSAGE_MARK_TASK_SUCCESS, taskToMark),
@@ -60,6 +54,30 @@ public class MarkTaskCommandTest {
         assertTrue(taskToMark.isDone()); // task should remain completed
     }
 
+    /**
+     * Marks every task in the model as done or not done, replacing each task as the commands do.
+     */
+    private void markAllTasks(boolean isDone) {
+        for (Task task : new ArrayList<>(model.getTaskBook().getTaskList())) {
+            Task editedTask = task.copy();
+            if (isDone) {
+                editedTask.markAsDone();
+            } else {
+                editedTask.markAsNotDone();
+            }
+            model.setTask(task, editedTask);
+        }
+    }
+
+    /**
+     * Returns the task in the model with the same description as {@code task}, as marking a task replaces it.
+     */
+    private Task getTaskInModel(Task task) {
+        return model.getTaskBook().getTaskList().stream()
+                .filter(t -> t.getDesc().equals(task.getDesc()))
+                .findFirst().get();
+    }
+
     @Test
     public void execute_withInvalidIndex_throwsCommandException() {
         int taskCount = model.getFilteredTaskList().size();
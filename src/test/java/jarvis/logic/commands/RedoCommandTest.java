@@ -0,0 +1,38 @@
+package jarvis.logic.commands;
+
+import static jarvis.logic.commands.CommandTestUtil.assertCommandFailure;
+import static jarvis.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static jarvis.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
+
+import org.junit.jupiter.api.Test;
+
+import jarvis.model.Model;
+import jarvis.model.ModelManager;
+import jarvis.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RedoCommand}.
+ */
+public class RedoCommandTest {
+
+    private Model model = new ModelManager(getTypicalStudentBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalStudentBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingToRedo_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_undoneDelete_studentDeletedAgain() throws Exception {
+        expectedModel.deleteStudent(expectedModel.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased()));
+        new DeleteStudentCommand(INDEX_FIRST_STUDENT).execute(model);
+        model.commitChanges("deletestudent 1");
+        model.undo();
+
+        assertCommandSuccess(new RedoCommand(), model,
+                String.format(RedoCommand.MESSAGE_SUCCESS, "deletestudent 1"), expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+}
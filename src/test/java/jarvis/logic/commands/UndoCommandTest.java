@@ -0,0 +1,39 @@
+package jarvis.logic.commands;
+
+import static jarvis.logic.commands.CommandTestUtil.assertCommandFailure;
+import static jarvis.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static jarvis.logic.commands.CommandTestUtil.showStudentAtIndex;
+import static jarvis.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static jarvis.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
+
+import org.junit.jupiter.api.Test;
+
+import jarvis.model.Model;
+import jarvis.model.ModelManager;
+import jarvis.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UndoCommand}.
+ */
+public class UndoCommandTest {
+
+    private Model model = new ModelManager(getTypicalStudentBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalStudentBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingToUndo_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_studentDeleted_studentRestoredAndAllShown() throws Exception {
+        showStudentAtIndex(model, INDEX_SECOND_STUDENT);
+        new DeleteStudentCommand(INDEX_FIRST_STUDENT).execute(model);
+        model.commitChanges("deletestudent 1");
+
+        assertCommandSuccess(new UndoCommand(), model,
+                String.format(UndoCommand.MESSAGE_SUCCESS, "deletestudent 1"), expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+}
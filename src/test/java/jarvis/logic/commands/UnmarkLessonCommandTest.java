@@ -6,7 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.List;
+import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,10 +32,7 @@ public class UnmarkLessonCommandTest {
 
     @BeforeEach
     public void setUp() {
-        List<Lesson> lessonList = model.getFilteredLessonList();
-        for (Lesson l: lessonList) {
-            l.markAsCompleted();
-        }
+        markAllLessons(true);
     }
 
     @Test
@@ -46,13 +43,10 @@ public class UnmarkLessonCommandTest {
         CommandResult commandResult = unmarkLessonCommand.execute(model);
         assertEquals(String.format(UnmarkLessonCommand.MESSAGE_MARK_LESSON_SUCCESS, lessonToUnmark),
                 commandResult.getFeedbackToUser());
-        assertFalse(lessonToUnmark.isCompleted()); // lesson should be marked not completed
+        assertFalse(getLessonInModel(lessonToUnmark).isCompleted()); // lesson should be marked not completed
 
         // mark everything as not completed, to ensure lesson at index 0 is marked not completed
-        List<Lesson> lessonList = model.getFilteredLessonList();
-        for (Lesson l: lessonList) {
-            l.markAsNotCompleted();
-        }
+        markAllLessons(false);
         lessonToUnmark = model.getFilteredLessonList().get(lessonInt);
         commandResult = unmarkLessonCommand.execute(model);
         assertEquals(String.format(UnmarkLessonCommand.MESSAGE_MARK_LESSON_SUCCESS, lessonToUnmark),
@@ -60,6 +54,30 @@ public class UnmarkLessonCommandTest {
         assertFalse(lessonToUnmark.isCompleted()); // lesson should remain not completed
     }
 
+    /**
+     * Marks every lesson in the model as completed or not completed, replacing each lesson as the commands do.
+     */
+    private void markAllLessons(boolean isCompleted) {
+        for (Lesson lesson : new ArrayList<>(model.getLessonBook().getLessonList())) {
+            Lesson editedLesson = lesson.copy();
+            if (isCompleted) {
+                editedLesson.markAsCompleted();
+            } else {
+                editedLesson.markAsNotCompleted();
+            }
+            model.setLesson(lesson, editedLesson);
+        }
+    }
+
+    /**
+     * Returns the lesson in the model at the same time as {@code lesson}, as marking a lesson replaces it.
+     */
+    private Lesson getLessonInModel(Lesson lesson) {
+        return model.getLessonBook().getLessonList().stream()
+                .filter(l -> l.getTimePeriod().equals(lesson.getTimePeriod()))
+                .findFirst().get();
+    }
+
     @Test
     public void execute_withInvalidIndex_throwsCommandException() {
         int lessonCount = model.getFilteredLessonList().size();
@@ -48,12 +48,14 @@ public class UnmarkStudentCommandTest {
         CommandResult commandResult = unmarkStudentCommand.execute(model);
         assertEquals(String.format(UnmarkStudentCommand.MESSAGE_MARK_STUDENT_SUCCESS, studentToUnmark, lessonToUnmark),
                 commandResult.getFeedbackToUser());
-        assertEquals(lessonToUnmark.isPresent(studentToUnmark), "Absent"); // student should be marked Absent
+        assertEquals(model.getFilteredLessonList().get(lessonInt).isPresent(studentToUnmark), "Absent");
+        // student should be marked Absent
 
         commandResult = unmarkStudentCommand.execute(model);
         assertEquals(String.format(UnmarkStudentCommand.MESSAGE_MARK_STUDENT_SUCCESS, studentToUnmark, lessonToUnmark),
                 commandResult.getFeedbackToUser());
-        assertEquals(lessonToUnmark.isPresent(studentToUnmark), "Absent"); // student should remain Absent
+        assertEquals(model.getFilteredLessonList().get(lessonInt).isPresent(studentToUnmark), "Absent");
+        // student should remain Absent
 
     }
 
@@ -6,7 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.List;
+import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,10 +32,7 @@ public class UnmarkTaskCommandTest {
 
     @BeforeEach
     public void setUp() {
-        List<Task> taskList = model.getFilteredTaskList();
-        for (Task t: taskList) {
-            t.markAsDone();
-        }
+        markAllTasks(true);
     }
 
     @Test
@@ -46,13 +43,10 @@ public class UnmarkTaskCommandTest {
         CommandResult commandResult = unmarkTaskCommand.execute(model);
         assertEquals(String.format(UnmarkTaskCommand.MESSAGE_UNMARK_TASK_SUCCESS, taskToUnmark),
                 commandResult.getFeedbackToUser());
-        assertFalse(taskToUnmark.isDone()); // task should be marked not completed
+        assertFalse(getTaskInModel(taskToUnmark).isDone()); // task should be marked not completed
 
         // mark everything as not completed, to ensure task at index 0 is marked not completed
-        List<Task> taskList = model.getFilteredTaskList();
-        for (Task t: taskList) {
-            t.markAsNotDone();
-        }
+        markAllTasks(false);
         taskToUnmark = model.getFilteredTaskList().get(taskInt);
         commandResult = unmarkTaskCommand.execute(model);
         assertEquals(String.format(UnmarkTaskCommand.MESSAGE_UNMARK_TASK_SUCCESS, taskToUnmark),
@@ -60,6 +54,30 @@ public class UnmarkTaskCommandTest {
         assertFalse(taskToUnmark.isDone()); // task should remain not completed
     }
 
+    /**
+     * Marks every task in the model as done or not done, replacing each task as the commands do.
+     */
+    private void markAllTasks(boolean isDone) {
+        for (Task task : new ArrayList<>(model.getTaskBook().getTaskList())) {
+            Task editedTask = task.copy();
+            if (isDone) {
+                editedTask.markAsDone();
+            } else {
+                editedTask.markAsNotDone();
+            }
+            model.setTask(task, editedTask);
+        }
+    }
+
+    /**
+     * Returns the task in the model with the same description as {@code task}, as marking a task replaces it.
+     */
+    private Task getTaskInModel(Task task) {
+        return model.getTaskBook().getTaskList().stream()
+                .filter(t -> t.getDesc().equals(task.getDesc()))
+                .findFirst().get();
+    }
+
     @Test
     public void execute_withInvalidIndex_throwsCommandException() {
         int taskCount = model.getFilteredTaskList().size();
@@ -136,6 +136,24 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters_eachPrefixMatched() {
+        PrefixMatcher prefixMatcher = new PrefixMatcher(new Prefix("s/"), new Prefix("si/"), new Prefix("sd/"));
+        String argsString = " 1 si/2 s/ Alice\tTan \n sd/ si/3 sis/4";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, prefixMatcher);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, new Prefix("si/"), "2", "3 sis/4");
+        assertArgumentPresent(argMultimap, new Prefix("s/"), "Alice\tTan");
+        assertArgumentPresent(argMultimap, new Prefix("sd/"), "");
+    }
+
+    @Test
+    public void tokenize_prefixAtEndOfArgsString_emptyValue() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("value p/", pSlash);
+        assertPreamblePresent(argMultimap, "value");
+        assertArgumentPresent(argMultimap, pSlash, "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,78 @@
+package jarvis.logic.parser;
+
+import static jarvis.commons.core.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static jarvis.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import jarvis.logic.commands.ClearCommand;
+import jarvis.logic.commands.ExitCommand;
+import jarvis.logic.commands.HelpCommand;
+import jarvis.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private final Parser<ExitCommand> exitParser = arguments -> new ExitCommand();
+    private final Parser<HelpCommand> helpParser = arguments -> new HelpCommand();
+    private final Parser<HelpCommand> helperParser = arguments -> new HelpCommand();
+    private final Parser<ClearCommand> clearParser = arguments -> new ClearCommand();
+    private final CommandRegistry registry = createRegistry();
+
+    private CommandRegistry createRegistry() {
+        CommandRegistry commandRegistry = new CommandRegistry();
+        commandRegistry.register("exit", () -> exitParser);
+        commandRegistry.register("help", () -> helpParser);
+        commandRegistry.register("helper", () -> helperParser);
+        commandRegistry.registerWithoutAbbreviation("clear", () -> clearParser);
+        return commandRegistry;
+    }
+
+    @Test
+    public void getParser_commandWord_returnsParser() throws Exception {
+        assertSame(exitParser, registry.getParser("exit"));
+        assertSame(clearParser, registry.getParser("clear"));
+
+        // command word that starts another command word
+        assertSame(helpParser, registry.getParser("help"));
+    }
+
+    @Test
+    public void getParser_uniqueAbbreviation_returnsParser() throws Exception {
+        assertSame(exitParser, registry.getParser("e"));
+        assertSame(helperParser, registry.getParser("helpe"));
+    }
+
+    @Test
+    public void getParser_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "he", "help, helper"), ()
+            -> registry.getParser("he"));
+    }
+
+    @Test
+    public void getParser_unknownOrUnabbreviableCommand_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("exits"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser(""));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("cl"));
+    }
+
+    @Test
+    public void getParser_calledTwice_parserCreatedOnce() throws Exception {
+        CommandRegistry commandRegistry = new CommandRegistry();
+        commandRegistry.register("exit", () -> arguments -> new ExitCommand());
+        assertSame(commandRegistry.getParser("exit"), commandRegistry.getParser("ex"));
+    }
+
+    @Test
+    public void findCommandWord() {
+        assertEquals(Optional.of("helper"), registry.findCommandWord("helpe"));
+        assertEquals(Optional.of("clear"), registry.findCommandWord("clear"));
+        assertEquals(Optional.empty(), registry.findCommandWord("he"));
+        assertEquals(Optional.empty(), registry.findCommandWord("cle"));
+        assertEquals(Optional.empty(), registry.findCommandWord("x"));
+    }
+}
@@ -4,9 +4,12 @@ import static jarvis.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static jarvis.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static jarvis.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static jarvis.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static jarvis.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+import static jarvis.testutil.TypicalIndexes.INDEX_THIRD_STUDENT;
 
 import org.junit.jupiter.api.Test;
 
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.commands.DeleteStudentCommand;
 
 /**
@@ -23,11 +26,18 @@ public class DeleteStudentCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteCommand() {
         assertParseSuccess(parser, "1", new DeleteStudentCommand(INDEX_FIRST_STUDENT));
+        assertParseSuccess(parser, "1,2-3", new DeleteStudentCommand(IndexSet.range(INDEX_FIRST_STUDENT,
+                INDEX_THIRD_STUDENT)));
+        assertParseSuccess(parser, "3, 2", new DeleteStudentCommand(IndexSet.of(INDEX_SECOND_STUDENT)
+                .union(IndexSet.of(INDEX_THIRD_STUDENT))));
+        assertParseSuccess(parser, "all", new DeleteStudentCommand(IndexSet.all()));
     }
 
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 DeleteStudentCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "3-1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                DeleteStudentCommand.MESSAGE_USAGE));
     }
 }
@@ -3,8 +3,10 @@ package jarvis.logic.parser;
 import static jarvis.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static jarvis.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static jarvis.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,4 +34,23 @@ public class FindStudentCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindStudentCommand);
     }
 
+    @Test
+    public void parsePartial_noKeywords_returnsEmptyOptional() {
+        assertEquals(Optional.empty(), FindStudentCommandParser.parsePartial("  "));
+    }
+
+    @Test
+    public void parsePartial_lastKeywordBeingTyped_lastKeywordMatchedAsPrefix() {
+        assertEquals(Optional.of(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bo*"))),
+                FindStudentCommandParser.parsePartial(" Alice Bo"));
+
+        // last keyword followed by whitespace
+        assertEquals(Optional.of(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bo"))),
+                FindStudentCommandParser.parsePartial(" Alice Bo "));
+
+        // last keyword already a prefix
+        assertEquals(Optional.of(new NameContainsKeywordsPredicate(Arrays.asList("Bo*"))),
+                FindStudentCommandParser.parsePartial("Bo*"));
+    }
+
 }
@@ -0,0 +1,28 @@
+package jarvis.logic.parser;
+
+import static jarvis.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static jarvis.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static jarvis.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import jarvis.logic.commands.ImportGradesCommand;
+
+public class ImportGradesCommandParserTest {
+
+    private ImportGradesCommandParser parser = new ImportGradesCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportGradesCommand() {
+        assertParseSuccess(parser, " data/midterm grades.csv ",
+                new ImportGradesCommand(Paths.get("data/midterm grades.csv")));
+    }
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ImportGradesCommand.MESSAGE_USAGE));
+    }
+}
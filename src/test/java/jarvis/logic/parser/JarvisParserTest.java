@@ -1,5 +1,6 @@
 package jarvis.logic.parser;
 
+import static jarvis.commons.core.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static jarvis.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static jarvis.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static jarvis.logic.parser.CliSyntax.PREFIX_LESSON_INDEX;
@@ -25,6 +26,7 @@ import static jarvis.testutil.TypicalLessons.TP3;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -49,12 +51,15 @@ import jarvis.logic.commands.EditStudentCommand.EditStudentDescriptor;
 import jarvis.logic.commands.ExitCommand;
 import jarvis.logic.commands.FindStudentCommand;
 import jarvis.logic.commands.HelpCommand;
+import jarvis.logic.commands.ImportGradesCommand;
 import jarvis.logic.commands.ListAllCommand;
 import jarvis.logic.commands.ListLessonCommand;
 import jarvis.logic.commands.ListStudentCommand;
 import jarvis.logic.commands.ListTaskCommand;
 import jarvis.logic.commands.MarkLessonCommand;
 import jarvis.logic.commands.MarkTaskCommand;
+import jarvis.logic.commands.RedoCommand;
+import jarvis.logic.commands.UndoCommand;
 import jarvis.logic.commands.UnmarkLessonCommand;
 import jarvis.logic.commands.UnmarkTaskCommand;
 import jarvis.logic.parser.exceptions.ParseException;
@@ -192,6 +197,13 @@ public class JarvisParserTest {
         assertEquals(new FindStudentCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_importGrades() throws Exception {
+        ImportGradesCommand command = (ImportGradesCommand) parser.parseCommand(
+                ImportGradesCommand.COMMAND_WORD + " data/midterm.csv");
+        assertEquals(new ImportGradesCommand(Paths.get("data/midterm.csv")), command);
+    }
+
     @Test
     public void parseCommand_listStudent() throws Exception {
         assertTrue(parser.parseCommand(ListStudentCommand.COMMAND_WORD) instanceof ListStudentCommand);
@@ -244,6 +256,12 @@ public class JarvisParserTest {
         assertEquals(new UnmarkLessonCommand(INDEX_FIRST_LESSON), command);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -266,4 +284,23 @@ public class JarvisParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_abbreviatedCommandWord() throws Exception {
+        assertTrue(parser.parseCommand("und") instanceof UndoCommand);
+        assertTrue(parser.parseCommand("liststu") instanceof ListStudentCommand);
+        assertEquals(new DeleteStudentCommand(INDEX_FIRST_STUDENT),
+                parser.parseCommand("deletes " + INDEX_FIRST_STUDENT.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "list",
+                "listall, listlesson, liststudent, listtask"), () -> parser.parseCommand("list"));
+    }
+
+    @Test
+    public void parseCommand_abbreviatedClear_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("clea"));
+    }
 }
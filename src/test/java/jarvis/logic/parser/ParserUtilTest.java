@@ -1,6 +1,7 @@
 package jarvis.logic.parser;
 
 import static jarvis.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static jarvis.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static jarvis.testutil.Assert.assertThrows;
 import static jarvis.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -15,7 +16,9 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import jarvis.commons.core.index.Index;
+import jarvis.commons.core.index.IndexSet;
 import jarvis.logic.parser.exceptions.ParseException;
+import jarvis.model.Assessment;
 import jarvis.model.LessonDesc;
 import jarvis.model.StudentName;
 
@@ -66,6 +69,31 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_STUDENT, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexes_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1,a"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1,,3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("0-3"));
+    }
+
+    @Test
+    public void parseIndexes_reversedRange_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexes("5-3"));
+    }
+
+    @Test
+    public void parseIndexes_validInput_success() throws Exception {
+        // single index
+        assertEquals(IndexSet.of(INDEX_FIRST_STUDENT), ParserUtil.parseIndexes("1"));
+
+        // indexes and ranges, with whitespaces
+        assertEquals("1,3,5-12", ParserUtil.parseIndexes(" 1, 3 ,5 - 8,7-12").toString());
+
+        // every index, in any case
+        assertEquals(IndexSet.all(), ParserUtil.parseIndexes(" ALL "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -158,6 +186,13 @@ public class ParserUtilTest {
         assertEquals(expectedTime, ParserUtil.parseTime(dateWithWhiteSpace));
     }
 
+    @Test
+    public void parseMarks_invalidMarks_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseMarks("NaN", Assessment.MIDTERM));
+        assertThrows(ParseException.class, () -> ParserUtil.parseMarks("-1", Assessment.MIDTERM));
+        assertThrows(ParseException.class, () -> ParserUtil.parseMarks("Infinity", Assessment.MIDTERM));
+    }
+
     @Test
     public void parseStudentIndexes_null_throwNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseStudentIndexes(null));
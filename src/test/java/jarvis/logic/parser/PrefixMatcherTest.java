@@ -0,0 +1,38 @@
+package jarvis.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixMatcherTest {
+
+    private final Prefix pSlash = new Prefix("p/");
+    private final Prefix paSlash = new Prefix("pa/");
+    private final Prefix pSlashX = new Prefix("p/x");
+    private final PrefixMatcher prefixMatcher = new PrefixMatcher(pSlash, paSlash, pSlashX, new Prefix(""));
+
+    @Test
+    public void matchAt_prefixAtPosition_returnsOrdinal() {
+        assertEquals(0, prefixMatcher.matchAt("a p/1", 2));
+        assertEquals(1, prefixMatcher.matchAt("pa/", 0));
+    }
+
+    @Test
+    public void matchAt_prefixesStartingTheSame_returnsLongestPrefix() {
+        assertEquals(2, prefixMatcher.matchAt("p/x1", 0));
+    }
+
+    @Test
+    public void matchAt_noPrefixAtPosition_returnsNoMatch() {
+        assertEquals(PrefixMatcher.NO_MATCH, prefixMatcher.matchAt("a p/1", 1));
+        assertEquals(PrefixMatcher.NO_MATCH, prefixMatcher.matchAt("pa", 0));
+        assertEquals(PrefixMatcher.NO_MATCH, prefixMatcher.matchAt("", 0));
+    }
+
+    @Test
+    public void getOrdinal() {
+        assertEquals(1, prefixMatcher.getOrdinal(new Prefix("pa/")));
+        assertEquals(PrefixMatcher.NO_MATCH, prefixMatcher.getOrdinal(new Prefix("q/")));
+        assertEquals(4, prefixMatcher.getPrefixCount());
+    }
+}
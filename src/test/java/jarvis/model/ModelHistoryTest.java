@@ -0,0 +1,157 @@
+package jarvis.model;
+
+import static jarvis.testutil.TypicalLessons.CONSULT_2;
+import static jarvis.testutil.TypicalLessons.MC_1;
+import static jarvis.testutil.TypicalLessons.TP1;
+import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.BENSON;
+import static jarvis.testutil.TypicalStudents.HOON;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
+import static jarvis.testutil.TypicalTasks.MISSION1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jarvis.testutil.StudentBuilder;
+
+public class ModelHistoryTest {
+
+    private static final int MAX_UNDO_COUNT = 3;
+
+    private final StudentBook studentBook = getTypicalStudentBook();
+    private final TaskBook taskBook = new TaskBook();
+    private final LessonBook lessonBook = new LessonBook();
+    private final ModelHistory history = new ModelHistory(studentBook, taskBook, lessonBook, MAX_UNDO_COUNT);
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        history.commit("list");
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_studentAdded_studentRemovedAndRedoAddsItBack() {
+        StudentBook original = new StudentBook(studentBook);
+        studentBook.addStudent(HOON);
+        history.commit("addstudent");
+
+        assertEquals("addstudent", history.undo());
+        assertEquals(original, studentBook);
+        assertTrue(history.canRedo());
+
+        assertEquals("addstudent", history.redo());
+        assertTrue(studentBook.hasStudent(HOON));
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_studentReplacedInLessons_originalStudentAndLessonsRestored() {
+        Consult consult = new Consult(new LessonDesc("Recursion"), TP1, List.of(ALICE, BENSON));
+        lessonBook.addLesson(consult);
+        history.commit("addconsult");
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        studentBook.setStudent(ALICE, editedAlice);
+        lessonBook.setStudent(ALICE, editedAlice);
+        history.commit("editstudent");
+
+        history.undo();
+        assertSame(ALICE, studentBook.getStudent(ALICE.getMatricNum()).get());
+        assertSame(consult, lessonBook.getLessonList().get(0));
+
+        history.redo();
+        assertSame(editedAlice, studentBook.getStudent(ALICE.getMatricNum()).get());
+        assertSame(editedAlice, lessonBook.getLessonList().get(0).getStudentList().get(0));
+    }
+
+    @Test
+    public void undo_taskReplacedByItself_nothingToUndo() {
+        taskBook.addTask(MISSION1);
+        history.commit("addtask");
+        taskBook.setTask(MISSION1, MISSION1);
+        history.commit("marktask");
+
+        history.undo();
+        assertTrue(taskBook.getTaskList().isEmpty());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undo_allStudentsCleared_allStudentsRestored() {
+        StudentBook original = new StudentBook(studentBook);
+        studentBook.resetData(new StudentBook());
+        history.commit("clear");
+
+        history.undo();
+        assertEquals(original, studentBook);
+        assertEquals(original.getStudentList(), studentBook.getStudentList());
+    }
+
+    @Test
+    public void undo_clashingLessonsFromDataFile_lessonsRestoredWithoutClashCheck() {
+        lessonBook.setLessons(List.of(CONSULT_2, MC_1));
+        history.commit("load");
+        lessonBook.removeLesson(CONSULT_2);
+        history.commit("deletelesson");
+
+        history.undo();
+        assertEquals(2, lessonBook.getLessonList().size());
+        assertTrue(lessonBook.getLessonList().contains(CONSULT_2));
+    }
+
+    @Test
+    public void rollback_uncommittedChanges_changesDiscarded() {
+        StudentBook original = new StudentBook(studentBook);
+        studentBook.removeStudent(ALICE);
+        studentBook.addStudent(HOON);
+
+        history.rollback();
+        assertEquals(original, studentBook);
+        history.commit("deletestudent 1");
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undo_changesReportedAfterBatch_undoNotRecorded() {
+        studentBook.removeStudent(ALICE);
+        history.commit("deletestudent 1");
+
+        studentBook.beginBatch();
+        history.undo();
+        studentBook.endBatch();
+        assertTrue(studentBook.hasStudent(ALICE));
+        history.commit("undo");
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_nothingToRedo() {
+        studentBook.removeStudent(ALICE);
+        history.commit("deletestudent 1");
+        history.undo();
+
+        studentBook.removeStudent(BENSON);
+        history.commit("deletestudent 2");
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_moreStepsThanMaxUndoCount_oldestStepsForgotten() {
+        for (int i = 0; i <= MAX_UNDO_COUNT; i++) {
+            studentBook.removeStudent(studentBook.getStudentList().get(0));
+            history.commit("deletestudent 1");
+        }
+
+        for (int i = 0; i < MAX_UNDO_COUNT; i++) {
+            history.undo();
+        }
+        assertFalse(history.canUndo());
+        assertFalse(studentBook.hasStudent(ALICE));
+        assertTrue(studentBook.hasStudent(BENSON));
+    }
+}
@@ -2,6 +2,7 @@ package jarvis.model;
 
 import static jarvis.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static jarvis.testutil.Assert.assertThrows;
+import static jarvis.testutil.TypicalLessons.TP3;
 import static jarvis.testutil.TypicalStudents.ALICE;
 import static jarvis.testutil.TypicalStudents.BENSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -10,12 +11,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import jarvis.commons.core.GuiSettings;
+import jarvis.testutil.LessonBuilder;
 import jarvis.testutil.StudentBookBuilder;
+import jarvis.testutil.StudentBuilder;
+import javafx.collections.ListChangeListener;
 
 public class ModelManagerTest {
 
@@ -92,6 +98,124 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
     }
 
+    @Test
+    public void findStudents_studentBookChanged_matchingStudentsFoundAgain() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.findStudents(new NameContainsKeywordsPredicate(List.of("meier")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredStudentList());
+
+        Student renamedAlice = new StudentBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setStudentBook(new StudentBookBuilder().withPerson(renamedAlice).withPerson(BENSON).build());
+        assertEquals(List.of(renamedAlice, BENSON), modelManager.getFilteredStudentList());
+
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        modelManager.deleteStudent(BENSON);
+        assertEquals(List.of(renamedAlice), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void deleteStudent_studentInLessons_removedFromLessons() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        Lesson sharedLesson = new LessonBuilder().withStudents(List.of(ALICE, BENSON)).buildStudio();
+        Lesson aliceOnlyLesson = new LessonBuilder().withStudents(List.of(ALICE)).withTimePeriod(TP3).buildConsult();
+        modelManager.addLesson(sharedLesson);
+        modelManager.addLesson(aliceOnlyLesson);
+
+        assertEquals(List.of(aliceOnlyLesson), modelManager.deleteStudent(ALICE));
+        List<Lesson> lessons = modelManager.getLessonBook().getLessonList();
+        assertEquals(1, lessons.size());
+        assertEquals(List.of(BENSON), lessons.get(0).getStudentList());
+        assertTrue(sharedLesson.hasStudent(ALICE)); // earlier versions of the lesson are left unchanged
+    }
+
+    @Test
+    public void commitChanges_severalChangesInTransaction_reportedOnce() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.commitChanges("addstudent");
+        List<Integer> changeCount = new ArrayList<>();
+        modelManager.getStudentBook().getStudentList()
+                .addListener((ListChangeListener<Student>) change -> changeCount.add(1));
+
+        modelManager.beginChanges();
+        modelManager.deleteStudent(ALICE);
+        modelManager.deleteStudent(BENSON);
+        assertEquals(0, changeCount.size());
+        modelManager.commitChanges("deletestudent");
+        assertEquals(1, changeCount.size());
+        assertTrue(modelManager.getFilteredStudentList().isEmpty());
+
+        modelManager.undo();
+        assertTrue(modelManager.hasStudent(ALICE));
+        assertTrue(modelManager.hasStudent(BENSON));
+    }
+
+    @Test
+    public void rollbackChanges_changesInTransaction_changesDiscarded() {
+        modelManager.addStudent(ALICE);
+        modelManager.commitChanges("addstudent");
+
+        modelManager.beginChanges();
+        modelManager.deleteStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.rollbackChanges();
+        assertEquals(List.of(ALICE), modelManager.getFilteredStudentList());
+
+        // the discarded changes are not part of the history
+        modelManager.commitChanges("list");
+        modelManager.undo();
+        assertFalse(modelManager.canUndo());
+        assertFalse(modelManager.hasStudent(ALICE));
+    }
+
+    @Test
+    public void rollbackChanges_failedCommand_noChangeReported() {
+        modelManager.addStudent(ALICE);
+        modelManager.commitChanges("addstudent");
+        List<Integer> changeCount = new ArrayList<>();
+        modelManager.getStudentBook().getStudentList()
+                .addListener((ListChangeListener<Student>) change -> changeCount.add(1));
+
+        modelManager.beginChanges();
+        modelManager.addStudent(BENSON);
+        modelManager.addStudent(new StudentBuilder().withName("Carl Kurz").withMatricNum("A0234567H").build());
+        modelManager.rollbackChanges();
+
+        assertEquals(0, changeCount.size());
+        assertEquals(List.of(ALICE), modelManager.getFilteredStudentList());
+        modelManager.commitChanges("list");
+        modelManager.undo();
+        assertFalse(modelManager.hasStudent(ALICE));
+    }
+
+    @Test
+    public void commitChanges_filterUpdatedInTransaction_filteredOnCommit() {
+        modelManager.addStudent(ALICE);
+        modelManager.commitChanges("addstudent");
+
+        modelManager.beginChanges();
+        modelManager.addStudent(BENSON);
+        // the students found include those added in the transaction, though they are only shown once it ends
+        assertEquals(1, modelManager.findStudents(new NameContainsKeywordsPredicate(List.of("benson"))));
+
+        modelManager.commitChanges("findstudent");
+        assertEquals(List.of(BENSON), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void unmarkClashingLessons_markedLessons_unmarksOnlyMarkedLessons() {
+        Lesson clashing = new LessonBuilder().buildConsult();
+        Lesson other = new LessonBuilder().buildStudio();
+        modelManager.markClashingLessons(List.of(clashing));
+        assertTrue(clashing.hasTimingConflict());
+        assertFalse(other.hasTimingConflict());
+
+        modelManager.unmarkClashingLessons();
+        assertFalse(clashing.hasTimingConflict());
+    }
+
     @Test
     public void equals() {
         StudentBook studentBook = new StudentBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
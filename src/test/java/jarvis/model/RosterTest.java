@@ -0,0 +1,79 @@
+package jarvis.model;
+
+import static jarvis.testutil.Assert.assertThrows;
+import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.BENSON;
+import static jarvis.testutil.TypicalStudents.CARL;
+import static jarvis.testutil.TypicalStudents.HOON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jarvis.model.exceptions.StudentNotFoundException;
+import jarvis.testutil.StudentBuilder;
+
+public class RosterTest {
+
+    private final Roster roster = new Roster(List.of(CARL, ALICE, BENSON));
+
+    @Test
+    public void indexOf() {
+        assertEquals(1, roster.indexOf(ALICE));
+        assertEquals(Roster.NOT_IN_ROSTER, roster.indexOf(HOON));
+        assertThrows(NullPointerException.class, () -> roster.indexOf(null));
+
+        // students are found by matriculation number
+        Student renamedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        assertEquals(1, roster.indexOf(renamedAlice));
+    }
+
+    @Test
+    public void positionOf_studentNotInRoster_throwsStudentNotFoundException() {
+        assertThrows(StudentNotFoundException.class, () -> roster.positionOf(HOON));
+    }
+
+    @Test
+    public void asList_modify_throwsUnsupportedOperationException() {
+        assertEquals(List.of(CARL, ALICE, BENSON), roster.asList());
+        assertThrows(UnsupportedOperationException.class, () -> roster.asList().remove(0));
+    }
+
+    @Test
+    public void withStudent_samePositionAndRosterUnchanged() {
+        Student renamedAlice = new StudentBuilder(ALICE).withName("Zara Pauline").build();
+        Roster editedRoster = roster.withStudent(ALICE, renamedAlice);
+
+        assertSame(renamedAlice, editedRoster.get(1));
+        assertSame(ALICE, roster.get(1));
+    }
+
+    @Test
+    public void without_otherStudentsInSameOrder() {
+        assertEquals(List.of(CARL, BENSON), roster.without(ALICE).asList());
+        assertEquals(List.of(CARL, ALICE, BENSON), roster.asList());
+        assertThrows(StudentNotFoundException.class, () -> roster.without(HOON));
+    }
+
+    @Test
+    public void sorted() {
+        assertEquals(List.of(ALICE, BENSON, CARL), roster.sorted().asList());
+
+        Roster sortedRoster = roster.sorted();
+        assertSame(sortedRoster, sortedRoster.sorted());
+    }
+
+    @Test
+    public void hasSameOrder() {
+        assertTrue(roster.hasSameOrder(new Roster(List.of(CARL, ALICE, BENSON))));
+        assertFalse(roster.hasSameOrder(roster.sorted()));
+
+        // the same students must be in each position, not just students with the same matriculation numbers
+        Student renamedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        assertFalse(roster.hasSameOrder(roster.withStudent(ALICE, renamedAlice)));
+    }
+}
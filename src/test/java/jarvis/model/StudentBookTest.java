@@ -73,6 +73,18 @@ public class StudentBookTest {
         assertTrue(studentBook.hasStudent(editedAlice));
     }
 
+    @Test
+    public void getModificationCount_studentBookModified_countIncreases() {
+        long initialCount = studentBook.getModificationCount();
+        studentBook.addStudent(ALICE);
+        assertTrue(studentBook.getModificationCount() > initialCount);
+
+        long countAfterAdd = studentBook.getModificationCount();
+        studentBook.getStudentList();
+        studentBook.hasStudent(ALICE);
+        assertEquals(countAfterAdd, studentBook.getModificationCount());
+    }
+
     @Test
     public void getStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> studentBook.getStudentList().remove(0));
@@ -92,6 +104,11 @@ public class StudentBookTest {
         public ObservableList<Student> getStudentList() {
             return students;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
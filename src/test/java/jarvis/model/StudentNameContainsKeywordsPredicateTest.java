@@ -55,6 +55,10 @@ public class StudentNameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+
+        // Prefix keyword
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol", "AL*"));
+        assertTrue(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
     }
 
     @Test
@@ -66,5 +70,9 @@ public class StudentNameContainsKeywordsPredicateTest {
         // Non-matching keyword
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
         assertFalse(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+
+        // Keyword only matches the start of a word when it ends with the wildcard
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Ali", "ob*"));
+        assertFalse(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
     }
 }
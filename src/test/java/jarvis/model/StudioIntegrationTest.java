@@ -23,7 +23,9 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import jarvis.model.exceptions.InvalidParticipationException;
+import jarvis.model.exceptions.NoStudentsInLessonException;
 import jarvis.model.exceptions.StudentNotFoundException;
+import jarvis.testutil.StudentBuilder;
 
 class StudioIntegrationTest {
     private final Studio studio = new Studio(STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4), STUDIO_STUDENTS);
@@ -182,6 +184,44 @@ class StudioIntegrationTest {
         assertTrue(studio.equals(differentNotes));
     }
 
+    @Test
+    void setStudent_studentRenamed_detailsFollowStudentToSortedPosition() {
+        studio.markAsPresent(ALICE);
+        studio.setParticipationForStudent(ALICE, 300);
+        studio.addStudentNote("Asked about streams", ALICE);
+        Student renamedAlice = new StudentBuilder(ALICE).withName("Zara Pauline").build();
+
+        studio.setStudent(ALICE, renamedAlice);
+        int lastIndex = STUDIO_STUDENTS.size() - 1;
+        assertEquals(renamedAlice, studio.getStudentList().get(lastIndex));
+        assertTrue(studio.getAttendance().get(lastIndex));
+        assertFalse(studio.getAttendance().get(0));
+        assertEquals(Integer.valueOf(300), studio.getParticipation().get(lastIndex));
+        assertEquals(List.of("Asked about streams"), studio.getStudentNotes().get(lastIndex));
+        assertEquals(300, studio.getParticipationForStudent(renamedAlice));
+    }
+
+    @Test
+    void removeStudent_detailsOfOtherStudentsKept() {
+        Student benson = STUDIO_STUDENTS.get(1);
+        studio.markAsPresent(benson);
+        studio.setParticipationForStudent(benson, 300);
+        studio.addStudentNote("Asked about streams", benson);
+
+        studio.removeStudent(ALICE);
+        assertFalse(studio.hasStudent(ALICE));
+        assertEquals(STUDIO_STUDENTS.size() - 1, studio.getStudentList().size());
+        assertEquals("Present", studio.isPresent(benson));
+        assertEquals(300, studio.getParticipationForStudent(benson));
+        assertEquals(List.of("Asked about streams"), studio.getLessonNotes().getStudentNotes(benson));
+    }
+
+    @Test
+    void removeStudent_onlyStudent_throwsNoStudentsInLessonException() {
+        Studio singleStudentStudio = new Studio(STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4), List.of(ALICE));
+        assertThrows(NoStudentsInLessonException.class, () -> singleStudentStudio.removeStudent(ALICE));
+    }
+
     @Test
     void getLessonType() {
         assertEquals(LessonType.STUDIO, STUDIO_1.getLessonType());
@@ -1,9 +1,15 @@
 package jarvis.model;
 
 import static jarvis.testutil.Assert.assertThrows;
+import static jarvis.testutil.TypicalLessons.CONSULT_1;
+import static jarvis.testutil.TypicalLessons.CONSULT_2;
 import static jarvis.testutil.TypicalLessons.MC_1;
 import static jarvis.testutil.TypicalLessons.STUDIO_1;
 import static jarvis.testutil.TypicalLessons.TP2;
+import static jarvis.testutil.TypicalLessons.TP4;
+import static jarvis.testutil.TypicalLessons.TP5;
+import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.HOON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -46,6 +52,28 @@ public class UniqueLessonListTest {
         assertTrue(uniqueLessonList.contains(editedLesson));
     }
 
+    @Test
+    public void contains_lessonWithSameKeyButDifferentDetails_returnsFalse() {
+        uniqueLessonList.add(STUDIO_1);
+        Studio markedStudio = STUDIO_1.copy();
+        markedStudio.markAsPresent(ALICE);
+        assertEquals(STUDIO_1.getIdentityKey(), markedStudio.getIdentityKey());
+        assertFalse(uniqueLessonList.contains(markedStudio));
+    }
+
+    @Test
+    public void contains_lessonModifiedAfterHashing_comparedWithCurrentDetails() {
+        Studio studio = STUDIO_1.copy();
+        uniqueLessonList.add(studio);
+        Studio markedStudio = STUDIO_1.copy();
+        markedStudio.markAsPresent(ALICE);
+        assertFalse(uniqueLessonList.contains(markedStudio));
+
+        studio.markAsPresent(ALICE);
+        assertTrue(uniqueLessonList.contains(markedStudio));
+        assertFalse(uniqueLessonList.contains(STUDIO_1));
+    }
+
     @Test
     public void hasPeriodClash() {
         // empty list
@@ -57,6 +85,30 @@ public class UniqueLessonListTest {
         assertTrue(uniqueLessonList.hasPeriodClash(lessonWithPeriodClash));
     }
 
+    @Test
+    public void getClashingLessons_returnsOnlyOverlappingLessons() {
+        assertEquals(Collections.emptyList(), uniqueLessonList.getClashingLessons(STUDIO_1));
+
+        uniqueLessonList.add(CONSULT_2);
+        uniqueLessonList.add(CONSULT_1);
+        Lesson lessonClashingWithLaterConsult = new LessonBuilder(MC_1).withTimePeriod(TP4).buildMasteryCheck();
+        assertEquals(List.of(CONSULT_1), uniqueLessonList.getClashingLessons(lessonClashingWithLaterConsult));
+
+        Lesson lessonClashingWithEarlierConsult = new LessonBuilder(MC_1).withTimePeriod(TP5).buildMasteryCheck();
+        assertEquals(List.of(CONSULT_2), uniqueLessonList.getClashingLessons(lessonClashingWithEarlierConsult));
+    }
+
+    @Test
+    public void getClashingLessons_afterRemove_lessonNoLongerClashes() {
+        uniqueLessonList.add(CONSULT_1);
+        Lesson lessonWithPeriodClash = new LessonBuilder(MC_1).withTimePeriod(TP4).buildMasteryCheck();
+        assertTrue(uniqueLessonList.hasPeriodClash(lessonWithPeriodClash));
+
+        uniqueLessonList.remove(CONSULT_1);
+        assertFalse(uniqueLessonList.hasPeriodClash(lessonWithPeriodClash));
+        assertEquals(Collections.emptyList(), uniqueLessonList.getClashingLessons(lessonWithPeriodClash));
+    }
+
     @Test
     public void add_nullLesson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueLessonList.add(null));
@@ -150,6 +202,33 @@ public class UniqueLessonListTest {
         assertEquals(expectedUniqueLessonList, uniqueLessonList);
     }
 
+    @Test
+    public void remove_existingLesson_noLongerContained() {
+        uniqueLessonList.add(STUDIO_1);
+        uniqueLessonList.remove(new LessonBuilder(STUDIO_1).buildStudio());
+        assertFalse(uniqueLessonList.contains(STUDIO_1));
+        uniqueLessonList.add(STUDIO_1);
+        assertTrue(uniqueLessonList.contains(STUDIO_1));
+    }
+
+    @Test
+    public void getLessonsWithStudent_lessonsChanged_indexUpdated() {
+        uniqueLessonList.add(STUDIO_1);
+        uniqueLessonList.add(CONSULT_1);
+        assertEquals(2, uniqueLessonList.getLessonsWithStudent(ALICE.getMatricNum()).size());
+        assertEquals(List.of(), uniqueLessonList.getLessonsWithStudent(HOON.getMatricNum()));
+
+        Consult editedConsult = CONSULT_1.copy();
+        editedConsult.setStudent(ALICE, HOON);
+        uniqueLessonList.setLesson(CONSULT_1, editedConsult);
+        assertEquals(List.of(STUDIO_1), uniqueLessonList.getLessonsWithStudent(ALICE.getMatricNum()));
+        assertEquals(List.of(editedConsult), uniqueLessonList.getLessonsWithStudent(HOON.getMatricNum()));
+
+        uniqueLessonList.remove(STUDIO_1);
+        assertEquals(List.of(), uniqueLessonList.getLessonsWithStudent(ALICE.getMatricNum()));
+        assertEquals(List.of(editedConsult), uniqueLessonList.getLessonsWithStudent(HOON.getMatricNum()));
+    }
+
     @Test
     public void setLessons_nullUniqueLessonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueLessonList.setLessons((UniqueLessonList) null));
@@ -2,20 +2,28 @@ package jarvis.model;
 
 import static jarvis.testutil.Assert.assertThrows;
 import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.BENSON;
 import static jarvis.testutil.TypicalStudents.BOB;
+import static jarvis.testutil.TypicalStudents.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import jarvis.model.exceptions.DuplicateStudentException;
 import jarvis.model.exceptions.StudentNotFoundException;
 import jarvis.testutil.StudentBuilder;
+import javafx.collections.ListChangeListener;
 
 public class UniqueStudentListTest {
 
@@ -44,6 +52,22 @@ public class UniqueStudentListTest {
         assertTrue(uniqueStudentList.contains(editedAlice));
     }
 
+    @Test
+    public void get_studentInList_returnsStudent() {
+        uniqueStudentList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniqueStudentList.get(ALICE.getMatricNum()));
+        assertEquals(Optional.empty(), uniqueStudentList.get(BOB.getMatricNum()));
+    }
+
+    @Test
+    public void get_afterSetStudentWithDifferentIdentity_onlyEditedStudentFound() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertEquals(Optional.empty(), uniqueStudentList.get(ALICE.getMatricNum()));
+        assertEquals(Optional.of(BOB), uniqueStudentList.get(BOB.getMatricNum()));
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
     @Test
     public void add_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.add(null));
@@ -158,6 +182,82 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setStudents_map_replacesEditedStudents() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        Map<Student, Student> editedStudents = new HashMap<>();
+        editedStudents.put(ALICE, BOB);
+        editedStudents.put(BENSON, BENSON);
+        uniqueStudentList.setStudents(editedStudents);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(BENSON);
+        expectedUniqueStudentList.add(BOB);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertEquals(Optional.of(BOB), uniqueStudentList.get(BOB.getMatricNum()));
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void setStudents_mapWithOneStudent_onlyThatStudentReplaced() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BENSON, CARL));
+        Student editedBenson = new StudentBuilder(BENSON).build();
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        uniqueStudentList.asUnmodifiableObservableList().addListener(changes::add);
+        uniqueStudentList.setStudents(Map.of(BENSON, editedBenson));
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Student> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertTrue(change.wasReplaced());
+        assertEquals(1, change.getFrom());
+        assertEquals(List.of(BENSON), change.getRemoved());
+        assertEquals(List.of(editedBenson), change.getAddedSubList());
+        assertFalse(change.next()); // the other students are left in place
+    }
+
+    @Test
+    public void setStudents_mapWithDuplicateIdentity_throwsDuplicateStudentExceptionAndLeavesListUnchanged() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.setStudents(uniqueStudentList);
+        Map<Student, Student> editedStudents = Map.of(ALICE, new StudentBuilder(BOB).build());
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(editedStudents));
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertTrue(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void setStudents_mapWithStudentNotInList_throwsStudentNotFoundException() {
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.setStudents(Map.of(ALICE, ALICE)));
+    }
+
+    @Test
+    public void findByName_wordsAndPrefixes_unionOfMatchingStudents() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BENSON, BOB));
+        assertEquals(Set.of(ALICE, BENSON), uniqueStudentList.findByName(List.of("pauline", "meier"), List.of()));
+        assertEquals(Set.of(BENSON, BOB), uniqueStudentList.findByName(List.of("benson"), List.of("ch")));
+        assertEquals(Set.of(), uniqueStudentList.findByName(List.of("paul"), List.of("z")));
+    }
+
+    @Test
+    public void findByName_studentsEditedAndRemoved_indexUpdated() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        Student renamedAlice = new StudentBuilder(ALICE).withName("Alice Meier").build();
+        uniqueStudentList.setStudent(ALICE, renamedAlice);
+        assertEquals(Set.of(renamedAlice, BENSON), uniqueStudentList.findByName(List.of("meier"), List.of()));
+        assertEquals(Set.of(), uniqueStudentList.findByName(List.of("pauline"), List.of()));
+
+        uniqueStudentList.remove(BENSON);
+        assertEquals(Set.of(renamedAlice), uniqueStudentList.findByName(List.of(), List.of("me")));
+
+        uniqueStudentList.restore(List.of(renamedAlice), List.of(ALICE, BENSON));
+        assertEquals(Set.of(ALICE), uniqueStudentList.findByName(List.of("pauline"), List.of()));
+        assertEquals(Set.of(BENSON), uniqueStudentList.findByName(List.of("meier"), List.of()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,120 @@
+package jarvis.model.util;
+
+import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import jarvis.model.Lesson;
+import jarvis.model.LessonBook;
+import jarvis.model.LessonType;
+import jarvis.model.Student;
+import jarvis.model.StudentBook;
+import jarvis.model.Task;
+
+public class SampleDataGeneratorTest {
+
+    private final SampleDataGenerator generator = new SampleDataGenerator(42)
+            .withStudents(100)
+            .withTasks(50)
+            .withLessons(40, 10, 5)
+            .withStudentsPerStudio(8, 12);
+
+    @Test
+    public void withStudentsPerStudio_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> generator.withStudentsPerStudio(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> generator.withStudentsPerStudio(12, 8));
+    }
+
+    @Test
+    public void generate_sameSeed_sameData() {
+        SampleDataGenerator sameGenerator = new SampleDataGenerator(42)
+                .withStudents(100)
+                .withTasks(50)
+                .withLessons(40, 10, 5)
+                .withStudentsPerStudio(8, 12);
+
+        StudentBook studentBook = generator.generateStudentBook();
+        StudentBook sameStudentBook = sameGenerator.generateStudentBook();
+        assertEquals(describeStudents(studentBook.getStudentList()),
+                describeStudents(sameStudentBook.getStudentList()));
+        assertEquals(describeTasks(generator.generateTaskBook().getTaskList()),
+                describeTasks(sameGenerator.generateTaskBook().getTaskList()));
+        assertEquals(describeLessons(generator.generateLessonBook(studentBook).getLessonList()),
+                describeLessons(sameGenerator.generateLessonBook(sameStudentBook).getLessonList()));
+    }
+
+    @Test
+    public void generate_differentSeed_differentData() {
+        SampleDataGenerator otherGenerator = new SampleDataGenerator(43).withStudents(100);
+        assertFalse(describeStudents(generator.generateStudentBook().getStudentList())
+                .equals(describeStudents(otherGenerator.generateStudentBook().getStudentList())));
+    }
+
+    @Test
+    public void generateStudentBook_moreThanMaxStudents_allStudentsGenerated() {
+        assertEquals(2000, new SampleDataGenerator(0).withStudents(2000).generateStudentBook().getNumStudents());
+    }
+
+    @Test
+    public void generateLessonBook_studiosOfStudioGroups_noClashes() {
+        StudentBook studentBook = generator.generateStudentBook();
+        LessonBook lessonBook = generator.generateLessonBook(studentBook);
+
+        List<Lesson> lessons = new ArrayList<>(lessonBook.getLessonList());
+        assertEquals(40, count(lessons, LessonType.STUDIO));
+        assertEquals(10, count(lessons, LessonType.CONSULT));
+        assertEquals(5, count(lessons, LessonType.MASTERY_CHECK));
+
+        // every student is in a studio group, and studio groups are no larger than the maximum size
+        Set<Student> studioStudents = new HashSet<>();
+        for (Lesson lesson : lessons) {
+            assertTrue(studentBook.getStudentList().containsAll(lesson.getStudentList()));
+            if (lesson.getLessonType() == LessonType.STUDIO) {
+                assertTrue(lesson.getStudentList().size() <= 12);
+                studioStudents.addAll(lesson.getStudentList());
+            }
+        }
+        assertEquals(new HashSet<>(studentBook.getStudentList()), studioStudents);
+
+        lessons.sort(Comparator.comparing(Lesson::startDateTime));
+        for (int i = 1; i < lessons.size(); i++) {
+            assertFalse(lessons.get(i - 1).hasTimingConflict(lessons.get(i)));
+        }
+    }
+
+    private static long count(List<Lesson> lessons, LessonType lessonType) {
+        return lessons.stream().filter(lesson -> lesson.getLessonType() == lessonType).count();
+    }
+
+    private static List<String> describeStudents(List<Student> students) {
+        return students.stream()
+                .map(student -> student.getMatricNum() + " " + student + " "
+                        + student.getGradeProfile().getGradeMap().values().stream()
+                        .map(gradeComponent -> gradeComponent.getGradeString())
+                        .collect(Collectors.joining(",")))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> describeTasks(List<Task> tasks) {
+        return tasks.stream()
+                .map(task -> task.getDesc() + " " + task.getDeadlineString() + " " + task.isDone())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> describeLessons(List<Lesson> lessons) {
+        return lessons.stream()
+                .map(lesson -> lesson.getDesc() + " " + lesson.getTimePeriod() + " " + lesson.getStudentList()
+                        + " " + lesson.getAttendance() + " " + lesson.getLessonNotes().getAllNotes())
+                .collect(Collectors.toList());
+    }
+}
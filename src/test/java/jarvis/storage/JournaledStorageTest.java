@@ -0,0 +1,232 @@
+package jarvis.storage;
+
+import static jarvis.testutil.TypicalLessons.TP1;
+import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.BENSON;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
+import static jarvis.testutil.TypicalTasks.getTypicalTasks;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.model.Consult;
+import jarvis.model.Lesson;
+import jarvis.model.LessonBook;
+import jarvis.model.LessonDesc;
+import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.Student;
+import jarvis.model.StudentBook;
+import jarvis.model.Task;
+import jarvis.model.TaskBook;
+import jarvis.testutil.StudentBuilder;
+import jarvis.testutil.TaskBuilder;
+
+public class JournaledStorageTest {
+
+    private static final long LARGE_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() {
+        storageManager = new StorageManager(new JsonStudentBookStorage(getTempFilePath("sb")),
+                new JsonTaskBookStorage(getTempFilePath("tb")), new JsonLessonBookStorage(getTempFilePath("lb")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.resolve(fileName);
+    }
+
+    private JournaledStorage createJournaledStorage(long compactionThreshold) {
+        return new JournaledStorage(storageManager, getTempFilePath("journal"), compactionThreshold);
+    }
+
+    @Test
+    public void saveStudentBook_changesAfterFirstSave_onlyJournalWritten() throws Exception {
+        JournaledStorage journaledStorage = createJournaledStorage(LARGE_COMPACTION_THRESHOLD);
+        StudentBook studentBook = getTypicalStudentBook();
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.flush();
+        String snapshot = Files.readString(getTempFilePath("sb"), StandardCharsets.UTF_8);
+
+        studentBook.removeStudent(ALICE);
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.flush();
+
+        assertEquals(snapshot, Files.readString(getTempFilePath("sb"), StandardCharsets.UTF_8));
+        assertEquals(studentBook, new StudentBook(journaledStorage.readStudentBook().get()));
+    }
+
+    @Test
+    public void readStudentBook_afterRestart_changesReplayed() throws Exception {
+        JournaledStorage journaledStorage = createJournaledStorage(LARGE_COMPACTION_THRESHOLD);
+        StudentBook studentBook = getTypicalStudentBook();
+        journaledStorage.saveStudentBook(studentBook);
+        Student renamedBenson = new StudentBuilder(BENSON).withName("Zack Meier").build();
+        studentBook.setStudent(BENSON, renamedBenson);
+        studentBook.removeStudent(ALICE);
+        studentBook.addStudent(new StudentBuilder().build());
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.flush();
+
+        ReadOnlyStudentBook replayed = createJournaledStorage(LARGE_COMPACTION_THRESHOLD).readStudentBook().get();
+        assertEquals(studentBook.getStudentList(), replayed.getStudentList());
+        Student replayedBenson = new StudentBook(replayed).getStudent(BENSON.getMatricNum()).get();
+        assertEquals("Zack Meier", replayedBenson.getName().fullName);
+    }
+
+    @Test
+    public void readTaskBook_taskReordered_changesReplayed() throws Exception {
+        JournaledStorage journaledStorage = createJournaledStorage(LARGE_COMPACTION_THRESHOLD);
+        TaskBook taskBook = new TaskBook();
+        for (Task task : getTypicalTasks()) {
+            taskBook.addTask(new TaskBuilder(task).build());
+        }
+        journaledStorage.saveTaskBook(taskBook);
+        Task firstTask = taskBook.getTaskList().get(0);
+        Task doneTask = firstTask.copy();
+        doneTask.markAsDone();
+        taskBook.setTask(firstTask, doneTask);
+        journaledStorage.saveTaskBook(taskBook);
+        journaledStorage.flush();
+
+        assertEquals(taskBook.getTaskList(),
+                createJournaledStorage(LARGE_COMPACTION_THRESHOLD).readTaskBook().get().getTaskList());
+    }
+
+    @Test
+    public void readLessonBook_afterRestart_changesReplayedWithStudentsOfStudentBook() throws Exception {
+        JournaledStorage journaledStorage = createJournaledStorage(LARGE_COMPACTION_THRESHOLD);
+        Student amy = new StudentBuilder().build();
+        StudentBook studentBook = new StudentBook();
+        studentBook.addStudent(amy);
+        LessonBook lessonBook = new LessonBook();
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.saveLessonBook(lessonBook);
+        Consult consult = new Consult(new LessonDesc("Recursion"), TP1, List.of(amy));
+        consult.markAsPresent(amy);
+        lessonBook.addLesson(consult);
+        Student renamedAmy = new StudentBuilder(amy).withName("Amy Tan").build();
+        studentBook.setStudent(amy, renamedAmy);
+        lessonBook.setStudent(amy, renamedAmy);
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.saveLessonBook(lessonBook);
+        journaledStorage.flush();
+
+        JournaledStorage restartedStorage = createJournaledStorage(LARGE_COMPACTION_THRESHOLD);
+        ReadOnlyStudentBook replayedStudentBook = restartedStorage.readStudentBook().get();
+        ReadOnlyLessonBook replayedLessonBook = restartedStorage.readLessonBook(replayedStudentBook).get();
+        Lesson replayedConsult = replayedLessonBook.getLessonList().get(0);
+        Student replayedAmy = replayedStudentBook.getStudentList().get(0);
+        assertTrue(replayedConsult.getStudentList().get(0) == replayedAmy);
+        assertEquals("Amy Tan", replayedAmy.getName().fullName);
+        assertTrue(replayedConsult.getLessonAttendance().isPresent(replayedAmy));
+    }
+
+    @Test
+    public void saveStudentBook_journalExceedsThreshold_compactedIntoDataFile() throws Exception {
+        JournaledStorage journaledStorage = createJournaledStorage(1);
+        StudentBook studentBook = getTypicalStudentBook();
+        journaledStorage.saveStudentBook(studentBook);
+        studentBook.removeStudent(ALICE);
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.flush();
+
+        assertEquals(studentBook, new StudentBook(storageManager.readStudentBook().get()));
+        assertEquals(1, Files.readAllLines(getTempFilePath("journal")).size());
+    }
+
+    @Test
+    public void compact_journalWithChanges_changesFoldedIntoDataFile() throws Exception {
+        JournaledStorage journaledStorage = createJournaledStorage(LARGE_COMPACTION_THRESHOLD);
+        StudentBook studentBook = getTypicalStudentBook();
+        journaledStorage.saveStudentBook(studentBook);
+        studentBook.removeStudent(ALICE);
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.compact();
+
+        assertEquals(studentBook, new StudentBook(storageManager.readStudentBook().get()));
+    }
+
+    @Test
+    public void readStudentBook_incompleteLastRecord_recordIgnored() throws Exception {
+        JournaledStorage journaledStorage = createJournaledStorage(LARGE_COMPACTION_THRESHOLD);
+        StudentBook studentBook = getTypicalStudentBook();
+        journaledStorage.saveStudentBook(studentBook);
+        studentBook.removeStudent(ALICE);
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.flush();
+        Files.writeString(getTempFilePath("journal"), "{\"book\":\"STUDENT_BOOK\",\"from\":0,\"remo",
+                StandardOpenOption.APPEND);
+
+        JournaledStorage restartedStorage = createJournaledStorage(LARGE_COMPACTION_THRESHOLD);
+        assertEquals(studentBook, new StudentBook(restartedStorage.readStudentBook().get()));
+
+        // the incomplete record is removed before more records are written
+        StudentBook replayed = new StudentBook(restartedStorage.readStudentBook().get());
+        restartedStorage.saveStudentBook(replayed);
+        replayed.removeStudent(BENSON);
+        restartedStorage.saveStudentBook(replayed);
+        restartedStorage.flush();
+        assertEquals(replayed, new StudentBook(
+                createJournaledStorage(LARGE_COMPACTION_THRESHOLD).readStudentBook().get()));
+    }
+
+    @Test
+    public void readStudentBook_dataFileReplaced_journalIgnored() throws Exception {
+        JournaledStorage journaledStorage = createJournaledStorage(LARGE_COMPACTION_THRESHOLD);
+        StudentBook studentBook = getTypicalStudentBook();
+        journaledStorage.saveStudentBook(studentBook);
+        studentBook.removeStudent(ALICE);
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.flush();
+        StudentBook replacement = new StudentBook();
+        storageManager.saveStudentBook(replacement, getTempFilePath("sb"));
+
+        assertEquals(replacement,
+                new StudentBook(createJournaledStorage(LARGE_COMPACTION_THRESHOLD).readStudentBook().get()));
+    }
+
+    @Test
+    public void saveStudentBook_writeFails_errorHandlerNotifiedAndSnapshotSavedNext() throws Exception {
+        JournaledStorage journaledStorage = createJournaledStorage(LARGE_COMPACTION_THRESHOLD);
+        List<IOException> errors = new ArrayList<>();
+        journaledStorage.setAsyncErrorHandler(errors::add);
+        StudentBook studentBook = getTypicalStudentBook();
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.flush();
+        Path journalFile = getTempFilePath("journal");
+        Files.delete(journalFile);
+        Files.createDirectories(journalFile);
+
+        studentBook.removeStudent(ALICE);
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.flush();
+        assertEquals(1, errors.size());
+
+        Files.delete(journalFile);
+        studentBook.removeStudent(BENSON);
+        journaledStorage.saveStudentBook(studentBook);
+        journaledStorage.flush();
+        assertEquals(1, errors.size());
+        assertFalse(Files.isDirectory(journalFile));
+        assertEquals(studentBook, new StudentBook(storageManager.readStudentBook().get()));
+    }
+}
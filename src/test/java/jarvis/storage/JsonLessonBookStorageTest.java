@@ -5,6 +5,7 @@ import static jarvis.testutil.TypicalLessons.CONSULT_1;
 import static jarvis.testutil.TypicalLessons.MC_1;
 import static jarvis.testutil.TypicalLessons.STUDIO_1;
 import static jarvis.testutil.TypicalLessons.getTypicalLessonBook;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -31,7 +32,8 @@ public class JsonLessonBookStorageTest {
     }
 
     private java.util.Optional<ReadOnlyLessonBook> readLessonBook(String filePath) throws Exception {
-        return new JsonLessonBookStorage(Paths.get(filePath)).readLessonBook(addToTestDataPathIfNotNull(filePath));
+        return new JsonLessonBookStorage(Paths.get(filePath)).readLessonBook(addToTestDataPathIfNotNull(filePath),
+                getTypicalStudentBook());
     }
 
     private Path addToTestDataPathIfNotNull(String prefsFileInTestDataFolder) {
@@ -68,20 +70,20 @@ public class JsonLessonBookStorageTest {
 
         // Save in new file and read back
         jsonLessonBookStorage.saveLessonBook(original, filePath);
-        ReadOnlyLessonBook readBack = jsonLessonBookStorage.readLessonBook(filePath).get();
+        ReadOnlyLessonBook readBack = jsonLessonBookStorage.readLessonBook(filePath, getTypicalStudentBook()).get();
         assertEquals(original, new LessonBook(readBack));
 
         // Modify data, overwrite exiting file, and read back
         original.removeLesson(MC_1);
         original.removeLesson(STUDIO_1);
         jsonLessonBookStorage.saveLessonBook(original, filePath);
-        readBack = jsonLessonBookStorage.readLessonBook(filePath).get();
+        readBack = jsonLessonBookStorage.readLessonBook(filePath, getTypicalStudentBook()).get();
         assertEquals(original, new LessonBook(readBack));
 
         // Save and read without specifying file path
         original.removeLesson(CONSULT_1);
         jsonLessonBookStorage.saveLessonBook(original); // file path not specified
-        readBack = jsonLessonBookStorage.readLessonBook().get(); // file path not specified
+        readBack = jsonLessonBookStorage.readLessonBook(getTypicalStudentBook()).get(); // file path not specified
         assertEquals(original, new LessonBook(readBack));
 
     }
@@ -1,7 +1,9 @@
 package jarvis.storage;
 
 import static jarvis.testutil.Assert.assertThrows;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -9,7 +11,10 @@ import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
 
 import jarvis.commons.util.JsonUtil;
+import jarvis.model.Lesson;
 import jarvis.model.LessonBook;
+import jarvis.model.Student;
+import jarvis.model.StudentBook;
 import jarvis.model.exceptions.LessonClashException;
 import jarvis.testutil.TypicalLessons;
 
@@ -24,16 +29,36 @@ public class JsonSerializableLessonBookTest {
     public void toModelType_typicalLessonsFile_success() throws Exception {
         JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_LESSONS_FILE,
                 JsonSerializableLessonBook.class).get();
-        LessonBook lessonBookFromFile = dataFromFile.toModelType();
+        LessonBook lessonBookFromFile = dataFromFile.toModelType(getTypicalStudentBook());
         LessonBook typicalPersonsLessonBook = TypicalLessons.getTypicalLessonBook();
         assertEquals(lessonBookFromFile, typicalPersonsLessonBook);
     }
 
+    @Test
+    public void toModelType_savedLessonBook_studentsResolvedFromStudentBook() throws Exception {
+        LessonBook typicalLessonBook = TypicalLessons.getTypicalLessonBook();
+        StudentBook studentBook = getTypicalStudentBook();
+        JsonSerializableLessonBook dataFromFile = JsonUtil.fromJsonString(
+                JsonUtil.toJsonString(new JsonSerializableLessonBook(typicalLessonBook)),
+                JsonSerializableLessonBook.class);
+
+        LessonBook lessonBookFromFile = dataFromFile.toModelType(studentBook);
+        assertEquals(typicalLessonBook, lessonBookFromFile);
+        for (Lesson lesson : lessonBookFromFile.getLessonList()) {
+            for (Student student : lesson.getStudentList()) {
+                assertTrue(studentBook.getStudentList().stream().anyMatch(s -> s == student));
+            }
+        }
+
+        // students no longer in the student book are restored from the names kept in the file
+        assertEquals(typicalLessonBook, dataFromFile.toModelType(new StudentBook()));
+    }
+
     @Test
     public void toModelType_invalidLessonFile_throwsIllegalArgumentException() throws Exception {
         JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(INVALID_LESSON_FILE,
                 JsonSerializableLessonBook.class).get();
-        assertThrows(IllegalArgumentException.class, dataFromFile::toModelType);
+        assertThrows(IllegalArgumentException.class, () -> dataFromFile.toModelType(getTypicalStudentBook()));
     }
 
     @Test
@@ -41,7 +66,7 @@ public class JsonSerializableLessonBookTest {
         JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(CLASHING_LESSON_FILE,
                 JsonSerializableLessonBook.class).get();
         assertThrows(LessonClashException.class, LessonClashException.MESSAGE,
-                dataFromFile::toModelType);
+                () -> dataFromFile.toModelType(getTypicalStudentBook()));
     }
 
 }
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import jarvis.commons.exceptions.IllegalValueException;
 import jarvis.commons.util.JsonUtil;
 import jarvis.model.StudentBook;
+import jarvis.model.util.SampleDataGenerator;
 import jarvis.testutil.TypicalStudents;
 
 public class JsonSerializableStudentBookTest {
@@ -29,6 +30,13 @@ public class JsonSerializableStudentBookTest {
         assertEquals(studentBookFromFile, typicalPersonsStudentBook);
     }
 
+    @Test
+    public void toModelType_moreThanMaxStudents_success() throws Exception {
+        StudentBook studentBook = new SampleDataGenerator(0).withStudents(StudentBook.MAX_STUDENTS + 1)
+                .generateStudentBook();
+        assertEquals(studentBook, new JsonSerializableStudentBook(studentBook).toModelType());
+    }
+
     @Test
     public void toModelType_invalidStudentFile_throwsIllegalArgumentException() throws Exception {
         JsonSerializableStudentBook dataFromFile = JsonUtil.readJsonFile(INVALID_STUDENT_FILE,
@@ -1,9 +1,12 @@
 package jarvis.storage;
 
+import static jarvis.testutil.TypicalStudents.ALICE;
 import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +65,22 @@ public class StorageManagerTest {
         assertEquals(original, new StudentBook(retrieved));
     }
 
+    @Test
+    public void saveStudentBook_unchangedSinceLastSave_skipsWrite() throws Exception {
+        StudentBook original = getTypicalStudentBook();
+        storageManager.saveStudentBook(original);
+        Files.delete(storageManager.getStudentBookFilePath());
+
+        // same book with no modifications is not written again
+        storageManager.saveStudentBook(original);
+        assertFalse(Files.exists(storageManager.getStudentBookFilePath()));
+
+        // a modification causes the book to be written again
+        original.removeStudent(ALICE);
+        storageManager.saveStudentBook(original);
+        assertEquals(original, new StudentBook(storageManager.readStudentBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getStudentBookFilePath());
@@ -0,0 +1,101 @@
+package jarvis.ui;
+
+import static jarvis.testutil.TypicalLessons.TP1;
+import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jarvis.model.Consult;
+import jarvis.model.LessonDesc;
+import jarvis.model.Student;
+import jarvis.model.Studio;
+import jarvis.testutil.StudentBuilder;
+
+public class RosterRowTest {
+
+    private final Studio studio = new Studio(new LessonDesc("Studio 1"), TP1, List.of(ALICE, BENSON));
+
+    @Test
+    public void of_studio_detailsOfStudent() {
+        studio.markAsPresent(ALICE);
+        studio.setParticipationForStudent(ALICE, 100);
+        RosterRow row = RosterRow.of(studio, ALICE, 1, null);
+
+        assertEquals(1, row.getIndex());
+        assertEquals(ALICE.getName().fullName, row.getName());
+        assertEquals("Present", row.getAttendance());
+        assertEquals(Integer.valueOf(100), row.getParticipation());
+        assertEquals("", row.getNotesText());
+    }
+
+    @Test
+    public void of_notStudio_noParticipation() {
+        Consult consult = new Consult(new LessonDesc("Recursion"), TP1, List.of(ALICE));
+        assertNull(RosterRow.of(consult, ALICE, 1, null).getParticipation());
+    }
+
+    @Test
+    public void of_detailsUnchanged_previousRowReusedWithNewIndex() {
+        RosterRow previousRow = RosterRow.of(studio, BENSON, 2, null);
+        Studio copy = studio.copy();
+        copy.markAsPresent(ALICE);
+
+        RosterRow row = RosterRow.of(copy, BENSON, 1, previousRow);
+        assertSame(previousRow, row);
+        assertEquals(1, row.getIndex());
+    }
+
+    @Test
+    public void of_detailsChanged_newRow() {
+        RosterRow previousRow = RosterRow.of(studio, ALICE, 1, null);
+
+        Studio markedCopy = studio.copy();
+        markedCopy.markAsPresent(ALICE);
+        assertNotSame(previousRow, RosterRow.of(markedCopy, ALICE, 1, previousRow));
+
+        Studio participatedCopy = studio.copy();
+        participatedCopy.setParticipationForStudent(ALICE, 200);
+        assertNotSame(previousRow, RosterRow.of(participatedCopy, ALICE, 1, previousRow));
+
+        Studio notedCopy = studio.copy();
+        notedCopy.addStudentNote("Asked about streams", ALICE);
+        assertNotSame(previousRow, RosterRow.of(notedCopy, ALICE, 1, previousRow));
+
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        Studio editedCopy = studio.copy();
+        editedCopy.setStudent(ALICE, editedAlice);
+        assertNotSame(previousRow, RosterRow.of(editedCopy, editedAlice, 1, previousRow));
+    }
+
+    @Test
+    public void getNotesText_collapsedAndExpanded() {
+        studio.addStudentNote("Asked about streams", ALICE);
+        studio.addStudentNote("Late", ALICE);
+        RosterRow row = RosterRow.of(studio, ALICE, 1, null);
+
+        assertEquals("1. Asked about streams (+1 more)", row.getNotesText());
+        row.toggleNotesExpanded();
+        assertEquals("1. Asked about streams\n2. Late\n", row.getNotesText());
+        row.toggleNotesExpanded();
+        assertEquals("1. Asked about streams (+1 more)", row.getNotesText());
+    }
+
+    @Test
+    public void toggleNotesExpanded_singleNote_staysCollapsed() {
+        studio.addStudentNote("Late", ALICE);
+        RosterRow row = RosterRow.of(studio, ALICE, 1, null);
+
+        assertFalse(row.hasMoreNotes());
+        row.toggleNotesExpanded();
+        assertFalse(row.isNotesExpanded());
+        assertEquals("1. Late", row.getNotesText());
+    }
+}